@@ -0,0 +1,23 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.ChaCha20Random;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * The benchmark for {@link ChaCha20Random}.
+ */
+public class ChaCha20RandomBenchmark
+    extends AbstractRandomBenchmarkWithReseeding<ChaCha20Random> {
+
+  /**
+   * The number of rounds.
+   */
+  @Param({"8", "12", "20"}) public int rounds;
+
+  @Override protected ChaCha20Random createPrng() throws SeedException {
+    return new ChaCha20Random(DEFAULT_INSTANCE.generateSeed(32), rounds);
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.ChaCha20Random;
+import io.github.pr0methean.betterrandom.prng.CipherCounterRandom;
+import io.github.pr0methean.betterrandom.prng.Philox4x32Random;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link ChaCha20Random} and {@link Philox4x32Random} with {@link AesCounterRandom}, both
+ * for single values and for {@link CipherCounterRandom#nextBytes(byte[])} with a large array, where
+ * the cipher dominates. The results are reported but not checked, since the point is the
+ * comparison.
+ */
+public class CipherComparisonBenchmark extends AbstractRandomBenchmark<CipherCounterRandom> {
+
+  private static final int BYTES_LENGTH = 1 << 12;
+
+  /**
+   * The cipher and its key size or number of rounds.
+   */
+  @Param({"AES-128", "AES-256", "ChaCha8", "ChaCha12", "ChaCha20", "Philox4x32"})
+  public String cipher;
+
+  private byte[] bytes;
+
+  @Override protected CipherCounterRandom createPrng() throws SeedException {
+    switch (cipher) {
+      case "AES-128":
+        return new AesCounterRandom(DEFAULT_INSTANCE.generateSeed(16));
+      case "AES-256":
+        return new AesCounterRandom(DEFAULT_INSTANCE.generateSeed(32));
+      case "ChaCha8":
+        return new ChaCha20Random(DEFAULT_INSTANCE.generateSeed(32), 8);
+      case "ChaCha12":
+        return new ChaCha20Random(DEFAULT_INSTANCE.generateSeed(32), 12);
+      case "ChaCha20":
+        return new ChaCha20Random(DEFAULT_INSTANCE.generateSeed(32));
+      case "Philox4x32":
+        return new Philox4x32Random(DEFAULT_INSTANCE.generateSeed(24));
+      default:
+        throw new IllegalArgumentException("Unknown cipher " + cipher);
+    }
+  }
+
+  @Setup(Level.Trial) public void setUpBytes() {
+    bytes = new byte[BYTES_LENGTH];
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testNextBytes(Blackhole blackhole) {
+    prng.nextBytes(bytes);
+    blackhole.consume(bytes);
+  }
+}
@@ -0,0 +1,152 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.distribution.BetaDistribution;
+import io.github.pr0methean.betterrandom.distribution.BinomialDistribution;
+import io.github.pr0methean.betterrandom.distribution.ExponentialDistribution;
+import io.github.pr0methean.betterrandom.distribution.GammaDistribution;
+import io.github.pr0methean.betterrandom.distribution.PoissonDistribution;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for the samplers in {@link io.github.pr0methean.betterrandom.distribution}, all driven
+ * by a {@link Pcg64Random}. {@link #testExponentialInverseCdf(Blackhole)} is the naive approach
+ * that the ziggurat sampler replaces, for comparison.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class DistributionBenchmark {
+
+  static final int BULK_SIZE = 1 << 10;
+  private static final double RATE = 1.5;
+
+  private Pcg64Random prng;
+  private ExponentialDistribution exponential;
+  private GammaDistribution gamma;
+  private GammaDistribution gammaSmallShape;
+  private BetaDistribution beta;
+  private PoissonDistribution poissonSmallMean;
+  private PoissonDistribution poisson;
+  private BinomialDistribution binomialFewTrials;
+  private BinomialDistribution binomial;
+  private double[] doubleBuffer;
+  private int[] intBuffer;
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = new Pcg64Random(SecureRandomSeedGenerator.DEFAULT_INSTANCE);
+    exponential = new ExponentialDistribution(RATE);
+    gamma = new GammaDistribution(2.5, 1.0);
+    gammaSmallShape = new GammaDistribution(0.5, 1.0);
+    beta = new BetaDistribution(2.0, 5.0);
+    poissonSmallMean = new PoissonDistribution(3.0);
+    poisson = new PoissonDistribution(1000.0);
+    binomialFewTrials = new BinomialDistribution(20, 0.3);
+    binomial = new BinomialDistribution(10_000, 0.3);
+    doubleBuffer = new double[BULK_SIZE];
+    intBuffer = new int[BULK_SIZE];
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testExponential(Blackhole blackhole) {
+    blackhole.consume(exponential.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testExponentialInverseCdf(Blackhole blackhole) {
+    blackhole.consume(-StrictMath.log1p(-prng.nextDouble()) / RATE);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @OperationsPerInvocation(BULK_SIZE)
+  @Benchmark public void testExponentialBulk(Blackhole blackhole) {
+    exponential.sample(prng, doubleBuffer);
+    blackhole.consume(doubleBuffer);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testGamma(Blackhole blackhole) {
+    blackhole.consume(gamma.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testGammaSmallShape(Blackhole blackhole) {
+    blackhole.consume(gammaSmallShape.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testBeta(Blackhole blackhole) {
+    blackhole.consume(beta.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testPoissonSmallMean(Blackhole blackhole) {
+    blackhole.consume(poissonSmallMean.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testPoisson(Blackhole blackhole) {
+    blackhole.consume(poisson.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @OperationsPerInvocation(BULK_SIZE)
+  @Benchmark public void testPoissonBulk(Blackhole blackhole) {
+    poisson.sample(prng, intBuffer);
+    blackhole.consume(intBuffer);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testBinomialFewTrials(Blackhole blackhole) {
+    blackhole.consume(binomialFewTrials.sample(prng));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testBinomial(Blackhole blackhole) {
+    blackhole.consume(binomial.sample(prng));
+  }
+}
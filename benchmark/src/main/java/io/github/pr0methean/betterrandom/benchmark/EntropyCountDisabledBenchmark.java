@@ -0,0 +1,75 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Cmwc4096Random;
+import io.github.pr0methean.betterrandom.prng.MersenneTwisterRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg128Random;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.prng.XorShiftRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for each PRNG with and without
+ * {@link BaseRandom#setEntropyCountDisabled(boolean) entropy counting}, to show what the
+ * accounting costs. The results are reported but not checked, since the point is the difference
+ * between the two modes.
+ */
+public class EntropyCountDisabledBenchmark extends AbstractRandomBenchmark<BaseRandom> {
+
+  /**
+   * Simple name of the PRNG class.
+   */
+  @Param({"AesCounterRandom", "Cmwc4096Random", "MersenneTwisterRandom", "Pcg64Random",
+      "Pcg128Random", "XorShiftRandom"}) public String prngClass;
+
+  /**
+   * Whether the entropy count is disabled.
+   */
+  @Param({"false", "true"}) public boolean entropyCountDisabled;
+
+  @Override protected BaseRandom createPrng() throws SeedException {
+    final BaseRandom prng;
+    switch (prngClass) {
+      case "AesCounterRandom":
+        prng = new AesCounterRandom(DEFAULT_INSTANCE);
+        break;
+      case "Cmwc4096Random":
+        prng = new Cmwc4096Random(DEFAULT_INSTANCE);
+        break;
+      case "MersenneTwisterRandom":
+        prng = new MersenneTwisterRandom(DEFAULT_INSTANCE);
+        break;
+      case "Pcg64Random":
+        prng = new Pcg64Random(DEFAULT_INSTANCE);
+        break;
+      case "Pcg128Random":
+        prng = new Pcg128Random(DEFAULT_INSTANCE);
+        break;
+      case "XorShiftRandom":
+        prng = new XorShiftRandom(DEFAULT_INSTANCE);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown PRNG class " + prngClass);
+    }
+    prng.setEntropyCountDisabled(entropyCountDisabled);
+    return prng;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testNextBoolean(Blackhole blackhole) {
+    blackhole.consume(prng.nextBoolean());
+  }
+}
@@ -2,7 +2,9 @@ package io.github.pr0methean.betterrandom.benchmark;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Method;
 import java.util.Collection;
+import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
@@ -22,9 +24,20 @@ public class Main {
     ImmutableMap.Builder<String, Double> builder =
         zeroMinimumsFor(VanillaJavaRandomBenchmark.class,
             ZRandomWrapperSecureRandomBenchmark.class,
-            ZVanillaJavaSecureRandomBenchmark.class);
+            ZVanillaJavaSecureRandomBenchmark.class,
+            EntropyCountDisabledBenchmark.class,
+            CipherComparisonBenchmark.class);
     setMinimumNextInt(builder, AesCounterRandomBenchmark.class, 8e6);
     setMinimumNextLong(builder, AesCounterRandomBenchmark.class, 4e6);
+    // Report-only until measured on CI
+    setMinimumNextInt(builder, ChaCha20RandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, ChaCha20RandomBenchmark.class, 0.0);
+    // Report-only until measured on CI
+    setMinimumNextInt(builder, Philox4x32RandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, Philox4x32RandomBenchmark.class, 0.0);
+    setMinimum(builder, Philox4x32RandomBenchmark.class, ".testGenerate", 0.0);
+    setMinimumNextInt(builder, StripedEntropyAesCounterRandomBenchmark.class, 8e6);
+    setMinimumNextLong(builder, StripedEntropyAesCounterRandomBenchmark.class, 4e6);
     setMinimumNextLong(builder, Cmwc4096RandomBenchmark.class, 5.9e6);
     setMinimumNextLong(builder, MersenneTwisterRandomBenchmark.class, 6.8e6);
     setMinimumNextInt(builder, Pcg64RandomBenchmark.class, 3.5e7);
@@ -37,13 +50,31 @@ public class Main {
     setMinimumNextInt(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 8.5e6);
     setMinimumNextLong(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 4.4e6);
     setMinimumNextLong(builder, XorShiftRandomBenchmark.class, 7.5e6);
+    // Report-only until measured on CI
+    setMinimumNextInt(builder, Xoroshiro128PlusPlusRandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, Xoroshiro128PlusPlusRandomBenchmark.class, 0.0);
+    setMinimumNextInt(builder, Xoshiro256StarStarRandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, Xoshiro256StarStarRandomBenchmark.class, 0.0);
+    zeroMinimumsForDistributions(builder);
+    setMinimum(builder, EntropyCountDisabledBenchmark.class, ".testNextBoolean", 0.0);
+    setMinimum(builder, CipherComparisonBenchmark.class, ".testNextBytes", 0.0);
     listBuilder.add(builder.build());
 
     builder = Main
         .zeroMinimumsFor(VanillaJavaRandomBenchmark.class,
             ZRandomWrapperSecureRandomBenchmark.class,
-            ZVanillaJavaSecureRandomBenchmark.class);
+            ZVanillaJavaSecureRandomBenchmark.class,
+            EntropyCountDisabledBenchmark.class,
+            CipherComparisonBenchmark.class);
     setMinimumNextLong(builder, AesCounterRandomBenchmark.class, 2.6e6);
+    // Report-only until measured on CI
+    setMinimumNextInt(builder, ChaCha20RandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, ChaCha20RandomBenchmark.class, 0.0);
+    // Report-only until measured on CI
+    setMinimumNextInt(builder, Philox4x32RandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, Philox4x32RandomBenchmark.class, 0.0);
+    setMinimum(builder, Philox4x32RandomBenchmark.class, ".testGenerate", 0.0);
+    setMinimumNextLong(builder, StripedEntropyAesCounterRandomBenchmark.class, 2.6e6);
     setMinimumNextInt(builder, Cmwc4096RandomBenchmark.class, 3.4e6);
     setMinimumNextLong(builder, Cmwc4096RandomBenchmark.class, 2.6e6);
     setMinimumNextInt(builder, MersenneTwisterRandomBenchmark.class, 3.5e6);
@@ -57,6 +88,14 @@ public class Main {
     setMinimumNextLong(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 3e6);
     setMinimumNextInt(builder, XorShiftRandomBenchmark.class, 3.4e6);
     setMinimumNextLong(builder, XorShiftRandomBenchmark.class, 2.5e6);
+    // Report-only until measured on CI
+    setMinimumNextInt(builder, Xoroshiro128PlusPlusRandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, Xoroshiro128PlusPlusRandomBenchmark.class, 0.0);
+    setMinimumNextInt(builder, Xoshiro256StarStarRandomBenchmark.class, 0.0);
+    setMinimumNextLong(builder, Xoshiro256StarStarRandomBenchmark.class, 0.0);
+    zeroMinimumsForDistributions(builder);
+    setMinimum(builder, EntropyCountDisabledBenchmark.class, ".testNextBoolean", 0.0);
+    setMinimum(builder, CipherComparisonBenchmark.class, ".testNextBytes", 0.0);
     listBuilder.add(builder.build());
     MINIMUM_OPS = listBuilder.build();
   }
@@ -72,9 +111,20 @@ public class Main {
   }
 
   private static void setMinimum(ImmutableMap.Builder<String, Double> builder,
-      Class<? extends AbstractRandomBenchmark<?>> aesCounterRandomBenchmarkClass, String suffix,
-      double minimum) {
-    builder.put(aesCounterRandomBenchmarkClass.getName() + suffix, minimum);
+      Class<?> benchmarkClass, String suffix, double minimum) {
+    builder.put(benchmarkClass.getName() + suffix, minimum);
+  }
+
+  /**
+   * The {@link DistributionBenchmark} results depend on the parameters as much as on the hardware,
+   * so they're reported but not checked.
+   */
+  static void zeroMinimumsForDistributions(ImmutableMap.Builder<String, Double> builder) {
+    for (Method method : DistributionBenchmark.class.getDeclaredMethods()) {
+      if (method.isAnnotationPresent(Benchmark.class)) {
+        setMinimum(builder, DistributionBenchmark.class, "." + method.getName(), 0.0);
+      }
+    }
   }
 
   @SafeVarargs static ImmutableMap.Builder<String, Double> zeroMinimumsFor(
@@ -119,8 +169,11 @@ public class Main {
                 : DEFAULT_MINIMUM_OPS_PER_SEC_LONG_1_THREAD;
             break;
           default:
-            throw new AssertionError(
-                "No minimum throughput specified for " + name);
+            if (!MINIMUM_OPS.get(nThreads - 1).containsKey(name)) {
+              throw new AssertionError(
+                  "No minimum throughput specified for " + name);
+            }
+            defaultMinimum = 0.0;
         }
         double minimum = MINIMUM_OPS.get(nThreads - 1).getOrDefault(name, defaultMinimum);
         double score = runResult.getAggregatedResult().getPrimaryResult().getScore();
@@ -0,0 +1,47 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.Philox4x32Random;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The benchmark for {@link Philox4x32Random}, including
+ * {@link Philox4x32Random#generate(long, long, long[])}, which needs no instance or lock.
+ */
+public class Philox4x32RandomBenchmark
+    extends AbstractRandomBenchmarkWithReseeding<Philox4x32Random> {
+
+  /**
+   * The key and counter for {@link #testGenerate(GenerateState, Blackhole)}, which each thread
+   * has its own copy of.
+   */
+  @State(Scope.Thread) public static class GenerateState {
+    final long key = BinaryUtils.convertBytesToLong(DEFAULT_INSTANCE.generateSeed(8), 0);
+    final long[] block = new long[2];
+    long counter;
+  }
+
+  @Override protected Philox4x32Random createPrng() throws SeedException {
+    return new Philox4x32Random(DEFAULT_INSTANCE.generateSeed(24));
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @EntryPoint
+  @Benchmark public void testGenerate(GenerateState state, Blackhole blackhole) {
+    Philox4x32Random.generate(state.key, state.counter++, state.block);
+    blackhole.consume(state.block[0]);
+    blackhole.consume(state.block[1]);
+  }
+}
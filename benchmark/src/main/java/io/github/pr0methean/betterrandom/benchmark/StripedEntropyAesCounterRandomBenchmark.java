@@ -0,0 +1,27 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmark for an {@link AesCounterRandom} shared by all the benchmark threads, with and without
+ * {@link BaseRandom#setEntropyCountStriped(boolean) striped entropy counting}. The difference only
+ * shows up with several threads; run with e.g. {@code -t 32} to see how each mode scales.
+ */
+public class StripedEntropyAesCounterRandomBenchmark
+    extends AbstractRandomBenchmarkWithReseeding<AesCounterRandom> {
+
+  /**
+   * Whether the entropy count is striped.
+   */
+  @Param({"false", "true"}) public boolean stripedEntropyCount;
+
+  @Override protected AesCounterRandom createPrng() throws SeedException {
+    final AesCounterRandom prng = new AesCounterRandom(SecureRandomSeedGenerator.DEFAULT_INSTANCE);
+    prng.setEntropyCountStriped(stripedEntropyCount);
+    return prng;
+  }
+}
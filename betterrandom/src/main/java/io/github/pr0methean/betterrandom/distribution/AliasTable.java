@@ -0,0 +1,186 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * <p>Immutable table for choosing indices with given relative weights in constant time, built in
+ * linear time by Vose's alias method (Vose, "A linear algorithm for generating random numbers with
+ * a given distribution", IEEE Transactions on Software Engineering, 1991).</p>
+ *
+ * <p>Each sample takes one {@link BaseRandom#nextLong()} output: the upper 32 bits choose a column
+ * of the table, by Lemire's multiply-shift method with the rejection threshold precomputed (so no
+ * division is ever needed), and the lower 32 bits choose between the column's own index and its
+ * alias. The probability of keeping the column is stored as a 32-bit fixed-point fraction, so the
+ * probability of each index is exact to within 2<sup>-32</sup>.</p>
+ *
+ * @author Chris Hennick
+ */
+public final class AliasTable {
+
+  private static final long UNSIGNED_INT_TO_LONG_MASK = (1L << Integer.SIZE) - 1;
+  private static final double FIXED_POINT_ONE = 1L << Integer.SIZE;
+  private static final int BULK_BUFFER_SIZE = 1 << 12;
+
+  private final int size;
+  /**
+   * For each column, the lower 32 bits of a sample must be below this (as an unsigned value) for
+   * the column's own index to be chosen rather than its alias.
+   */
+  private final long[] keepBelow;
+  private final int[] alias;
+  /**
+   * 2<sup>32</sup> mod {@link #size}. Candidates whose product with the size has lower 32 bits
+   * below this are over-represented and must be rejected.
+   */
+  private final long rejectBelow;
+
+  /**
+   * Builds a table that chooses each index with probability proportional to its weight.
+   *
+   * @param weights the relative weight of each index; must be finite and non-negative, and must
+   *     not all be zero
+   * @throws IllegalArgumentException if {@code weights} is empty, contains a negative, infinite
+   *     or NaN weight, or has a sum that's zero or infinite
+   */
+  public AliasTable(final double[] weights) {
+    size = weights.length;
+    if (size == 0) {
+      throw new IllegalArgumentException("Need at least one weight");
+    }
+    double sum = 0;
+    for (final double weight : weights) {
+      if (!(weight >= 0) || Double.isInfinite(weight)) {
+        throw new IllegalArgumentException("Weights must be finite and non-negative, but got "
+            + weight);
+      }
+      sum += weight;
+    }
+    if (!(sum > 0) || Double.isInfinite(sum)) {
+      throw new IllegalArgumentException("Sum of weights must be positive and finite, but got "
+          + sum);
+    }
+    // Scale so that the average weight is 1
+    final double[] scaled = new double[size];
+    final int[] small = new int[size];
+    final int[] large = new int[size];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < size; i++) {
+      scaled[i] = (weights[i] * size) / sum;
+      if (scaled[i] < 1.0) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+    final double[] keepProbability = new double[size];
+    alias = new int[size];
+    while ((smallCount > 0) && (largeCount > 0)) {
+      final int less = small[--smallCount];
+      final int more = large[--largeCount];
+      keepProbability[less] = scaled[less];
+      alias[less] = more;
+      // Subtracting the deficit is more numerically stable than adding and then subtracting 1
+      scaled[more] -= 1.0 - scaled[less];
+      if (scaled[more] < 1.0) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    // Whatever remains has probability 1, give or take rounding error
+    while (largeCount > 0) {
+      final int index = large[--largeCount];
+      keepProbability[index] = 1.0;
+      alias[index] = index;
+    }
+    while (smallCount > 0) {
+      final int index = small[--smallCount];
+      keepProbability[index] = 1.0;
+      alias[index] = index;
+    }
+    keepBelow = new long[size];
+    for (int i = 0; i < size; i++) {
+      keepBelow[i] =
+          (long) Math.min(FIXED_POINT_ONE, Math.rint(keepProbability[i] * FIXED_POINT_ONE));
+    }
+    rejectBelow = ((1L << Integer.SIZE) - size) % size;
+  }
+
+  /**
+   * Returns the number of indices (i.e. the number of weights this table was built from).
+   *
+   * @return the number of indices
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Chooses an index at random, with probability proportional to its weight.
+   *
+   * @param random the source of randomness
+   * @return an index between 0 (inclusive) and {@link #size()} (exclusive)
+   */
+  public int sample(final BaseRandom random) {
+    return indexFor(random.nextLong(), random);
+  }
+
+  /**
+   * Fills the given array with indices chosen independently at random, each with probability
+   * proportional to its weight. Takes the {@link BaseRandom}'s lock and debits its entropy only
+   * once per 4096 indices, by drawing their {@code long}s with
+   * {@link BaseRandom#nextLongs(long[], int, int)}.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   */
+  public void sample(final BaseRandom random, final int[] out) {
+    sample(random, out, 0, out.length);
+  }
+
+  /**
+   * Fills part of the given array with indices chosen independently at random, each with
+   * probability proportional to its weight. Takes the {@link BaseRandom}'s lock and debits its
+   * entropy only once per 4096 indices, by drawing their {@code long}s with
+   * {@link BaseRandom#nextLongs(long[], int, int)}.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code out}
+   */
+  public void sample(final BaseRandom random, final int[] out, final int off, final int len) {
+    BufferedLongSupplier.checkRange(out.length, off, len);
+    final long[] bits = new long[Math.min(len, BULK_BUFFER_SIZE)];
+    int done = 0;
+    while (done < len) {
+      final int batch = Math.min(bits.length, len - done);
+      random.nextLongs(bits, 0, batch);
+      for (int i = 0; i < batch; i++) {
+        out[off + done + i] = indexFor(bits[i], random);
+      }
+      done += batch;
+    }
+  }
+
+  /**
+   * Maps a pseudorandom {@code long} to an index, drawing more from {@code random} in the rare
+   * case where the column it chooses must be rejected.
+   *
+   * @param bits a pseudorandom {@code long}
+   * @param random the source of replacements for rejected candidates
+   * @return an index between 0 (inclusive) and {@link #size()} (exclusive)
+   */
+  private int indexFor(long bits, final BaseRandom random) {
+    long product = (bits >>> Integer.SIZE) * size;
+    while ((product & UNSIGNED_INT_TO_LONG_MASK) < rejectBelow) {
+      bits = random.nextLong();
+      product = (bits >>> Integer.SIZE) * size;
+    }
+    final int column = (int) (product >>> Integer.SIZE);
+    return ((bits & UNSIGNED_INT_TO_LONG_MASK) < keepBelow[column]) ? column : alias[column];
+  }
+}
@@ -0,0 +1,90 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Beta distribution. When either parameter is greater than 1, a sample is {@code X / (X + Y)}
+ * where X and Y are gamma variates from {@link GammaDistribution}; otherwise, J&ouml;hnk's
+ * algorithm is used, since it needs no gamma variates and is efficient when both parameters are
+ * small.
+ *
+ * @author Chris Hennick
+ */
+public final class BetaDistribution extends ContinuousDistribution {
+
+  private final double alpha;
+  private final double beta;
+  private final GammaDistribution alphaGamma;
+  private final GammaDistribution betaGamma;
+  private final boolean useJohnk;
+  private final double inverseAlpha;
+  private final double inverseBeta;
+
+  /**
+   * Creates an instance.
+   *
+   * @param alpha the first shape parameter; must be positive and finite
+   * @param beta the second shape parameter; must be positive and finite
+   * @throws IllegalArgumentException if either parameter isn't positive and finite
+   */
+  public BetaDistribution(final double alpha, final double beta) {
+    GammaDistribution.checkShape(alpha);
+    GammaDistribution.checkShape(beta);
+    this.alpha = alpha;
+    this.beta = beta;
+    alphaGamma = new GammaDistribution(alpha, 1.0);
+    betaGamma = new GammaDistribution(beta, 1.0);
+    useJohnk = (alpha <= 1) && (beta <= 1);
+    inverseAlpha = 1.0 / alpha;
+    inverseBeta = 1.0 / beta;
+  }
+
+  /**
+   * Returns the first shape parameter.
+   *
+   * @return alpha
+   */
+  public double getAlpha() {
+    return alpha;
+  }
+
+  /**
+   * Returns the second shape parameter.
+   *
+   * @return beta
+   */
+  public double getBeta() {
+    return beta;
+  }
+
+  @Override public double sample(final LongSupplier bits) {
+    if (useJohnk) {
+      return johnk(bits);
+    }
+    final double x = alphaGamma.sampleUnitScale(bits);
+    final double y = betaGamma.sampleUnitScale(bits);
+    return x / (x + y);
+  }
+
+  private double johnk(final LongSupplier bits) {
+    while (true) {
+      final double u = BufferedLongSupplier.nextOpenUnit(bits);
+      final double v = BufferedLongSupplier.nextOpenUnit(bits);
+      final double x = StrictMath.pow(u, inverseAlpha);
+      final double y = StrictMath.pow(v, inverseBeta);
+      final double sum = x + y;
+      if (sum <= 1.0) {
+        if (sum > 0) {
+          return x / sum;
+        }
+        // Both powers underflowed, so redo the division in log space
+        double logX = StrictMath.log(u) * inverseAlpha;
+        double logY = StrictMath.log(v) * inverseBeta;
+        final double logMax = Math.max(logX, logY);
+        logX -= logMax;
+        logY -= logMax;
+        return StrictMath.exp(logX - StrictMath.log(StrictMath.exp(logX) + StrictMath.exp(logY)));
+      }
+    }
+  }
+}
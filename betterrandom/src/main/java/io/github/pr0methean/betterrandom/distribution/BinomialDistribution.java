@@ -0,0 +1,229 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Binomial distribution. When {@code trials * min(p, 1 - p)} is at least 30, samples are drawn
+ * by the BTPE (binomial, triangle, parallelogram, exponential) algorithm of Kachitvichyanukul and
+ * Schmeiser ("Binomial random variate generation", Communications of the ACM 31(2), 1988), which
+ * has constant expected time regardless of the number of trials. Otherwise, the cumulative
+ * distribution function is inverted by sequential search from zero. All the constants that both
+ * methods derive from the parameters are calculated once, in the constructor.</p>
+ *
+ * <p>Both methods sample with success probability {@code min(p, 1 - p)}, and the result is
+ * reflected when {@code p > 0.5}.</p>
+ *
+ * @author Chris Hennick
+ */
+public final class BinomialDistribution extends DiscreteDistribution {
+
+  /**
+   * Smallest value of {@code trials * min(p, 1 - p)} for which BTPE is used.
+   */
+  private static final double BTPE_MIN_MEAN = 30.0;
+
+  private final int trials;
+  private final double probability;
+  private final boolean flip;
+  private final boolean useBtpe;
+  /**
+   * Success probability actually sampled with: {@code min(probability, 1 - probability)}.
+   */
+  private final double r;
+  private final double q;
+  // Constants for inversion
+  private final double probabilityOfZero;
+  private final double bound;
+  // Constants for BTPE
+  private final double nrq;
+  private final double m;
+  private final double xm;
+  private final double xl;
+  private final double xr;
+  private final double c;
+  private final double lambdaL;
+  private final double lambdaR;
+  private final double p1;
+  private final double p2;
+  private final double p3;
+  private final double p4;
+
+  /**
+   * Creates an instance.
+   *
+   * @param trials the number of trials; must be non-negative
+   * @param probability the probability that each trial succeeds; must be between 0 and 1
+   *     inclusive
+   * @throws IllegalArgumentException if {@code trials} is negative or {@code probability} isn't
+   *     between 0 and 1
+   */
+  public BinomialDistribution(final int trials, final double probability) {
+    if (trials < 0) {
+      throw new IllegalArgumentException("Number of trials must be non-negative, but got "
+          + trials);
+    }
+    if (!(probability >= 0) || (probability > 1)) {
+      throw new IllegalArgumentException("Probability must be between 0 and 1, but got "
+          + probability);
+    }
+    this.trials = trials;
+    this.probability = probability;
+    flip = probability > 0.5;
+    r = flip ? (1 - probability) : probability;
+    q = 1 - r;
+    final double n = trials;
+    useBtpe = (n * r) >= BTPE_MIN_MEAN;
+    probabilityOfZero = StrictMath.exp(n * StrictMath.log1p(-r));
+    final double np = n * r;
+    bound = Math.min(n, np + (10 * StrictMath.sqrt((np * q) + 1)));
+    nrq = n * r * q;
+    final double fm = np + r;
+    m = Math.floor(fm);
+    p1 = Math.floor((2.195 * StrictMath.sqrt(nrq)) - (4.6 * q)) + 0.5;
+    xm = m + 0.5;
+    xl = xm - p1;
+    xr = xm + p1;
+    c = 0.134 + (20.5 / (15.3 + m));
+    double a = (fm - xl) / (fm - (xl * r));
+    lambdaL = a * (1 + (a / 2));
+    a = (xr - fm) / (xr * q);
+    lambdaR = a * (1 + (a / 2));
+    p2 = p1 * (1 + (2 * c));
+    p3 = p2 + (c / lambdaL);
+    p4 = p3 + (c / lambdaR);
+  }
+
+  /**
+   * Returns the number of trials.
+   *
+   * @return the number of trials
+   */
+  public int getTrials() {
+    return trials;
+  }
+
+  /**
+   * Returns the probability that each trial succeeds.
+   *
+   * @return the success probability
+   */
+  public double getProbability() {
+    return probability;
+  }
+
+  @Override public int sample(final LongSupplier bits) {
+    if ((trials == 0) || (r == 0)) {
+      return flip ? trials : 0;
+    }
+    final int successes = useBtpe ? btpe(bits) : inversion(bits);
+    return flip ? (trials - successes) : successes;
+  }
+
+  private int inversion(final LongSupplier bits) {
+    int x = 0;
+    double px = probabilityOfZero;
+    double u = BufferedLongSupplier.nextUnit(bits);
+    while (u > px) {
+      x++;
+      if (x > bound) {
+        x = 0;
+        px = probabilityOfZero;
+        u = BufferedLongSupplier.nextUnit(bits);
+      } else {
+        u -= px;
+        px = ((trials - x + 1) * r * px) / (x * q);
+      }
+    }
+    return x;
+  }
+
+  private int btpe(final LongSupplier bits) {
+    while (true) {
+      final double u = BufferedLongSupplier.nextUnit(bits) * p4;
+      double v = BufferedLongSupplier.nextUnit(bits);
+      final double y;
+      if (u <= p1) {
+        // Triangular region: always accepted
+        return (int) Math.floor((xm - (p1 * v)) + u);
+      } else if (u <= p2) {
+        // Parallelograms
+        final double x = xl + ((u - p1) / c);
+        v = ((v * c) + 1) - (Math.abs((m - x) + 0.5) / p1);
+        if (v > 1) {
+          continue;
+        }
+        y = Math.floor(x);
+      } else if (u <= p3) {
+        // Left exponential tail
+        y = Math.floor(xl + (StrictMath.log(v) / lambdaL));
+        if ((y < 0) || (v == 0)) {
+          continue;
+        }
+        v *= (u - p2) * lambdaL;
+      } else {
+        // Right exponential tail
+        y = Math.floor(xr - (StrictMath.log(v) / lambdaR));
+        if ((y > trials) || (v == 0)) {
+          continue;
+        }
+        v *= (u - p3) * lambdaR;
+      }
+      final double k = Math.abs(y - m);
+      if ((k <= 20) || (k >= ((nrq / 2) - 1))) {
+        // Evaluate the ratio of probabilities at y and m explicitly
+        final double s = r / q;
+        final double a = s * (trials + 1);
+        double f = 1.0;
+        if (m < y) {
+          for (double i = m + 1; i <= y; i++) {
+            f *= (a / i) - s;
+          }
+        } else if (m > y) {
+          for (double i = y + 1; i <= m; i++) {
+            f /= (a / i) - s;
+          }
+        }
+        if (v > f) {
+          continue;
+        }
+        return (int) y;
+      }
+      // Squeeze using upper and lower bounds on log(f(y))
+      final double rho =
+          (k / nrq) * ((((k * ((k / 3.0) + 0.625)) + 0.1666666666666) / nrq) + 0.5);
+      final double t = (-k * k) / (2 * nrq);
+      final double logV = StrictMath.log(v);
+      if (logV < (t - rho)) {
+        return (int) y;
+      }
+      if (logV > (t + rho)) {
+        continue;
+      }
+      // Final comparison, using Stirling's formula for the factorials. The corrections for y! and
+      // (n - y)! are in the denominator of f(y)/f(m), so they're subtracted; the published
+      // pseudocode adds all four, which is off by up to about 1/(6m).
+      final double x1 = y + 1;
+      final double f1 = m + 1;
+      final double z = (trials + 1) - m;
+      final double w = (trials - y) + 1;
+      if (logV > ((xm * StrictMath.log(f1 / x1))
+          + (((trials - m) + 0.5) * StrictMath.log(z / w))
+          + ((y - m) * StrictMath.log((w * r) / (x1 * q)))
+          + stirlingCorrection(f1) + stirlingCorrection(z) - stirlingCorrection(x1)
+          - stirlingCorrection(w))) {
+        continue;
+      }
+      return (int) y;
+    }
+  }
+
+  /**
+   * Returns the first terms of the series {@code 1/(12x) - 1/(360x^3) + 1/(1260x^5) - ...}, which
+   * is the difference between {@code ln(x!)} and Stirling's approximation of it.
+   */
+  private static double stirlingCorrection(final double x) {
+    final double xSquared = x * x;
+    return (13860.0 - ((462.0 - ((132.0 - ((99.0 - (140.0 / xSquared)) / xSquared)) / xSquared))
+        / xSquared)) / x / 166320.0;
+  }
+}
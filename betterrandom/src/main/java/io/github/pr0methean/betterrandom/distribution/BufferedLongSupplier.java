@@ -0,0 +1,88 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Source of {@code long}s that draws them from a {@link BaseRandom} in batches, with
+ * {@link BaseRandom#nextLongs(long[], int, int)}, for the bulk methods of
+ * {@link ContinuousDistribution} and {@link DiscreteDistribution}. Not thread-safe.
+ *
+ * @author Chris Hennick
+ */
+final class BufferedLongSupplier implements LongSupplier {
+
+  static final double DOUBLE_UNIT = 0x1.0p-53;
+
+  /**
+   * Largest number of {@code long}s to draw at once.
+   */
+  private static final int MAX_BATCH_SIZE = 1 << 10;
+
+  /**
+   * Smallest number of {@code long}s to draw at once, so that filling a short array with samples
+   * that need several {@code long}s each usually only takes one batch.
+   */
+  private static final int MIN_BATCH_SIZE = 1 << 4;
+
+  private final BaseRandom random;
+  private final long[] buffer;
+  private int position;
+
+  /**
+   * Creates an instance. Nothing is drawn until the first call to {@link #getAsLong()}.
+   *
+   * @param random the PRNG to draw from
+   * @param expectedSamples the number of samples that will be calculated from the output, used
+   *     to choose the batch size
+   */
+  BufferedLongSupplier(final BaseRandom random, final int expectedSamples) {
+    this.random = random;
+    buffer = new long[Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, expectedSamples))];
+    position = buffer.length;
+  }
+
+  /**
+   * Checks that an offset and length describe a range within an array.
+   *
+   * @param arrayLength the length of the array
+   * @param off the start of the range
+   * @param len the length of the range
+   * @throws IndexOutOfBoundsException if the range isn't within the array
+   */
+  static void checkRange(final int arrayLength, final int off, final int len) {
+    if ((off < 0) || (len < 0) || (len > (arrayLength - off))) {
+      throw new IndexOutOfBoundsException(
+          String.format("Range [%d, %d + %d) out of bounds for length %d", off, off, len,
+              arrayLength));
+    }
+  }
+
+  /**
+   * Returns a uniform value in [0, 1).
+   *
+   * @param bits the source of uniformly random 64-bit values; called once
+   * @return a uniform {@code double} that may be zero but is less than one
+   */
+  static double nextUnit(final LongSupplier bits) {
+    return (bits.getAsLong() >>> 11) * DOUBLE_UNIT;
+  }
+
+  /**
+   * Returns a uniform value in (0, 1], so that its logarithm is always finite.
+   *
+   * @param bits the source of uniformly random 64-bit values; called once
+   * @return a uniform {@code double} that's greater than zero and may be one
+   */
+  static double nextOpenUnit(final LongSupplier bits) {
+    return ((bits.getAsLong() >>> 11) + 1) * DOUBLE_UNIT;
+  }
+
+  @Override public long getAsLong() {
+    if (position == buffer.length) {
+      random.nextLongs(buffer, 0, buffer.length);
+      position = 0;
+    }
+    return buffer[position++];
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.function.LongSupplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * <p>Sampler for a continuous probability distribution, which turns uniformly random 64-bit values
+ * into {@code double}s with that distribution. Instances are immutable, so they can be shared
+ * between threads, and the parameters of the distribution are validated and any constants derived
+ * from them are calculated only once, when the instance is created.</p>
+ *
+ * <p>The bulk {@link #sample(BaseRandom, double[], int, int)} methods draw their input in batches
+ * with {@link BaseRandom#nextLongs(long[], int, int)}, so they take the PRNG's lock and debit its
+ * entropy only once per batch rather than once per {@code long}.</p>
+ *
+ * @author Chris Hennick
+ */
+public abstract class ContinuousDistribution {
+
+  /**
+   * Returns a value with this distribution.
+   *
+   * @param bits shall return uniformly random 64-bit values; may be called any number of times,
+   *     although once or twice is typical
+   * @return a sample from this distribution
+   */
+  public abstract double sample(LongSupplier bits);
+
+  /**
+   * Returns a value with this distribution.
+   *
+   * @param random the source of randomness
+   * @return a sample from this distribution
+   */
+  public double sample(final BaseRandom random) {
+    return sample(random::nextLong);
+  }
+
+  /**
+   * Fills the given array with independent samples from this distribution.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   */
+  public void sample(final BaseRandom random, final double[] out) {
+    sample(random, out, 0, out.length);
+  }
+
+  /**
+   * Fills part of the given array with independent samples from this distribution. Because the
+   * number of {@code long}s each sample needs isn't known in advance, a few that are drawn from
+   * {@code random} may go unused.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code out}
+   */
+  public void sample(final BaseRandom random, final double[] out, final int off,
+      final int len) {
+    BufferedLongSupplier.checkRange(out.length, off, len);
+    final BufferedLongSupplier bits = new BufferedLongSupplier(random, len);
+    for (int i = off; i < off + len; i++) {
+      out[i] = sample(bits);
+    }
+  }
+
+  /**
+   * Returns an effectively unlimited stream of independent samples from this distribution.
+   *
+   * @param random the source of randomness
+   * @return a stream of samples
+   */
+  public DoubleStream samples(final BaseRandom random) {
+    return DoubleStream.generate(() -> sample(random));
+  }
+
+  /**
+   * Returns a stream of independent samples from this distribution.
+   *
+   * @param random the source of randomness
+   * @param streamSize the number of samples
+   * @return a stream of {@code streamSize} samples
+   * @throws IllegalArgumentException if {@code streamSize} is negative
+   */
+  public DoubleStream samples(final BaseRandom random, final long streamSize) {
+    if (streamSize < 0) {
+      throw new IllegalArgumentException("Stream size must be non-negative");
+    }
+    return samples(random).limit(streamSize);
+  }
+}
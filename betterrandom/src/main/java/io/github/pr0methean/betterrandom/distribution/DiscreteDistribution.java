@@ -0,0 +1,133 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Sampler for a discrete probability distribution over the non-negative {@code int}s, which
+ * turns uniformly random 64-bit values into samples. Instances are immutable, so they can be
+ * shared between threads, and the parameters of the distribution are validated and any constants
+ * derived from them are calculated only once, when the instance is created.</p>
+ *
+ * <p>The bulk {@link #sample(BaseRandom, int[], int, int)} methods draw their input in batches
+ * with {@link BaseRandom#nextLongs(long[], int, int)}, so they take the PRNG's lock and debit its
+ * entropy only once per batch rather than once per {@code long}.</p>
+ *
+ * @author Chris Hennick
+ */
+public abstract class DiscreteDistribution {
+
+  /**
+   * Returns a value with this distribution.
+   *
+   * @param bits shall return uniformly random 64-bit values; may be called any number of times,
+   *     although once or twice is typical
+   * @return a sample from this distribution
+   */
+  public abstract int sample(LongSupplier bits);
+
+  /**
+   * Returns a value with this distribution.
+   *
+   * @param random the source of randomness
+   * @return a sample from this distribution
+   */
+  public int sample(final BaseRandom random) {
+    return sample(random::nextLong);
+  }
+
+  /**
+   * Fills the given array with independent samples from this distribution.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   */
+  public void sample(final BaseRandom random, final int[] out) {
+    sample(random, out, 0, out.length);
+  }
+
+  /**
+   * Fills part of the given array with independent samples from this distribution. Because the
+   * number of {@code long}s each sample needs isn't known in advance, a few that are drawn from
+   * {@code random} may go unused.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code out}
+   */
+  public void sample(final BaseRandom random, final int[] out, final int off, final int len) {
+    BufferedLongSupplier.checkRange(out.length, off, len);
+    final BufferedLongSupplier bits = new BufferedLongSupplier(random, len);
+    for (int i = off; i < off + len; i++) {
+      out[i] = sample(bits);
+    }
+  }
+
+  /**
+   * Returns an effectively unlimited stream of independent samples from this distribution.
+   *
+   * @param random the source of randomness
+   * @return a stream of samples
+   */
+  public IntStream samples(final BaseRandom random) {
+    return IntStream.generate(() -> sample(random));
+  }
+
+  /**
+   * Returns a stream of independent samples from this distribution.
+   *
+   * @param random the source of randomness
+   * @param streamSize the number of samples
+   * @return a stream of {@code streamSize} samples
+   * @throws IllegalArgumentException if {@code streamSize} is negative
+   */
+  public IntStream samples(final BaseRandom random, final long streamSize) {
+    if (streamSize < 0) {
+      throw new IllegalArgumentException("Stream size must be non-negative");
+    }
+    return samples(random).limit(streamSize);
+  }
+
+  /**
+   * Returns the natural logarithm of {@code k!}.
+   *
+   * @param k a non-negative integer
+   * @return {@code ln(k!)}
+   */
+  static double logFactorial(final long k) {
+    return LogFactorial.of(k);
+  }
+
+  /**
+   * Table and Stirling series for {@link #logFactorial(long)}, in a holder class so that it's only
+   * initialized when needed.
+   */
+  private static final class LogFactorial {
+    private static final int TABLE_SIZE = 256;
+    private static final double HALF_LOG_TWO_PI = 0.5 * StrictMath.log(2 * Math.PI);
+    private static final double[] TABLE = new double[TABLE_SIZE];
+
+    static {
+      double sum = 0;
+      for (int i = 2; i < TABLE_SIZE; i++) {
+        sum += StrictMath.log(i);
+        TABLE[i] = sum;
+      }
+    }
+
+    static double of(final long k) {
+      if (k < TABLE_SIZE) {
+        return TABLE[(int) k];
+      }
+      final double n = k;
+      final double inverseSquare = 1.0 / (n * n);
+      // Stirling's series; the next term is below 2^-53 of the result for n >= 256
+      return (((n + 0.5) * StrictMath.log(n)) - n) + HALF_LOG_TWO_PI
+          + ((1.0 / 12 - (inverseSquare * (1.0 / 360 - (inverseSquare / 1260)))) / n);
+    }
+  }
+}
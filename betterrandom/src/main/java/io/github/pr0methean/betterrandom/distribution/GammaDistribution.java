@@ -0,0 +1,112 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.ZigguratGaussian;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Gamma distribution, sampled by the method of Marsaglia and Tsang ("A Simple Method for
+ * Generating Gamma Variables", ACM Transactions on Mathematical Software 26(3), 2000). Each attempt
+ * takes a Gaussian from the ziggurat method and one more uniform value, and about 95% or more of
+ * attempts succeed (depending on the shape) with no logarithm thanks to a polynomial squeeze.</p>
+ *
+ * <p>For shapes below 1, a sample with shape {@code shape + 1} is multiplied by
+ * <code>U<sup>1/shape</sup></code>; for shape 1, the ziggurat exponential sampler is used
+ * directly.</p>
+ *
+ * @author Chris Hennick
+ */
+public final class GammaDistribution extends ContinuousDistribution {
+
+  private final double shape;
+  private final double scale;
+  private final double d;
+  private final double c;
+  private final double inverseShape;
+
+  /**
+   * Creates an instance.
+   *
+   * @param shape the shape parameter (often called k or alpha); must be positive and finite
+   * @param scale the scale parameter (often called theta, and the reciprocal of the rate); must be
+   *     positive and finite
+   * @throws IllegalArgumentException if either parameter isn't positive and finite
+   */
+  public GammaDistribution(final double shape, final double scale) {
+    checkShape(shape);
+    if (!(scale > 0) || Double.isInfinite(scale)) {
+      throw new IllegalArgumentException("Scale must be positive and finite, but got " + scale);
+    }
+    this.shape = shape;
+    this.scale = scale;
+    final double boostedShape = (shape < 1) ? (shape + 1) : shape;
+    d = boostedShape - (1.0 / 3);
+    c = 1.0 / StrictMath.sqrt(9 * d);
+    inverseShape = 1.0 / shape;
+  }
+
+  static void checkShape(final double shape) {
+    if (!(shape > 0) || Double.isInfinite(shape)) {
+      throw new IllegalArgumentException("Shape must be positive and finite, but got " + shape);
+    }
+  }
+
+  /**
+   * Returns the shape parameter.
+   *
+   * @return the shape
+   */
+  public double getShape() {
+    return shape;
+  }
+
+  /**
+   * Returns the scale parameter.
+   *
+   * @return the scale
+   */
+  public double getScale() {
+    return scale;
+  }
+
+  @Override public double sample(final LongSupplier bits) {
+    return sampleUnitScale(bits) * scale;
+  }
+
+  /**
+   * Returns a sample from the gamma distribution with this shape and a scale of 1.
+   *
+   * @param bits the source of uniformly random 64-bit values
+   * @return a sample with unit scale
+   */
+  double sampleUnitScale(final LongSupplier bits) {
+    if (shape == 1.0) {
+      return ZigguratExponential.nextExponential(bits);
+    }
+    if (shape < 1) {
+      // Draw the boost factor first, so that the log is evaluated on a uniform in (0, 1]
+      final double boost =
+          StrictMath.exp(StrictMath.log(BufferedLongSupplier.nextOpenUnit(bits)) * inverseShape);
+      return marsagliaTsang(bits) * boost;
+    }
+    return marsagliaTsang(bits);
+  }
+
+  private double marsagliaTsang(final LongSupplier bits) {
+    while (true) {
+      final double x = ZigguratGaussian.nextGaussian(bits);
+      double v = 1 + (c * x);
+      if (v <= 0) {
+        continue;
+      }
+      v = v * v * v;
+      final double u = BufferedLongSupplier.nextOpenUnit(bits);
+      final double xSquared = x * x;
+      if (u < (1 - (0.0331 * xSquared * xSquared))) {
+        return d * v;
+      }
+      if (StrictMath.log(u) < ((0.5 * xSquared) + (d * ((1 - v) + StrictMath.log(v))))) {
+        return d * v;
+      }
+    }
+  }
+}
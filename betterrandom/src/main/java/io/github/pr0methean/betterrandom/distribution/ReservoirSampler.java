@@ -0,0 +1,219 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * <p>Maintains a uniform random sample of up to a fixed number of elements from a stream of
+ * unknown length, using Li's Algorithm L ("Reservoir-Sampling Algorithms of Time Complexity
+ * O(n(1 + log(N/n)))", ACM Transactions on Mathematical Software 20(4), 1994). Rather than drawing
+ * a random number for every element, it calculates how many elements to skip before the next one
+ * that enters the sample, so a stream of {@code n} elements takes only about
+ * {@code 3k(1 + ln(n/k))} random numbers for a sample of size {@code k}.</p>
+ *
+ * <p>Samples of different parts of a stream can be combined with {@link #merge(ReservoirSampler)},
+ * so that {@link #collector(int, BaseRandom)} works with parallel streams. Instances aren't
+ * thread-safe, but the {@link BaseRandom} can be shared by instances in different threads unless
+ * it's {@link BaseRandom#isThreadConfined() thread-confined}.</p>
+ *
+ * @param <E> the type of element sampled
+ * @author Chris Hennick
+ */
+public final class ReservoirSampler<E> {
+
+  private final int capacity;
+  private final BaseRandom random;
+  private final Object[] reservoir;
+  private long count = 0;
+  /**
+   * The largest of the random keys of the elements currently in the sample, when the keys of
+   * all the elements seen are independent uniform values in (0, 1) and the sample is the elements
+   * with the smallest keys. Only meaningful once the reservoir is full.
+   */
+  private double threshold;
+  /**
+   * Number of elements to skip before the next one that enters the sample. Only meaningful once
+   * the reservoir is full.
+   */
+  private long skip;
+
+  /**
+   * Creates an instance with an empty sample.
+   *
+   * @param capacity the maximum sample size; must be positive
+   * @param random the source of randomness
+   * @throws IllegalArgumentException if {@code capacity} isn't positive
+   */
+  public ReservoirSampler(final int capacity, final BaseRandom random) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive, but got " + capacity);
+    }
+    this.capacity = capacity;
+    this.random = random;
+    reservoir = new Object[capacity];
+  }
+
+  /**
+   * Returns a {@link Collector} that collects a uniform random sample of up to {@code capacity}
+   * elements from a stream, in no particular order.
+   *
+   * @param capacity the maximum sample size; must be positive
+   * @param random the source of randomness
+   * @param <E> the type of element sampled
+   * @return a collector producing a new, modifiable list
+   * @throws IllegalArgumentException if {@code capacity} isn't positive
+   */
+  public static <E> Collector<E, ?, List<E>> collector(final int capacity,
+      final BaseRandom random) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive, but got " + capacity);
+    }
+    return Collector.of(() -> new ReservoirSampler<E>(capacity, random), ReservoirSampler::offer,
+        ReservoirSampler::merge, ReservoirSampler::getSample, Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Returns the maximum sample size.
+   *
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of elements offered so far, including those received through
+   * {@link #merge(ReservoirSampler)}.
+   *
+   * @return the number of elements seen
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Offers the next element of the stream, which becomes part of the sample with probability
+   * {@code capacity / getCount()}.
+   *
+   * @param element the element
+   */
+  public void offer(final E element) {
+    if (count < capacity) {
+      reservoir[(int) count] = element;
+      count++;
+      if (count == capacity) {
+        threshold = StrictMath.exp(logOfUniform() / capacity);
+        skip = nextSkip();
+      }
+      return;
+    }
+    count++;
+    if (skip > 0) {
+      skip--;
+      return;
+    }
+    reservoir[random.nextBoundedInt(capacity)] = element;
+    threshold *= StrictMath.exp(logOfUniform() / capacity);
+    skip = nextSkip();
+  }
+
+  /**
+   * Offers all the remaining elements of the given iterator, in order.
+   *
+   * @param elements the elements
+   */
+  public void offerAll(final Iterator<? extends E> elements) {
+    while (elements.hasNext()) {
+      offer(elements.next());
+    }
+  }
+
+  /**
+   * Returns the current sample: all the elements offered so far if there have been no more than
+   * {@link #getCapacity()}, and otherwise a uniform random subset of them of that size.
+   *
+   * @return a new, modifiable list, in no particular order
+   */
+  @SuppressWarnings("unchecked") public List<E> getSample() {
+    return new ArrayList<>((List<E>) Arrays.asList(reservoir).subList(0, sampleSize()));
+  }
+
+  /**
+   * Combines another sampler's sample into this one, so that this becomes a uniform random sample
+   * of the elements offered to either. The other sampler should have been offered a different
+   * part of the same stream, and is left unchanged. Afterwards, this sampler can still be offered
+   * more elements.
+   *
+   * @param other a sampler with the same capacity
+   * @return this sampler
+   * @throws IllegalArgumentException if {@code other} has a different capacity
+   */
+  public ReservoirSampler<E> merge(final ReservoirSampler<? extends E> other) {
+    if (other.capacity != capacity) {
+      throw new IllegalArgumentException(String.format(
+          "Can't merge samplers with different capacities (%d and %d)", capacity, other.capacity));
+    }
+    if (other.count == 0) {
+      return this;
+    }
+    final List<Object> mine = new ArrayList<>(Arrays.asList(reservoir).subList(0, sampleSize()));
+    final List<Object> theirs =
+        new ArrayList<>(Arrays.asList(other.reservoir).subList(0, other.sampleSize()));
+    // Fill each slot from one side or the other, in proportion to the number of elements of the
+    // stream each side represents that haven't yet been drawn
+    long mineLeft = count;
+    long theirsLeft = other.count;
+    final long total = mineLeft + theirsLeft;
+    final int newSize = (int) Math.min(capacity, total);
+    for (int i = 0; i < newSize; i++) {
+      final List<Object> source;
+      if (random.nextBoundedLong(mineLeft + theirsLeft) < mineLeft) {
+        source = mine;
+        mineLeft--;
+      } else {
+        source = theirs;
+        theirsLeft--;
+      }
+      // Remove a random element of the source's sample, by moving the last one into its place
+      final int index = random.nextBoundedInt(source.size());
+      final int last = source.size() - 1;
+      reservoir[i] = source.get(index);
+      Collections.swap(source, index, last);
+      source.remove(last);
+    }
+    count = total;
+    if (count >= capacity) {
+      // The largest of the smallest k of n uniform keys has a Beta(k, n - k + 1) distribution,
+      // independent of which elements they belong to
+      threshold = new BetaDistribution(capacity, (count - capacity) + 1.0).sample(random);
+      skip = nextSkip();
+    }
+    return this;
+  }
+
+  private int sampleSize() {
+    return (int) Math.min(capacity, count);
+  }
+
+  /**
+   * Returns the logarithm of a uniform value in (0, 1], which is always finite.
+   */
+  private double logOfUniform() {
+    return StrictMath.log(1.0 - random.nextDouble());
+  }
+
+  /**
+   * Draws the number of elements to skip before the next one to enter the sample, which has a
+   * geometric distribution with success probability {@link #threshold}.
+   */
+  private long nextSkip() {
+    final double skipDouble = Math.floor(logOfUniform() / StrictMath.log1p(-threshold));
+    // Saturates at Long.MAX_VALUE, and treats NaN (when the threshold has underflowed) as infinite
+    return (skipDouble < Long.MAX_VALUE) ? (long) skipDouble : Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable sampler that chooses elements with given relative weights in constant time, using an
+ * {@link AliasTable}. Building one takes time linear in the number of elements, so it should be
+ * built once and reused for many samples.
+ *
+ * @param <E> the type of the elements
+ * @author Chris Hennick
+ */
+public final class WeightedSampler<E> {
+
+  private final List<E> elements;
+  private final AliasTable table;
+
+  /**
+   * Creates a sampler that chooses each element with probability proportional to its weight.
+   *
+   * @param elements the elements to choose from
+   * @param weights the relative weight of each element, in the same order; must be finite and
+   *     non-negative, and must not all be zero
+   * @throws IllegalArgumentException if {@code elements} and {@code weights} differ in length, or
+   *     if the weights are invalid as described for {@link AliasTable#AliasTable(double[])}
+   */
+  public WeightedSampler(final List<? extends E> elements, final double[] weights) {
+    if (elements.size() != weights.length) {
+      throw new IllegalArgumentException(String.format(
+          "Got %d elements but %d weights", elements.size(), weights.length));
+    }
+    this.elements = Collections.unmodifiableList(new ArrayList<>(elements));
+    table = new AliasTable(weights);
+  }
+
+  /**
+   * Creates a sampler that chooses each key with probability proportional to its value.
+   *
+   * @param weights a map from each element to its relative weight
+   * @param <E> the type of the elements
+   * @return a sampler for the map's keys
+   * @throws IllegalArgumentException if the weights are invalid as described for
+   *     {@link AliasTable#AliasTable(double[])}
+   */
+  public static <E> WeightedSampler<E> fromMap(final Map<? extends E, ? extends Number> weights) {
+    final List<E> elements = new ArrayList<>(weights.size());
+    final double[] weightArray = new double[weights.size()];
+    int i = 0;
+    for (final Map.Entry<? extends E, ? extends Number> entry : weights.entrySet()) {
+      elements.add(entry.getKey());
+      weightArray[i] = entry.getValue().doubleValue();
+      i++;
+    }
+    return new WeightedSampler<>(elements, weightArray);
+  }
+
+  /**
+   * Returns the elements this sampler chooses from, in the order of their weights.
+   *
+   * @return an unmodifiable list of the elements
+   */
+  public List<E> getElements() {
+    return elements;
+  }
+
+  /**
+   * Returns the table of indices into {@link #getElements()} that backs this sampler.
+   *
+   * @return the alias table
+   */
+  public AliasTable getTable() {
+    return table;
+  }
+
+  /**
+   * Chooses an element at random, with probability proportional to its weight.
+   *
+   * @param random the source of randomness
+   * @return an element chosen at random
+   */
+  public E sample(final BaseRandom random) {
+    return elements.get(table.sample(random));
+  }
+
+  /**
+   * Fills the given array with elements chosen independently at random, each with probability
+   * proportional to its weight. Draws from {@code random} in bulk, as
+   * {@link AliasTable#sample(BaseRandom, int[])} does.
+   *
+   * @param random the source of randomness
+   * @param out the array to fill
+   */
+  public void sample(final BaseRandom random, final E[] out) {
+    final int[] indices = new int[out.length];
+    table.sample(random, indices);
+    for (int i = 0; i < out.length; i++) {
+      out[i] = elements.get(indices[i]);
+    }
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Samplers for non-uniform distributions, built on {@link
+ * io.github.pr0methean.betterrandom.prng.BaseRandom}.
+ */
+package io.github.pr0methean.betterrandom.distribution;
\ No newline at end of file
@@ -19,17 +19,25 @@ import com.google.common.base.MoreObjects;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Random;
 import javax.crypto.Cipher;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 /**
- * <p>CipherCounterRandom using AES (Rijndael).</p> <p>Keys larger than 128 bits, and thus seeds
+ * <p>CipherCounterRandom using AES (Rijndael).</p> <p>When the JCE provides AES in CTR mode, it's
+ * used so that the cipher increments the counter itself, which lets the provider use its fastest
+ * (often hardware-accelerated) implementation; otherwise, the counter values are encrypted in ECB
+ * mode. The output is the same either way.</p> <p>Keys larger than 128 bits, and thus seeds
  * larger than 256 bits, require unlimited strength cryptography policy files on closed-source
  * JDKs.</p> <p><em>NOTE: Because instances of this class
  * require 128-bit seeds, it is not possible to seed this RNG using the {@link #setSeed(long)}
@@ -53,11 +61,23 @@ public class AesCounterRandom extends CipherCounterRandom {
   private static final String HASH_ALGORITHM = "SHA-384";
   @SuppressWarnings("HardcodedFileSeparator") private static final String ALGORITHM_MODE =
       ALGORITHM + "/ECB/NoPadding";
+  @SuppressWarnings("HardcodedFileSeparator") private static final String COUNTER_MODE =
+      ALGORITHM + "/CTR/NoPadding";
   // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
   /**
    * The AES cipher that will generate the pseudorandom numbers.
    */
   protected transient Cipher cipher;
+  /**
+   * True if {@link #cipher} is in CTR mode, and false if it's in ECB mode.
+   */
+  private transient boolean counterMode;
+  private transient SecretKeySpec key;
+  /**
+   * In CTR mode, the value of {@link #counter} that {@link #cipher}'s internal counter has caught up
+   * with, or null if the cipher needs to be initialized.
+   */
+  private transient byte[] cipherCounter;
 
   @Override public int getBlocksAtOnce() {
     return BLOCKS_AT_ONCE;
@@ -92,6 +112,16 @@ public class AesCounterRandom extends CipherCounterRandom {
   }
 
   private static final int BYTES_AT_ONCE = COUNTER_SIZE_BYTES * BLOCKS_AT_ONCE;
+  /**
+   * In CTR mode, the number of blocks to encrypt at once straight into the caller's array or
+   * buffer, for large requests. Each call to the cipher has an overhead that's significant for a
+   * batch of only {@link #BLOCKS_AT_ONCE} blocks, but this is large enough to make it negligible.
+   */
+  private static final int DIRECT_BLOCKS_AT_ONCE = 1 << 12;
+  /**
+   * Plaintext for CTR mode, in which the cipher's output is the key stream XORed with its input.
+   */
+  private static final byte[] ZEROES = new byte[COUNTER_SIZE_BYTES * DIRECT_BLOCKS_AT_ONCE];
   /**
    * Maximum total length of the seed, including both key and initial counter value.
    */
@@ -148,7 +178,13 @@ public class AesCounterRandom extends CipherCounterRandom {
    */
   public AesCounterRandom(final byte[] seed) {
     super(seed);
-    index = BYTES_AT_ONCE; // force generation of first block on demand
+  }
+
+  /**
+   * Returns a {@link SingleThreadAesCounterRandom}, since the copy is used by one thread at a time.
+   */
+  @Override protected CipherCounterRandom newInstanceWithSeed(final byte[] seed) {
+    return new SingleThreadAesCounterRandom(seed);
   }
 
   @Override protected MessageDigest createHash() {
@@ -161,14 +197,83 @@ public class AesCounterRandom extends CipherCounterRandom {
 
   @Override protected void createCipher() {
     try {
-      cipher = Cipher.getInstance(ALGORITHM_MODE);
+      cipher = Cipher.getInstance(COUNTER_MODE);
+      counterMode = true;
     } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-      throw new InternalError("Required cipher missing");
+      try {
+        cipher = Cipher.getInstance(ALGORITHM_MODE);
+        counterMode = false;
+      } catch (NoSuchAlgorithmException | NoSuchPaddingException e2) {
+        throw new InternalError("Required cipher missing");
+      }
     }
   }
 
   @Override protected void setKey(byte[] key) throws InvalidKeyException {
-    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, ALGORITHM));
+    this.key = new SecretKeySpec(key, ALGORITHM);
+    if (counterMode) {
+      cipherCounter = null;
+      try {
+        initCounterMode();
+      } catch (final InvalidAlgorithmParameterException e) {
+        throw new InternalError("CTR mode rejected a 16-byte IV", e);
+      }
+    } else {
+      cipher.init(Cipher.ENCRYPT_MODE, this.key);
+    }
+  }
+
+  /**
+   * Initializes the cipher in CTR mode so that its next block of output is for the counter value
+   * after the current one.
+   */
+  private void initCounterMode() throws InvalidKeyException, InvalidAlgorithmParameterException {
+    final byte[] iv = counter.clone();
+    Byte16ArrayArithmetic.addInto(iv, Byte16ArrayArithmetic.ONE);
+    cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+    cipherCounter = counter.clone();
+  }
+
+  /**
+   * In CTR mode, reinitializes the cipher if the counter has been changed other than by generating
+   * output, e.g. by seeking.
+   */
+  private void syncCipherCounter() throws GeneralSecurityException {
+    if (!Arrays.equals(cipherCounter, counter)) {
+      initCounterMode();
+    }
+  }
+
+  /**
+   * Returns a larger number than {@link #getBlocksAtOnce()} in CTR mode, in which the cipher
+   * generates the counter values itself.
+   */
+  @Override protected int getMaxDirectBlocks() {
+    return counterMode ? DIRECT_BLOCKS_AT_ONCE : super.getMaxDirectBlocks();
+  }
+
+  @Override protected void generateBlocks(final int blocks, final byte[] output,
+      final int outputOffset) throws GeneralSecurityException {
+    if (!counterMode) {
+      super.generateBlocks(blocks, output, outputOffset);
+      return;
+    }
+    syncCipherCounter();
+    cipher.update(ZEROES, 0, blocks * COUNTER_SIZE_BYTES, output, outputOffset);
+    Byte16ArrayArithmetic.addInto(counter, blocks);
+    System.arraycopy(counter, 0, cipherCounter, 0, COUNTER_SIZE_BYTES);
+  }
+
+  @Override protected void generateBlocks(final int blocks, final ByteBuffer output)
+      throws GeneralSecurityException {
+    if (!counterMode) {
+      super.generateBlocks(blocks, output);
+      return;
+    }
+    syncCipherCounter();
+    cipher.update(ByteBuffer.wrap(ZEROES, 0, blocks * COUNTER_SIZE_BYTES), output);
+    Byte16ArrayArithmetic.addInto(counter, blocks);
+    System.arraycopy(counter, 0, cipherCounter, 0, COUNTER_SIZE_BYTES);
   }
 
   @Override protected int getKeyLength(int inputLength) {
@@ -191,4 +296,14 @@ public class AesCounterRandom extends CipherCounterRandom {
   @Override protected void doCipher(byte[] input, byte[] output) throws GeneralSecurityException {
     cipher.doFinal(input, 0, getBytesAtOnce(), output);
   }
+
+  @Override protected void doCipher(byte[] input, int blocks, byte[] output, int outputOffset)
+      throws GeneralSecurityException {
+    cipher.doFinal(input, 0, blocks * COUNTER_SIZE_BYTES, output, outputOffset);
+  }
+
+  @Override protected void doCipher(byte[] input, int blocks, ByteBuffer output)
+      throws GeneralSecurityException {
+    cipher.doFinal(ByteBuffer.wrap(input, 0, blocks * COUNTER_SIZE_BYTES), output);
+  }
 }
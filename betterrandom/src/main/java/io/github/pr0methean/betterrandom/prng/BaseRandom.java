@@ -5,26 +5,42 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import io.github.pr0methean.betterrandom.ByteArrayReseedableRandom;
 import io.github.pr0methean.betterrandom.EntropyCountingRandom;
 import io.github.pr0methean.betterrandom.RepeatableRandom;
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import io.github.pr0methean.betterrandom.distribution.WeightedSampler;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
 import io.github.pr0methean.betterrandom.util.Dumpable;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Random;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.BaseStream;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 
 /**
@@ -45,7 +61,33 @@ public abstract class BaseRandom extends Random
    */
   protected static final int ENTROPY_OF_DOUBLE = 53;
 
-  private static final long NAN_LONG_BITS = Double.doubleToRawLongBits(Double.NaN);
+  /**
+   * When the entropy count is {@link #setEntropyCountStriped(boolean) striped}, each stripe is
+   * subtracted from the entropy count, which is then checked, once it has accumulated this many
+   * bits.
+   */
+  protected static final long STRIPED_ENTROPY_CHECK_INTERVAL = 1 << 12;
+  /**
+   * Number of stripes in a {@link #setEntropyCountStriped(boolean) striped} entropy count: the
+   * number of processors, rounded up to a power of 2.
+   */
+  private static final int ENTROPY_STRIPES =
+      Integer.highestOneBit((Runtime.getRuntime().availableProcessors() << 1) - 1);
+  /**
+   * Distance between stripes in {@link #entropyDebits}, so that each is on its own cache line.
+   */
+  private static final int ENTROPY_STRIPE_STRIDE = 8;
+
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  /**
+   * Number of random bits {@link #withProbabilityInternal(double)} compares with the probability at
+   * a time. The expected number of bits used per call is slightly more than this.
+   */
+  private static final int BERNOULLI_CHUNK_BITS = 8;
+  private static final long BERNOULLI_CHUNK_MASK = (1L << BERNOULLI_CHUNK_BITS) - 1;
+  private static final AtomicLongFieldUpdater<BaseRandom> BIT_BUFFER_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(BaseRandom.class, "bitBuffer");
+  private static final long UNSIGNED_INT_TO_LONG_MASK = (1L << Integer.SIZE) - 1;
   private static final long serialVersionUID = -1556392727255964947L;
   /**
    * If the referent is non-null, it will be invoked to reseed this PRNG whenever random output is
@@ -54,15 +96,27 @@ public abstract class BaseRandom extends Random
    */
   protected final AtomicReference<RandomSeeder> randomSeeder = new AtomicReference<>(null);
   /**
-   * Lock to prevent concurrent modification of the RNG's internal state.
+   * True if this is a {@link ThreadConfinedRandom}. Set before any constructor runs, so that it's
+   * already correct when {@link #lock} is created.
+   */
+  private final boolean threadConfined = this instanceof ThreadConfinedRandom;
+  /**
+   * Lock to prevent concurrent modification of the RNG's internal state. Its methods are no-ops if
+   * this PRNG {@link #isThreadConfined() is thread-confined}.
    */
-  protected final ReentrantLock lock = new ReentrantLock();
+  protected final ReentrantLock lock =
+      threadConfined ? new ThreadConfinedLock() : new ReentrantLock();
   /**
    * Stores the entropy estimate backing {@link #getEntropyBits()}.
    */
   protected final AtomicLong entropyBits = new AtomicLong(0);
-  // Stored as a long since there's no atomic double
-  private final AtomicLong nextNextGaussian = new AtomicLong(NAN_LONG_BITS);
+  /**
+   * Entropy spent but not yet subtracted from {@link #entropyBits}, in {@link #ENTROPY_STRIPES}
+   * stripes {@link #ENTROPY_STRIPE_STRIDE} elements apart. Non-null if and only if the entropy
+   * count is {@link #setEntropyCountStriped(boolean) striped}.
+   */
+  @Nullable private volatile AtomicLongArray entropyDebits;
+  private volatile boolean entropyCountDisabled;
   /**
    * The seed this PRNG was seeded with, as a byte array. Used by {@link #getSeed()} even if the
    * actual internal state of the PRNG is stored elsewhere (since otherwise getSeed() would require
@@ -77,6 +131,14 @@ public abstract class BaseRandom extends Random
    */
   @SuppressWarnings({"InstanceVariableMayNotBeInitializedByReadObject"}) protected transient boolean
       superConstructorFinished = false;
+  /**
+   * Random bits left over from the last {@code long} drawn by {@link #nextBits(int)},
+   * {@link #nextBoolean()} or {@link #withProbability(double)}. The unused bits are the ones below
+   * the highest set bit, which is a marker; so 0 and 1 both mean the buffer is empty. Updated by
+   * compare-and-set, so that these methods don't need the {@link #lock} unless the buffer runs
+   * out.
+   */
+  private transient volatile long bitBuffer;
 
   /**
    * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
@@ -155,6 +217,106 @@ public abstract class BaseRandom extends Random
     return false;
   }
 
+  /**
+   * <p>Sets whether spent entropy is first recorded in per-thread stripes rather than subtracted
+   * straight from the entropy count. A PRNG that's shared by many threads will scale better when
+   * this is true, since the threads no longer all update the same variable; but spending entropy
+   * usually won't immediately check whether reseeding is needed. Instead, each thread's stripe is
+   * subtracted from the count, which is then checked, whenever the stripe reaches
+   * {@value #STRIPED_ENTROPY_CHECK_INTERVAL} bits. So once the entropy count reaches zero, a
+   * {@link RandomSeeder} is woken up before the threads using this PRNG have spent more than
+   * {@value #STRIPED_ENTROPY_CHECK_INTERVAL} bits each, plus one call's worth. The
+   * {@link RandomSeeder}'s own periodic polling is unaffected.</p>
+   *
+   * <p>{@link #getEntropyBits()} is still exact, apart from debits that are concurrently in
+   * progress, but it becomes slower. Has no effect on a
+   * {@link #isThreadConfined() thread-confined} PRNG, which never contends for the entropy
+   * count.</p>
+   *
+   * @param striped true to record spent entropy in stripes; false to return to the default
+   *     behavior
+   */
+  public void setEntropyCountStriped(final boolean striped) {
+    lock.lock();
+    try {
+      if (striped == (entropyDebits != null)) {
+        return;
+      }
+      if (striped) {
+        entropyDebits = new AtomicLongArray(ENTROPY_STRIPES * ENTROPY_STRIPE_STRIDE);
+      } else {
+        // Threads still adding to the old stripes will see this and reconcile their own stripe
+        final AtomicLongArray debits = entropyDebits;
+        entropyDebits = null;
+        reconcileEntropyDebits(debits);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns whether spent entropy is recorded in per-thread stripes.
+   *
+   * @return true if {@link #setEntropyCountStriped(boolean)} was last called with true; false
+   *     otherwise
+   */
+  public boolean isEntropyCountStriped() {
+    return entropyDebits != null;
+  }
+
+  /**
+   * <p>Sets whether to stop counting spent entropy. This is meant for workloads such as simulations
+   * that never reseed and never call {@link #getEntropyBits()}: when disabled, the entropy count
+   * is never updated by the output methods, so they skip the atomic update and the check for
+   * whether reseeding is needed. The output is unaffected, and the PRNG can still be reseeded
+   * explicitly, which credits the new seed's entropy as usual. Should usually be called straight
+   * after construction.</p>
+   *
+   * <p>{@link #getEntropyBits()} won't decrease while the count is disabled. When it's re-enabled,
+   * counting resumes from the value it had when disabled, plus any credit for reseeding in the
+   * meantime.</p>
+   *
+   * @param disabled true to stop counting spent entropy; false to resume
+   * @throws UnsupportedOperationException if {@code disabled} is true and this PRNG has a
+   *     {@link RandomSeeder}, which depends on the entropy count
+   */
+  public void setEntropyCountDisabled(final boolean disabled) {
+    lock.lock();
+    try {
+      if (disabled && (randomSeeder.get() != null)) {
+        throw new UnsupportedOperationException(
+            "Can't disable the entropy count of a PRNG that has a RandomSeeder");
+      }
+      entropyCountDisabled = disabled;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns whether spent entropy has stopped being counted.
+   *
+   * @return true if {@link #setEntropyCountDisabled(boolean)} was last called with true; false
+   *     otherwise
+   */
+  public boolean isEntropyCountDisabled() {
+    return entropyCountDisabled;
+  }
+
+  /**
+   * Returns true if this PRNG is confined to a single thread, which is the case if and only if it's
+   * a {@link ThreadConfinedRandom}. Such a PRNG doesn't lock and doesn't use atomic
+   * read-modify-write operations, so it's faster but must not be accessed concurrently, and it
+   * can't be reseeded by a {@link RandomSeeder}. Its output for a given seed is the same as that of
+   * the thread-safe class it extends.
+   *
+   * @return true if this PRNG must only be used from one thread at a time; false otherwise.
+   */
+  public final boolean isThreadConfined() {
+    return threadConfined;
+  }
+
   /**
    * <p>Returns true with the given probability, and records that only 1 bit of entropy is being
    * spent.</p> <p>When {@code probability <= 0}, instantly returns false without recording any
@@ -185,12 +347,132 @@ public abstract class BaseRandom extends Random
    * @return True with probability equal to the {@code probability} parameter; false otherwise.
    */
   protected boolean withProbabilityInternal(final double probability) {
-    final boolean result = super.nextDouble() < probability;
+    // Compare a random 64-bit fixed-point fraction with the probability, most significant bits
+    // first, a few bits at a time. Usually the first chunk decides the result, so a single long
+    // can be shared by several calls.
+    final long threshold = (probability < 0.5) ? (long) (probability * 0x1.0p64)
+        : ((long) ((probability - 0.5) * 0x1.0p64) | Long.MIN_VALUE);
+    boolean result = false;
+    for (int shift = Long.SIZE - BERNOULLI_CHUNK_BITS; shift >= 0;
+        shift -= BERNOULLI_CHUNK_BITS) {
+      final long chunk = takeBufferedBits(BERNOULLI_CHUNK_BITS);
+      final long thresholdChunk = (threshold >>> shift) & BERNOULLI_CHUNK_MASK;
+      if (chunk != thresholdChunk) {
+        result = chunk < thresholdChunk;
+        break;
+      }
+    }
     // We're only outputting one bit
     debitEntropy(1);
     return result;
   }
 
+  /**
+   * Returns the given number of random bits, as the lowest bits of a {@code long} whose other bits
+   * are zero. Each {@code long} of the underlying output is split among as many calls as it can
+   * satisfy, as it is for {@link #nextBoolean()}, so this is much faster than {@link #nextLong()}
+   * or {@link #nextInt(int)} when only a few bits are needed. Bits left over from one output are
+   * discarded when this PRNG is reseeded.
+   *
+   * @param bits the number of bits to generate; between 1 and 64 inclusive
+   * @return a {@code long} between 0 inclusive and {@code 1L << bits} exclusive (or any
+   *     {@code long}, if {@code bits == 64}), with all values equally likely
+   * @throws IllegalArgumentException if {@code bits} isn't between 1 and 64
+   */
+  public long nextBits(final int bits) {
+    if ((bits < 1) || (bits > Long.SIZE)) {
+      throw new IllegalArgumentException("Number of bits must be between 1 and 64, but got "
+          + bits);
+    }
+    final long result = takeBufferedBits(bits);
+    debitEntropy(bits);
+    return result;
+  }
+
+  /**
+   * Fills the lowest {@code nBits} bits of the given bitset with random values, in the layout used
+   * by {@link java.util.BitSet#valueOf(long[])}. Any higher bits of the last word written are left
+   * unchanged. Every 64 booleans take only a single {@code long} of output, and the lock is taken
+   * only once for the whole array.
+   *
+   * @param bitset the array to fill
+   * @param nBits the number of bits to fill
+   * @throws IllegalArgumentException if {@code nBits} is negative
+   * @throws IndexOutOfBoundsException if {@code bitset} has fewer than {@code nBits} bits
+   */
+  public void nextBooleans(final long[] bitset, final int nBits) {
+    if (nBits < 0) {
+      throw new IllegalArgumentException("Number of bits must not be negative, but got " + nBits);
+    }
+    final int wholeWords = nBits / Long.SIZE;
+    final int extraBits = nBits % Long.SIZE;
+    if ((((long) bitset.length) * Long.SIZE) < nBits) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Can't fill %d bits of a %d-word bitset", nBits, bitset.length));
+    }
+    nextLongsNoEntropyDebit(bitset, 0, wholeWords);
+    if (extraBits > 0) {
+      final long mask = (1L << extraBits) - 1;
+      bitset[wholeWords] = (bitset[wholeWords] & ~mask) | takeBufferedBits(extraBits);
+    }
+    debitEntropy(nBits);
+  }
+
+  /**
+   * Takes bits from {@link #bitBuffer}. When it has too few, they're discarded and the result is
+   * taken from a new {@code long} of output instead, whose remaining bits replace them. If another
+   * thread changes the buffer concurrently, the new bits may be discarded instead; either way, no
+   * bit is ever returned twice.
+   *
+   * @param bits the number of bits; between 1 and 64 inclusive
+   * @return the bits, in the lowest bits of a {@code long}
+   */
+  private long takeBufferedBits(final int bits) {
+    final long mask = (bits == Long.SIZE) ? -1L : ((1L << bits) - 1);
+    while (true) {
+      final long buffer = bitBuffer;
+      final int available = (Long.SIZE - 1) - Long.numberOfLeadingZeros(buffer);
+      if (available < bits) {
+        final long fresh = nextLongNoEntropyDebit();
+        if (bits < Long.SIZE) {
+          // The marker bit goes just above the Long.SIZE - bits unused bits
+          updateBitBuffer(buffer, (fresh >>> bits) | (1L << -bits));
+        }
+        return fresh & mask;
+      }
+      if (updateBitBuffer(buffer, buffer >>> bits)) {
+        return buffer & mask;
+      }
+    }
+  }
+
+  /**
+   * Replaces {@link #bitBuffer} by compare-and-set, or by a plain ordered write if this PRNG is
+   * {@link #isThreadConfined() thread-confined}, since then no other thread can have changed it.
+   *
+   * @param expected the value the buffer had when it was read
+   * @param newBuffer the new value
+   * @return true if the buffer was replaced; false if another thread changed it first
+   */
+  private boolean updateBitBuffer(final long expected, final long newBuffer) {
+    if (threadConfined) {
+      BIT_BUFFER_UPDATER.lazySet(this, newBuffer);
+      return true;
+    }
+    return BIT_BUFFER_UPDATER.compareAndSet(this, expected, newBuffer);
+  }
+
+  /**
+   * Discards any random bits left over from previous calls to {@link #nextBits(int)},
+   * {@link #nextBoolean()} and {@link #withProbability(double)}, so that subsequent calls to those
+   * methods depend only on the PRNG's state. Called by {@link #setSeedInternal(byte[])}; subclasses
+   * should also call it, with {@link #lock} held, when they change their state by other means, such
+   * as {@link SeekableRandom#advance(long)}.
+   */
+  protected void discardBufferedBits() {
+    bitBuffer = 0;
+  }
+
   /**
    * Chooses a random element from the given array.
    *
@@ -204,55 +486,613 @@ public abstract class BaseRandom extends Random
   }
 
   /**
-   * Chooses a random element from the given list.
+   * Chooses a random element from the given list.
+   *
+   * @param list A non-empty {@link List} to choose from.
+   * @param <E> The element type of {@code list}; usually inferred by the compiler.
+   * @return An element chosen from {@code list} at random, with all elements having equal
+   *     probability.
+   */
+  public <E> E nextElement(final List<E> list) {
+    return list.get(nextInt(list.size()));
+  }
+
+  /**
+   * Chooses a random element using the given {@link WeightedSampler}, in constant time.
+   *
+   * @param sampler a sampler built from the elements and their weights.
+   * @param <E> The element type of {@code sampler}; usually inferred by the compiler.
+   * @return An element chosen at random, with probability proportional to its weight.
+   */
+  public <E> E nextElement(final WeightedSampler<E> sampler) {
+    return sampler.sample(this);
+  }
+
+  /**
+   * Chooses a random value of the given enum class.
+   *
+   * @param enumClass An enum class having at least one value.
+   * @param <E> The type of {@code enumClass}; usually inferred by the compiler.
+   * @return A value of {@code enumClass} chosen at random, with all elements having equal
+   *     probability.
+   */
+  public <E extends Enum<E>> E nextEnum(final Class<E> enumClass) {
+    return nextElement(enumClass.getEnumConstants());
+  }
+
+  /**
+   * <p>Randomly permutes the given array, with all permutations equally likely, using the
+   * Fisher-Yates shuffle. Unlike {@link java.util.Collections#shuffle(List, Random)}, which calls
+   * {@link #nextInt(int)} once per element, this takes the lock only once per batch of random
+   * input, debits the entropy only once, and extracts several indices from each 64-bit output when
+   * the array is small enough that their bounds allow it (e.g. 3 indices per output for arrays of
+   * up to 2<sup>20</sup> elements).</p>
+   *
+   * <p>The entropy debited is the sum, over the indices chosen, of the entropy of each index.</p>
+   *
+   * @param array the array to shuffle
+   */
+  public void shuffle(final int[] array) {
+    final int length = array.length;
+    if (length < 2) {
+      return;
+    }
+    fisherYates(length, 1, (i, j) -> {
+      final int temp = array[i];
+      array[i] = array[j];
+      array[j] = temp;
+    });
+  }
+
+  /**
+   * Randomly permutes the given array, with all permutations equally likely, in the same way as
+   * {@link #shuffle(int[])}.
+   *
+   * @param array the array to shuffle
+   */
+  public void shuffle(final long[] array) {
+    final int length = array.length;
+    if (length < 2) {
+      return;
+    }
+    fisherYates(length, 1, (i, j) -> {
+      final long temp = array[i];
+      array[i] = array[j];
+      array[j] = temp;
+    });
+  }
+
+  /**
+   * Randomly permutes the given array, with all permutations equally likely, in the same way as
+   * {@link #shuffle(int[])}.
+   *
+   * @param array the array to shuffle
+   */
+  public void shuffle(final Object[] array) {
+    final int length = array.length;
+    if (length < 2) {
+      return;
+    }
+    fisherYates(length, 1, (i, j) -> {
+      final Object temp = array[i];
+      array[i] = array[j];
+      array[j] = temp;
+    });
+  }
+
+  /**
+   * Randomly permutes the given list, with all permutations equally likely, in the same way as
+   * {@link #shuffle(int[])}. Like {@link java.util.Collections#shuffle(List, Random)}, a list that
+   * doesn't implement {@link RandomAccess} is copied into an array, shuffled there, and copied
+   * back, so that this takes linear time.
+   *
+   * @param list the list to shuffle; must support {@link List#set(int, Object)}
+   * @throws UnsupportedOperationException if {@code list} or its list-iterator doesn't support
+   *     the {@code set} operation
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"}) public void shuffle(final List<?> list) {
+    final int size = list.size();
+    if (size < 2) {
+      return;
+    }
+    if (!(list instanceof RandomAccess)) {
+      final Object[] array = list.toArray();
+      shuffle(array);
+      final ListIterator iterator = list.listIterator();
+      for (final Object element : array) {
+        iterator.next();
+        iterator.set(element);
+      }
+      return;
+    }
+    final List rawList = list;
+    fisherYates(size, 1, (i, j) -> rawList.set(i, rawList.set(j, rawList.get(i))));
+  }
+
+  /**
+   * Performs the Fisher-Yates shuffle behind {@link #shuffle(int[])} and its overloads, working
+   * down from the last index, and debits the entropy of the indices chosen.
+   *
+   * @param length the number of elements
+   * @param last the lowest index (at least 1) to swap into place; 1 for a full shuffle
+   * @param swapper swaps two elements, given their indices
+   */
+  private void fisherYates(final int length, final int last,
+      final SwapTargetGenerator.Swapper swapper) {
+    final SwapTargetGenerator generator = new SwapTargetGenerator(this, length - last);
+    final int[] targets = generator.targets();
+    for (int top = length - 1; top >= last; top -= targets.length) {
+      final int count = Math.min(targets.length, (top - last) + 1);
+      generator.fill(top, count);
+      for (int m = 0; m < count; m++) {
+        swapper.swap(top - m, targets[m]);
+      }
+    }
+    debitEntropy(generator.getEntropy());
+  }
+
+  /**
+   * <p>Chooses {@code k} distinct {@code int}s between 0 (inclusive) and {@code n} (exclusive),
+   * with all subsets of that size equally likely, without materializing a permutation of all
+   * {@code n} values. When {@code k} is less than a quarter of {@code n}, uses Floyd's algorithm
+   * (Bentley and Floyd, "A Sample of Brilliance", Communications of the ACM 30(9), 1987), which
+   * takes {@code O(k)} time and memory; otherwise, shuffles only the last {@code k} positions of
+   * an array of all {@code n} values. Indices are generated in batches in the same way as
+   * {@link #shuffle(int[])}.</p>
+   *
+   * <p>The order of the returned values is unspecified; use {@link #shuffle(int[])} on the result
+   * if a random order is needed.</p>
+   *
+   * @param n the number of values to choose from
+   * @param k the number of values to choose
+   * @return an array of {@code k} distinct values, each between 0 (inclusive) and {@code n}
+   *     (exclusive)
+   * @throws IllegalArgumentException if {@code k} is negative or greater than {@code n}
+   */
+  public int[] sampleWithoutReplacement(final int n, final int k) {
+    if ((k < 0) || (k > n)) {
+      throw new IllegalArgumentException(
+          String.format("Sample size %d must be between 0 and population size %d", k, n));
+    }
+    final int[] out = new int[k];
+    if (k == 0) {
+      return out;
+    }
+    if (k >= (n >>> 2)) {
+      // Dense: partial Fisher-Yates shuffle of the whole population
+      final int[] population = new int[n];
+      for (int i = 0; i < n; i++) {
+        population[i] = i;
+      }
+      fisherYates(n, Math.max(n - k, 1), (i, j) -> {
+        final int temp = population[i];
+        population[i] = population[j];
+        population[j] = temp;
+      });
+      System.arraycopy(population, n - k, out, 0, k);
+      return out;
+    }
+    // Sparse: Floyd's algorithm, with an open-addressing hash set of the values chosen so far.
+    // Entries are stored plus one, so that zero means empty.
+    final int tableSize = Integer.highestOneBit(k) << 2;
+    final int tableMask = tableSize - 1;
+    final int[] table = new int[tableSize];
+    final SwapTargetGenerator generator = new SwapTargetGenerator(this, k);
+    final int[] targets = generator.targets();
+    int chosen = 0;
+    for (int low = n - k; low < n; low += targets.length) {
+      final int count = Math.min(targets.length, n - low);
+      final int top = (low + count) - 1;
+      generator.fill(top, count);
+      // targets[m] is between 0 and top - m, so walk it backwards to visit j in ascending order
+      for (int m = count - 1; m >= 0; m--) {
+        final int j = top - m;
+        final int t = targets[m];
+        // Add t if it's not already chosen; otherwise add j, which can't have been
+        if (insertIfAbsent(table, tableMask, t)) {
+          out[chosen++] = t;
+        } else {
+          insertIfAbsent(table, tableMask, j);
+          out[chosen++] = j;
+        }
+      }
+    }
+    debitEntropy(generator.getEntropy());
+    return out;
+  }
+
+  /**
+   * Adds a value to an open-addressing hash set used by
+   * {@link #sampleWithoutReplacement(int, int)}.
+   *
+   * @param table the hash table, whose entries are values plus one, or 0 for empty slots
+   * @param mask the table length minus one; the length must be a power of 2
+   * @param value the value to add
+   * @return true if the value was added; false if it was already present
+   */
+  private static boolean insertIfAbsent(final int[] table, final int mask, final int value) {
+    final int entry = value + 1;
+    // Fibonacci hashing: the upper bits of the product are the well-mixed ones
+    int slot = (value * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mask);
+    while (table[slot] != 0) {
+      if (table[slot] == entry) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = entry;
+    return true;
+  }
+
+  /**
+   * Generates the next pseudorandom number. Called by all other random-number-generating methods.
+   * Should not debit the entropy count, since that's done by the calling methods according to the
+   * amount they actually output (see for example {@link #withProbability(double)}, which uses 53
+   * random bits but outputs only one, and thus debits only 1 bit of entropy).
+   */
+  @Override protected abstract int next(int bits);
+
+  /**
+   * Generates random bytes and places them into a user-supplied byte array. The number of random
+   * bytes produced is equal to the length of the byte array. Reimplemented for entropy-counting
+   * purposes, and to take the lock and debit the entropy only once per call.
+   *
+   * <p>The bytes are filled 8 at a time, least-significant byte first, from successive
+   * 64-bit outputs of {@link #nextLongNoEntropyDebit()} (i.e. the same values that
+   * {@link #nextLong()} would have returned). If the length isn't a multiple of 8, the last few
+   * bytes are the least-significant bytes of one more such output, and its remaining bytes are
+   * discarded.</p>
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
+      final byte[] bytes) {
+    final int length = bytes.length;
+    if (length == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      int i = 0;
+      while (i < length) {
+        long word = nextLongNoEntropyDebit();
+        final int end = Math.min(i + Long.BYTES, length);
+        for (; i < end; i++) {
+          bytes[i] = (byte) word;
+          word >>>= Byte.SIZE;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(((long) Byte.SIZE) * length);
+  }
+
+  /**
+   * Fills the remaining space in the given buffer (between its position and its limit) with random
+   * bytes, and advances its position to its limit. The bytes are the same ones that
+   * {@link #nextBytes(byte[])} would produce for an array of length {@code dest.remaining()}, but
+   * for a direct buffer they're written 8 at a time with {@link ByteBuffer#putLong(long)}, without
+   * an intermediate array. The buffer's {@link ByteBuffer#order() byte order} isn't changed.
+   *
+   * @param dest the buffer to fill
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only and has space remaining
+   */
+  public void nextBytes(final ByteBuffer dest) {
+    final int length = dest.remaining();
+    if (length == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      fillBytes(dest, this::nextLongNoEntropyDebit);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(((long) Byte.SIZE) * length);
+  }
+
+  /**
+   * Fills the remaining space in the given buffer with the bytes of successive outputs of
+   * {@code source}, least-significant byte first (the same order as {@link #nextBytes(byte[])}),
+   * and advances its position to its limit. Doesn't lock or debit entropy.
+   *
+   * @param dest the buffer to fill
+   * @param source the source of 64-bit pseudorandom words
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  protected static void fillBytes(final ByteBuffer dest, final LongSupplier source) {
+    // Duplicate so that we don't change the caller's byte order
+    final ByteBuffer littleEndian = dest.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    while (littleEndian.remaining() >= Long.BYTES) {
+      littleEndian.putLong(source.getAsLong());
+    }
+    if (littleEndian.hasRemaining()) {
+      long word = source.getAsLong();
+      do {
+        littleEndian.put((byte) word);
+        word >>>= Byte.SIZE;
+      } while (littleEndian.hasRemaining());
+    }
+    // Cast needed for Java 8 compatibility, since ByteBuffer.position(int) is covariant in 9+
+    ((Buffer) dest).position(dest.limit());
+  }
+
+  @Override public int nextInt() {
+    debitEntropy(Integer.SIZE);
+    return super.nextInt();
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code int} values, each having all 2<sup>32</sup>
+   * possible values equally likely. Equivalent to calling {@link #nextInt()} once for each element
+   * in order, except that the lock is taken and the entropy is debited only once.
+   *
+   * @param dest the array to fill
+   */
+  public void nextInts(final int[] dest) {
+    nextInts(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of the given array with pseudorandom {@code int} values, each having all
+   * 2<sup>32</sup> possible values equally likely. Equivalent to calling {@link #nextInt()} once
+   * for each element in order, except that the lock is taken and the entropy is debited only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code dest}
+   */
+  public void nextInts(final int[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    if (len == 0) {
+      return;
+    }
+    nextIntsNoEntropyDebit(dest, off, len);
+    debitEntropy(((long) Integer.SIZE) * len);
+  }
+
+  /**
+   * Fills part of the given array with pseudorandom {@code int} values between the specified origin
+   * (inclusive) and the specified bound (exclusive). Equivalent to calling
+   * {@link #nextBoundedInt(int, int)} once for each element in order, except that the candidates
+   * are drawn in bulk by {@link #nextIntsNoEntropyDebit(int[], int, int)} and the entropy is
+   * debited only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @param origin the least value to output
+   * @param bound the upper bound (exclusive)
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code dest}
+   */
+  public void nextInts(final int[] dest, final int off, final int len, final int origin,
+      final int bound) {
+    checkValidRange(origin, bound);
+    checkArrayRange(dest.length, off, len);
+    if (len == 0) {
+      return;
+    }
+    final long range = ((long) bound) - origin;
+    // 2^32 mod range; candidates whose low half is below this are over-represented
+    final long threshold = ((1L << Integer.SIZE) - range) % range;
+    final int end = off + len;
+    // Outputs are written at out, behind the candidates being read at in. Each refill draws only
+    // as many candidates as there are outputs left, so none are wasted, and they're consumed in
+    // the same order as by nextBoundedInt.
+    int out = off;
+    while (out < end) {
+      nextIntsNoEntropyDebit(dest, out, end - out);
+      for (int in = out; in < end; in++) {
+        final long product = (dest[in] & UNSIGNED_INT_TO_LONG_MASK) * range;
+        if ((product & UNSIGNED_INT_TO_LONG_MASK) >= threshold) {
+          dest[out] = origin + (int) (product >>> Integer.SIZE);
+          out++;
+        }
+      }
+    }
+    debitEntropy(((long) entropyOfInt(origin, bound)) * len);
+  }
+
+  /**
+   * Fills part of the given array with the same values that {@link #nextInt()} would return if
+   * called that many times, but does not debit entropy. Should be overridden to generate them in a
+   * tight loop while holding {@link #lock} only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   */
+  protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = next(Integer.SIZE);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code long} values. Equivalent to calling {@link
+   * #nextLong()} once for each element in order, except that the lock is taken and the entropy is
+   * debited only once.
+   *
+   * @param dest the array to fill
+   */
+  public void nextLongs(final long[] dest) {
+    nextLongs(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of the given array with pseudorandom {@code long} values. Equivalent to calling
+   * {@link #nextLong()} once for each element in order, except that the lock is taken and the
+   * entropy is debited only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code dest}
+   */
+  public void nextLongs(final long[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    if (len == 0) {
+      return;
+    }
+    nextLongsNoEntropyDebit(dest, off, len);
+    debitEntropy(((long) Long.SIZE) * len);
+  }
+
+  /**
+   * Fills part of the given array with the same values that {@link #nextLongNoEntropyDebit()} would
+   * return if called that many times. Should be overridden to generate them in a tight loop while
+   * holding {@link #lock} only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   */
+  protected void nextLongsNoEntropyDebit(final long[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextLongNoEntropyDebit();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code double} values between 0.0 (inclusive) and 1.0
+   * (exclusive). Equivalent to calling {@link #nextDouble()} once for each element in order, except
+   * that the lock is taken and the entropy is debited only once.
+   *
+   * @param dest the array to fill
+   */
+  public void nextDoubles(final double[] dest) {
+    nextDoubles(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of the given array with pseudorandom {@code double} values between 0.0 (inclusive)
+   * and 1.0 (exclusive). Equivalent to calling {@link #nextDouble()} once for each element in
+   * order, except that the lock is taken and the entropy is debited only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code dest}
+   */
+  public void nextDoubles(final double[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    if (len == 0) {
+      return;
+    }
+    nextDoublesNoEntropyDebit(dest, off, len);
+    debitEntropy(((long) ENTROPY_OF_DOUBLE) * len);
+  }
+
+  /**
+   * Fills part of the given array with the same values that {@link #nextDoubleNoEntropyDebit()}
+   * would return if called that many times. Should be overridden to generate them in a tight loop
+   * while holding {@link #lock} only once.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   */
+  protected void nextDoublesNoEntropyDebit(final double[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextDoubleNoEntropyDebit();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Fills the given array with pseudorandom, Gaussian ("normally") distributed {@code double}
+   * values with mean 0.0 and standard deviation 1.0. Equivalent to calling {@link #nextGaussian()}
+   * once for each element in order, except that the lock is taken and the entropy is debited only
+   * once.
    *
-   * @param list A non-empty {@link List} to choose from.
-   * @param <E> The element type of {@code list}; usually inferred by the compiler.
-   * @return An element chosen from {@code list} at random, with all elements having equal
-   *     probability.
+   * @param dest the array to fill
    */
-  public <E> E nextElement(final List<E> list) {
-    return list.get(nextInt(list.size()));
+  public void nextGaussians(final double[] dest) {
+    nextGaussians(dest, 0, dest.length);
   }
 
   /**
-   * Chooses a random value of the given enum class.
+   * Fills part of the given array with pseudorandom, Gaussian ("normally") distributed {@code
+   * double} values with mean 0.0 and standard deviation 1.0. Equivalent to calling {@link
+   * #nextGaussian()} once for each element in order, except that the lock is taken and the entropy
+   * is debited only once.
    *
-   * @param enumClass An enum class having at least one value.
-   * @param <E> The type of {@code enumClass}; usually inferred by the compiler.
-   * @return A value of {@code enumClass} chosen at random, with all elements having equal
-   *     probability.
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} don't describe a range within
+   *     {@code dest}
    */
-  public <E extends Enum<E>> E nextEnum(final Class<E> enumClass) {
-    return nextElement(enumClass.getEnumConstants());
+  public void nextGaussians(final double[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    if (len == 0) {
+      return;
+    }
+    // Upper bound, as in nextGaussian()
+    debitEntropy(((long) ENTROPY_OF_DOUBLE) * len);
+    lock.lock();
+    try {
+      internalNextGaussians(dest, off, len, this::nextLongNoEntropyDebit);
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
-   * Generates the next pseudorandom number. Called by all other random-number-generating methods.
-   * Should not debit the entropy count, since that's done by the calling methods according to the
-   * amount they actually output (see for example {@link #withProbability(double)}, which uses 53
-   * random bits but outputs only one, and thus debits only 1 bit of entropy).
+   * Combines two 32-bit outputs of {@link #next(int) next(32)} into a {@code double} the same way
+   * {@link Random#nextDouble()} does, so that subclasses can implement
+   * {@link #nextDoublesNoEntropyDebit(double[], int, int)} without calling {@link #next(int)}.
+   *
+   * @param first the first output
+   * @param second the second output
+   * @return the same {@code double} that {@link Random#nextDouble()} would have returned if
+   *     {@link #next(int)} had used these outputs
    */
-  @Override protected abstract int next(int bits);
+  protected static double intsToDouble(final int first, final int second) {
+    return ((((long) (first >>> (Integer.SIZE - 26))) << 27) + (second >>> (Integer.SIZE - 27)))
+        * DOUBLE_UNIT;
+  }
 
   /**
-   * Generates random bytes and places them into a user-supplied byte array. The number of random
-   * bytes produced is equal to the length of the byte array. Reimplemented for entropy-counting
-   * purposes.
+   * Checks that {@code off} and {@code len} describe a range within an array of length
+   * {@code arrayLength}.
+   *
+   * @param arrayLength the length of the array
+   * @param off the index of the first element in the range
+   * @param len the number of elements in the range
+   * @throws IndexOutOfBoundsException if the range isn't within the array
    */
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
-      final byte[] bytes) {
-    for (int i = 0; i < bytes.length; i++) {
-      bytes[i] = (byte) next(Byte.SIZE);
-      debitEntropy(Byte.SIZE);
+  protected static void checkArrayRange(final int arrayLength, final int off, final int len) {
+    if ((off < 0) || (len < 0) || (len > (arrayLength - off))) {
+      throw new IndexOutOfBoundsException(
+          String.format("Range [%d, %d + %d) out of bounds for length %d", off, off, len,
+              arrayLength));
     }
   }
 
-  @Override public int nextInt() {
-    debitEntropy(Integer.SIZE);
-    return super.nextInt();
-  }
-
   @Override public int nextInt(final int bound) {
     debitEntropy(entropyOfInt(0, bound));
     return super.nextInt(bound);
@@ -305,11 +1145,34 @@ public abstract class BaseRandom extends Random
    *     bound}
    */
   public double nextDouble(final double origin, final double bound) {
+    checkValidRange(origin, bound);
+    return scaleDouble(nextDouble(), origin, bound);
+  }
+
+  /**
+   * Ensures that {@code bound > origin}.
+   * @param origin the minimum, inclusive
+   * @param bound the maximum, exclusive
+   * @throws IllegalArgumentException if {@code bound <= origin}
+   */
+  private static void checkValidRange(final double origin, final double bound) {
     if (bound <= origin) {
       throw new IllegalArgumentException(
           String.format("Bound %f must be greater than origin %f", bound, origin));
     }
-    final double out = (nextDouble() * (bound - origin)) + origin;
+  }
+
+  /**
+   * Maps a {@code double} between 0.0 (inclusive) and 1.0 (exclusive) onto the range from
+   * {@code origin} (inclusive) to {@code bound} (exclusive).
+   *
+   * @param unit a value between 0.0 (inclusive) and 1.0 (exclusive)
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive)
+   * @return the scaled value
+   */
+  private static double scaleDouble(final double unit, final double origin, final double bound) {
+    final double out = (unit * (bound - origin)) + origin;
     if (out >= bound) {
       // correct for rounding
       return Double.longBitsToDouble(Double.doubleToRawLongBits(bound) - 1);
@@ -341,23 +1204,211 @@ public abstract class BaseRandom extends Random
     return maybeParallel(DoubleStream.generate(this::nextDouble));
   }
 
+  /**
+   * <p>Returns a stream producing the given number of pseudorandom doubles, each between 0.0
+   * (inclusive) and 1.0 (exclusive).</p><p>This implementation uses {@link #nextDouble()} to
+   * generate these numbers. If this PRNG is {@link SeekableRandom seekable}, the stream is
+   * {@link #seekableDoubles(long, long, long, ToDoubleFunction) split by seeking}, and produces the
+   * same values as {@code streamSize} calls to {@link #nextDouble()} would have.</p>
+   */
   @Override public DoubleStream doubles(final long streamSize) {
-    return streamOfSize(streamSize).mapToDouble(ignored -> nextDouble());
+    final DoubleStream seekable = seekableDoubles(streamSize, ENTROPY_OF_DOUBLE,
+        getAdvanceStepsPerLong(), BaseRandom::nextDoubleNoEntropyDebit);
+    return (seekable != null) ? seekable : doublesOfSize(streamSize, this::nextDouble);
   }
 
   private LongStream streamOfSize(final long streamSize) {
     return maybeParallel(LongStream.range(0, streamSize).unordered());
   }
 
+  private DoubleStream doublesOfSize(final long streamSize, final DoubleSupplier nextDouble) {
+    return streamOfSize(streamSize).mapToDouble(ignored -> nextDouble.getAsDouble());
+  }
+
   /**
    * Returns a stream producing the given number of pseudorandom doubles, each conforming to the
-   * given origin (inclusive) and bound (exclusive). This implementation uses {@link
-   * #nextDouble(double, double)} to generate these numbers.
+   * given origin (inclusive) and bound (exclusive). This implementation uses
+   * {@link #nextDouble(double, double)} to generate these numbers. If this PRNG is
+   * {@link SeekableRandom seekable}, the stream is split by seeking as in {@link #doubles(long)}.
    */
   @Override public DoubleStream doubles(final long streamSize, final double randomNumberOrigin,
       final double randomNumberBound) {
-    return streamOfSize(streamSize)
-        .mapToDouble(ignored -> nextDouble(randomNumberOrigin, randomNumberBound));
+    checkValidRange(randomNumberOrigin, randomNumberBound);
+    final DoubleStream seekable = seekableDoubles(streamSize, ENTROPY_OF_DOUBLE,
+        getAdvanceStepsPerLong(),
+        copy -> scaleDouble(copy.nextDoubleNoEntropyDebit(), randomNumberOrigin,
+            randomNumberBound));
+    return (seekable != null) ? seekable
+        : doublesOfSize(streamSize, () -> nextDouble(randomNumberOrigin, randomNumberBound));
+  }
+
+  /**
+   * <p>If this PRNG is {@link SeekableRandom seekable} (i.e. {@link #copyState()} doesn't return
+   * null), reserves its next {@code streamSize} outputs for a stream and returns that stream.
+   * The stream is backed by a spliterator that gives each fork-join worker its own copy of this
+   * PRNG, {@link SeekableRandom#advance(long) advanced} to the start of that worker's share of the
+   * output; so parallel consumers don't contend for this PRNG's state, and the values depend only
+   * on this PRNG's state when the stream is created and not on how the stream is split. This PRNG
+   * is advanced past the reserved outputs immediately, and the entropy for the whole stream is
+   * debited immediately.</p>
+   *
+   * <p>Each value must take exactly {@code stepsPerValue} steps, so the values are the same ones
+   * that {@code output} would have produced from this PRNG, and this PRNG is left in the same state
+   * as if it had produced them directly. Streams whose values can take a variable number of steps,
+   * such as {@link #gaussians(long)}, don't use this method, since splitting them would change
+   * their output.</p>
+   *
+   * <p>If the number of steps to skip past the stream doesn't fit in a {@code long}, as when
+   * {@code streamSize} is {@link Long#MAX_VALUE} to ask for an effectively unlimited stream, this
+   * returns null and the caller falls back to a stream that draws from this PRNG's own state, like
+   * {@link #doubles()} does.</p>
+   *
+   * @param streamSize the number of values to generate
+   * @param entropyPerValue the entropy to debit for each value
+   * @param stepsPerValue the number of {@link SeekableRandom#advance(long) steps} each value takes
+   * @param output generates a value from a copy of this PRNG, without debiting entropy
+   * @return a stream of {@code streamSize} values, or null if this PRNG isn't seekable or the
+   *     stream is too long to skip past
+   */
+  @Nullable private DoubleStream seekableDoubles(final long streamSize,
+      final long entropyPerValue, final long stepsPerValue,
+      final ToDoubleFunction<BaseRandom> output) {
+    final BaseRandom origin = reserveForStream(streamSize, entropyPerValue, stepsPerValue);
+    return (origin == null) ? null : StreamSupport.doubleStream(
+        new SeekableRandomSpliterator.Doubles(origin, stepsPerValue, 0, streamSize, output),
+        usesParallelStreams());
+  }
+
+  /**
+   * Like {@link #seekableDoubles(long, long, long, ToDoubleFunction)}, but for {@code long}
+   * values.
+   *
+   * @param streamSize the number of values to generate
+   * @param entropyPerValue the entropy to debit for each value
+   * @param stepsPerValue the number of {@link SeekableRandom#advance(long) steps} each value takes
+   * @param output generates a value from a copy of this PRNG, without debiting entropy
+   * @return a stream of {@code streamSize} values, or null if this PRNG isn't seekable or the
+   *     stream is too long to skip past
+   */
+  @Nullable private LongStream seekableLongs(final long streamSize, final long entropyPerValue,
+      final long stepsPerValue, final ToLongFunction<BaseRandom> output) {
+    final BaseRandom origin = reserveForStream(streamSize, entropyPerValue, stepsPerValue);
+    return (origin == null) ? null : StreamSupport.longStream(
+        new SeekableRandomSpliterator.Longs(origin, stepsPerValue, 0, streamSize, output),
+        usesParallelStreams());
+  }
+
+  /**
+   * Like {@link #seekableDoubles(long, long, long, ToDoubleFunction)}, but for {@code int}
+   * values.
+   *
+   * @param streamSize the number of values to generate
+   * @param entropyPerValue the entropy to debit for each value
+   * @param stepsPerValue the number of {@link SeekableRandom#advance(long) steps} each value takes
+   * @param output generates a value from a copy of this PRNG, without debiting entropy
+   * @return a stream of {@code streamSize} values, or null if this PRNG isn't seekable or the
+   *     stream is too long to skip past
+   */
+  @Nullable private IntStream seekableInts(final long streamSize, final long entropyPerValue,
+      final long stepsPerValue, final ToIntFunction<BaseRandom> output) {
+    final BaseRandom origin = reserveForStream(streamSize, entropyPerValue, stepsPerValue);
+    return (origin == null) ? null : StreamSupport.intStream(
+        new SeekableRandomSpliterator.Ints(origin, stepsPerValue, 0, streamSize, output),
+        usesParallelStreams());
+  }
+
+  /**
+   * Copies the current state of this PRNG for a stream, then advances this PRNG past the outputs
+   * the stream will use and debits their entropy.
+   *
+   * @param streamSize the number of values the stream will generate
+   * @param entropyPerValue the entropy to debit for each value
+   * @param stepsPerValue the number of {@link SeekableRandom#advance(long) steps} each value takes
+   * @return a copy of this PRNG's state before advancing, or null if this PRNG isn't seekable or
+   *     the stream is too long to skip past
+   */
+  @Nullable private BaseRandom reserveForStream(final long streamSize, final long entropyPerValue,
+      final long stepsPerValue) {
+    if (streamSize < 0) {
+      throw new IllegalArgumentException("Stream size must be non-negative");
+    }
+    if (!(this instanceof SeekableRandom)) {
+      return null;
+    }
+    final long stepsToSkip;
+    try {
+      stepsToSkip = Math.multiplyExact(streamSize, stepsPerValue);
+    } catch (final ArithmeticException e) {
+      // Can't advance past the stream without wrapping around into it
+      return null;
+    }
+    final BaseRandom origin;
+    lock.lock();
+    try {
+      origin = copyState();
+      if (origin == null) {
+        return null;
+      }
+      ((SeekableRandom) this).advance(stepsToSkip);
+    } finally {
+      lock.unlock();
+    }
+    final boolean overflow =
+        (entropyPerValue > 0) && (streamSize > (Long.MAX_VALUE / entropyPerValue));
+    debitEntropy(overflow ? Long.MAX_VALUE : (streamSize * entropyPerValue));
+    return origin;
+  }
+
+  /**
+   * <p>Returns a new PRNG whose state is a copy of this one's current state, so that its output
+   * continues this PRNG's sequence without affecting this PRNG. Used by the sized streams of a
+   * {@link SeekableRandom}: a non-null result means the stream can be
+   * {@link #doubles(long) split by seeking}, which lets each fork-join worker own its own
+   * sub-sequence. The copy is used by one thread at a time, so it may be
+   * {@link #isThreadConfined() thread-confined}, but calling this method on the copy must not
+   * modify it, even though several threads may do so concurrently. It doesn't need a
+   * {@link RandomSeeder}, and its entropy count is never used.</p>
+   *
+   * <p>Called with the {@link #lock} held. The default implementation returns null, so streams
+   * draw directly from this PRNG; only a {@link SeekableRandom} should override it.</p>
+   *
+   * @return a copy of this PRNG, or null if this PRNG doesn't support copying for streams
+   */
+  @Nullable protected BaseRandom copyState() {
+    return null;
+  }
+
+  /**
+   * Returns the number of steps (as counted by {@link SeekableRandom#advance(long)}) that each
+   * {@link #nextLongNoEntropyDebit()} call, and each {@link #nextDoubleNoEntropyDebit()} call,
+   * advances this PRNG by. Only meaningful when {@link #copyState()} doesn't return null.
+   *
+   * @return the number of steps per {@code long} output
+   */
+  protected long getAdvanceStepsPerLong() {
+    return 1;
+  }
+
+  /**
+   * Returns the number of steps (as counted by {@link SeekableRandom#advance(long)}) that each
+   * {@code next(32)} call, and thus each {@link #nextInt()} call, advances this PRNG by. Only
+   * meaningful when {@link #copyState()} doesn't return null.
+   *
+   * @return the number of steps per {@code int} output
+   */
+  protected long getAdvanceStepsPerInt() {
+    return 1;
+  }
+
+  /**
+   * Converts a {@code long} to a {@code double} between 0.0 (inclusive) and 1.0 (exclusive), using
+   * its 53 most significant bits.
+   *
+   * @param bits a pseudorandom {@code long}
+   * @return a pseudorandom {@code double}
+   */
+  protected static double longToDouble(final long bits) {
+    return (bits >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT;
   }
 
   /**
@@ -373,19 +1424,25 @@ public abstract class BaseRandom extends Random
 
   /**
    * Returns a stream producing the given number of pseudorandom doubles that are normally
-   * distributed with mean 0.0 and standard deviation 1.0. This implementation uses {@link
-   * #nextGaussian()}.
+   * distributed with mean 0.0 and standard deviation 1.0. This implementation uses
+   * {@link #nextGaussian()}. Since a value can take more than one {@link #nextLong()} output, the
+   * stream isn't {@link #doubles(long) split by seeking} even if this PRNG is seekable, because that
+   * would change its output.
    *
    * @param streamSize the number of doubles to generate.
    * @return a stream of {@code streamSize} normally-distributed random doubles.
    */
   public DoubleStream gaussians(final long streamSize) {
-    return streamOfSize(streamSize).mapToDouble(ignored -> nextGaussian());
+    return doublesOfSize(streamSize, this::nextGaussian);
   }
 
+  /**
+   * {@inheritDoc}<p>Each {@code long} of the underlying output is split into 64 booleans.</p>
+   */
   @Override public boolean nextBoolean() {
+    final long bit = takeBufferedBits(1);
     debitEntropy(1);
-    return super.nextBoolean();
+    return bit != 0;
   }
 
   @Override public float nextFloat() {
@@ -400,7 +1457,10 @@ public abstract class BaseRandom extends Random
 
   /**
    * Returns the next random {@code double} between 0.0 (inclusive) and 1.0 (exclusive), but does
-   * not debit entropy.
+   * not debit entropy. This implementation takes two outputs of {@link #next(int)}, as
+   * {@link Random#nextDouble()} does; subclasses that override {@link #nextLong64()} with a single
+   * step of their algorithm should override this to use it, usually through
+   * {@link #longToDouble(long)}.
    *
    * @return a pseudorandom {@code double}.
    */
@@ -416,72 +1476,63 @@ public abstract class BaseRandom extends Random
   /**
    * Returns the next pseudorandom, Gaussian ("normally") distributed double value with mean 0.0 and
    * standard deviation 1.0 from this random number generator's sequence. Unlike the one in {@link
-   * Random}, this implementation is lockless.
+   * Random}, this implementation uses the ziggurat method, which usually needs only one {@link
+   * #nextLong()}-sized output, and keeps no second value between calls. This means it never takes
+   * the lock for longer than one {@link #nextLong()} call does, and that its output depends only on
+   * the state of the underlying PRNG.
    */
   @SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod") @Override public double nextGaussian() {
-    // Upper bound. 2 Gaussians are generated from 2 nextDouble calls, which once made are either
-    // used or rerolled.
+    // Upper bound. Most outputs come from a single nextLong, but some need a few more; the
+    // output can't carry more entropy than a double anyway.
     debitEntropy(ENTROPY_OF_DOUBLE);
-    return internalNextGaussian(this::nextDoubleNoEntropyDebit);
+    return internalNextGaussian(this::nextLongNoEntropyDebit);
   }
 
   /**
-   * Core of a reimplementation of {@link #nextGaussian()} whose locking is overridable and doesn't
-   * happen when a value is already stored.
+   * Core of a reimplementation of {@link #nextGaussian()} that doesn't debit entropy or do any
+   * locking of its own, so that subclasses can supply their own source of random {@code long}s.
    *
-   * @param nextDouble shall return a random number between 0 and 1, like {@link #nextDouble()},
-   *     but shall not debit the entropy count.
+   * @param nextLong shall return a random {@code long}, like {@link #nextLong()}, but shall not
+   *     debit the entropy count.
    * @return a random number that is normally distributed with mean 0 and standard deviation 1.
    */
-  protected double internalNextGaussian(
-      final DoubleSupplier nextDouble) {
-    // See Knuth, ACP, Section 3.4.1 Algorithm C.
-    final double firstTryOut = takeNextNextGaussian();
-    if (Double.isNaN(firstTryOut))
-      return firstTryOut;
-    lockForNextGaussian();
-    try {
-      // Another output may have become available while we waited for the lock
-      final double secondTryOut = takeNextNextGaussian();
-      if (!Double.isNaN(secondTryOut)) {
-        return secondTryOut;
-      }
-      double s;
-      double v1;
-      double v2;
-      do {
-        v1 = (2 * nextDouble.getAsDouble()) - 1; // between -1 and 1
-        v2 = (2 * nextDouble.getAsDouble()) - 1; // between -1 and 1
-        s = (v1 * v1) + (v2 * v2);
-      } while ((s >= 1) || (s == 0));
-      final double multiplier = StrictMath.sqrt((-2 * StrictMath.log(s)) / s);
-      nextNextGaussian.set(Double.doubleToRawLongBits(v2 * multiplier));
-      return v1 * multiplier;
-    } finally {
-      unlockForNextGaussian();
-    }
-  }
-
-  private double takeNextNextGaussian() {
-    return Double.longBitsToDouble(nextNextGaussian.getAndSet(NAN_LONG_BITS));
+  protected double internalNextGaussian(final LongSupplier nextLong) {
+    return ZigguratGaussian.nextGaussian(nextLong);
   }
 
   /**
-   * Performs whatever locking is needed by {@link #nextGaussian()}.
+   * Bulk counterpart of {@link #internalNextGaussian(LongSupplier)}. Fills part of the given
+   * array with the same values that many calls to {@link #internalNextGaussian(LongSupplier)}
+   * would return. The caller is responsible for any locking.
+   *
+   * @param dest the array to fill
+   * @param off the index of the first element to fill
+   * @param len the number of elements to fill
+   * @param nextLong shall return a random {@code long}, like {@link #nextLong()}, but shall not
+   *     debit the entropy count.
    */
-  protected void lockForNextGaussian() {
-    lock.lock();
+  protected void internalNextGaussians(final double[] dest, final int off, final int len,
+      final LongSupplier nextLong) {
+    final int end = off + len;
+    for (int i = off; i < end; i++) {
+      dest[i] = internalNextGaussian(nextLong);
+    }
   }
 
   /**
-   * Releases the locks acquired by {@link #lockForNextGaussian()}.
+   * Returns a stream producing the given number of pseudorandom ints. This implementation uses
+   * {@link #nextInt()}. If this PRNG is {@link SeekableRandom seekable}, the stream is
+   * {@link #doubles(long) split by seeking}, and produces the same values as {@code streamSize}
+   * calls to {@link #nextInt()} would have.
    */
-  protected void unlockForNextGaussian() {
-    lock.unlock();
+  @Override public IntStream ints(final long streamSize) {
+    final IntStream seekable = seekableInts(streamSize, Integer.SIZE, getAdvanceStepsPerInt(),
+        copy -> copy.next(Integer.SIZE));
+    return (seekable != null) ? seekable : intsOfSize(streamSize, this::nextInt);
   }
 
-  @Override public IntStream ints(final long streamSize) {
-    return streamOfSize(streamSize).mapToInt(ignored -> nextInt());
+  private IntStream intsOfSize(final long streamSize, final IntSupplier nextInt) {
+    return streamOfSize(streamSize).mapToInt(ignored -> nextInt.getAsInt());
   }
 
   @Override public IntStream ints() {
@@ -491,12 +1542,13 @@ public abstract class BaseRandom extends Random
   /**
    * Returns a stream producing the given number of pseudorandom ints, each conforming to the given
    * origin (inclusive) and bound (exclusive). This implementation uses {@link #nextInt(int, int)}
-   * to generate these numbers.
+   * to generate these numbers. Since a value can take more than one {@link #nextInt()} output, the
+   * stream isn't {@link #doubles(long) split by seeking} even if this PRNG is seekable.
    */
   @Override public IntStream ints(final long streamSize, final int randomNumberOrigin,
       final int randomNumberBound) {
-    return streamOfSize(streamSize)
-        .mapToInt(ignored -> nextInt(randomNumberOrigin, randomNumberBound));
+    checkValidRange(randomNumberOrigin, randomNumberBound);
+    return intsOfSize(streamSize, () -> nextInt(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -526,6 +1578,71 @@ public abstract class BaseRandom extends Random
     }
   }
 
+  /**
+   * <p>Returns a pseudorandom {@code int} value between zero (inclusive) and the specified bound
+   * (exclusive), using Lemire's nearly divisionless method ("Fast Random Integer Generation in an
+   * Interval", 2019) instead of the modulo-based rejection loop of {@link #nextInt(int)}. Each
+   * candidate costs one 32-bit multiplication, and a division is only needed in the rare case
+   * where the candidate might have to be rejected.</p>
+   *
+   * <p>Uses the same 32-bit outputs as {@link #nextInt(int)} but maps them differently, so for a
+   * given seed, the output differs from that of {@link #nextInt(int)}.</p>
+   *
+   * @param bound the upper bound (exclusive); must be positive
+   * @return a pseudorandom {@code int} value between zero (inclusive) and the bound (exclusive)
+   * @throws IllegalArgumentException if {@code bound} is not positive
+   */
+  public int nextBoundedInt(final int bound) {
+    return nextBoundedInt(0, bound);
+  }
+
+  /**
+   * Returns a pseudorandom {@code int} value between the specified origin (inclusive) and the
+   * specified bound (exclusive), using the same method as {@link #nextBoundedInt(int)}. Unlike
+   * {@link #nextInt(int, int)}, this never has to reject more than a small fraction of candidates,
+   * even when the range is wider than {@link Integer#MAX_VALUE}.
+   *
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive)
+   * @return a pseudorandom {@code int} value between the origin (inclusive) and the bound
+   *     (exclusive)
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public int nextBoundedInt(final int origin, final int bound) {
+    checkValidRange(origin, bound);
+    final int out = internalNextBoundedInt(() -> next(Integer.SIZE), origin, bound);
+    debitEntropy(entropyOfInt(origin, bound));
+    return out;
+  }
+
+  /**
+   * Core of {@link #nextBoundedInt(int, int)}, which doesn't lock or debit entropy, so that it can
+   * be used with any source of random {@code int}s.
+   *
+   * @param nextInt shall return a random {@code int}, like {@link #nextInt()}, but shall not
+   *     debit the entropy count.
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive); must be greater than {@code origin}
+   * @return a pseudorandom {@code int} value between the origin (inclusive) and the bound
+   *     (exclusive)
+   */
+  protected static int internalNextBoundedInt(final IntSupplier nextInt, final int origin,
+      final int bound) {
+    final long range = ((long) bound) - origin;
+    long product = (nextInt.getAsInt() & UNSIGNED_INT_TO_LONG_MASK) * range;
+    long low = product & UNSIGNED_INT_TO_LONG_MASK;
+    if (low < range) {
+      // 2^32 mod range; candidates whose low half is below this are over-represented
+      final long threshold = ((1L << Integer.SIZE) - range) % range;
+      while (low < threshold) {
+        product = (nextInt.getAsInt() & UNSIGNED_INT_TO_LONG_MASK) * range;
+        low = product & UNSIGNED_INT_TO_LONG_MASK;
+      }
+    }
+    return origin + (int) (product >>> Integer.SIZE);
+  }
+
   /**
    * Ensures that {@code bound > origin}.
    * @param origin the minimum, inclusive
@@ -548,8 +1665,20 @@ public abstract class BaseRandom extends Random
     return maybeParallel(IntStream.generate(() -> nextInt(randomNumberOrigin, randomNumberBound)));
   }
 
+  /**
+   * Returns a stream producing the given number of pseudorandom longs. If this PRNG is
+   * {@link SeekableRandom seekable}, the stream is {@link #doubles(long) split by seeking}, and
+   * produces the same values as {@code streamSize} calls to {@link #nextLong()} would have.
+   * Otherwise, this implementation uses {@link #nextLong()}.
+   */
   @Override public LongStream longs(final long streamSize) {
-    return streamOfSize(streamSize).map(ignored -> nextLong());
+    final LongStream seekable = seekableLongs(streamSize, Long.SIZE, getAdvanceStepsPerLong(),
+        BaseRandom::nextLongNoEntropyDebit);
+    return (seekable != null) ? seekable : longsOfSize(streamSize, this::nextLong);
+  }
+
+  private LongStream longsOfSize(final long streamSize, final LongSupplier nextLong) {
+    return streamOfSize(streamSize).map(ignored -> nextLong.getAsLong());
   }
 
   /**
@@ -564,11 +1693,14 @@ public abstract class BaseRandom extends Random
   /**
    * <p>Returns a stream producing the given number of pseudorandom longs, each conforming to the
    * given origin (inclusive) and bound (exclusive). This implementation uses
-   * {@link #nextLong(long, long)} to generate these numbers.</p>
+   * {@link #nextLong(long, long)} to generate these numbers. Since a value can take more than one
+   * {@link #nextLong()} output, the stream isn't {@link #doubles(long) split by seeking} even if
+   * this PRNG is seekable.</p>
    */
   @Override public LongStream longs(final long streamSize, final long randomNumberOrigin,
       final long randomNumberBound) {
-    return streamOfSize(streamSize).map(ignored -> nextLong(randomNumberOrigin, randomNumberBound));
+    checkValidRange(randomNumberOrigin, randomNumberBound);
+    return longsOfSize(streamSize, () -> nextLong(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -583,29 +1715,11 @@ public abstract class BaseRandom extends Random
    * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
    *     bound}
    */
-  @SuppressWarnings({"StatementWithEmptyBody", "NestedAssignment"}) public long nextLong(
-      final long origin, final long bound) {
+  public long nextLong(final long origin, final long bound) {
     checkValidRange(origin, bound);
     lock.lock();
     try {
-      long r = nextLongNoEntropyDebit();
-      final long n = bound - origin;
-      final long m = n - 1;
-      if ((n & m) == 0L)  // power of two
-      {
-        return (r & m) + origin;
-      } else if (n > 0L) {  // reject over-represented candidates
-        for (long u = r >>> 1;            // ensure nonnegative
-            ((u + m) - ((r = u % n))) < 0L;    // rejection check
-            u = nextLongNoEntropyDebit() >>> 1) {
-        } // retry
-        r += origin;
-      } else {              // range not representable as long
-        while ((r < origin) || (r >= bound)) {
-          r = nextLongNoEntropyDebit();
-        }
-      }
-      return r;
+      return internalNextLong(this::nextLongNoEntropyDebit, origin, bound);
     } finally {
       lock.unlock();
       debitEntropy(entropyOfLong(origin, bound));
@@ -613,11 +1727,127 @@ public abstract class BaseRandom extends Random
   }
 
   /**
-   * Returns the next random {@code long}, but does not debit entropy.
+   * Core of {@link #nextLong(long, long)}, which doesn't lock or debit entropy, so that it can be
+   * used with any source of random {@code long}s.
+   *
+   * @param nextLong shall return a random {@code long}, like {@link #nextLong()}, but shall not
+   *     debit the entropy count.
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive); must be greater than {@code origin}
+   * @return a pseudorandom {@code long} value between the origin (inclusive) and the bound
+   *     (exclusive)
+   */
+  @SuppressWarnings({"StatementWithEmptyBody", "NestedAssignment"})
+  protected static long internalNextLong(final LongSupplier nextLong, final long origin,
+      final long bound) {
+    long r = nextLong.getAsLong();
+    final long n = bound - origin;
+    final long m = n - 1;
+    if ((n & m) == 0L)  // power of two
+    {
+      return (r & m) + origin;
+    } else if (n > 0L) {  // reject over-represented candidates
+      for (long u = r >>> 1;            // ensure nonnegative
+          ((u + m) - ((r = u % n))) < 0L;    // rejection check
+          u = nextLong.getAsLong() >>> 1) {
+      } // retry
+      r += origin;
+    } else {              // range not representable as long
+      while ((r < origin) || (r >= bound)) {
+        r = nextLong.getAsLong();
+      }
+    }
+    return r;
+  }
+
+  /**
+   * <p>Returns a pseudorandom {@code long} value between zero (inclusive) and the specified bound
+   * (exclusive), using Lemire's nearly divisionless method ("Fast Random Integer Generation in an
+   * Interval", 2019) instead of the modulo-based rejection loop of {@link #nextLong(long)}. Each
+   * candidate costs one 64-by-64-bit multiplication, and a division is only needed in the rare
+   * case where the candidate might have to be rejected. Unlike {@link #nextLong(long)}, this
+   * doesn't hold the {@link #lock} while rejecting candidates.</p>
+   *
+   * <p>Uses the same 64-bit outputs as {@link #nextLong(long)} but maps them differently, so for a
+   * given seed, the output differs from that of {@link #nextLong(long)}.</p>
+   *
+   * @param bound the upper bound (exclusive); must be positive
+   * @return a pseudorandom {@code long} value between zero (inclusive) and the bound (exclusive)
+   * @throws IllegalArgumentException if {@code bound} is not positive
+   */
+  public long nextBoundedLong(final long bound) {
+    return nextBoundedLong(0, bound);
+  }
+
+  /**
+   * Returns a pseudorandom {@code long} value between the specified origin (inclusive) and the
+   * specified bound (exclusive), using the same method as {@link #nextBoundedLong(long)}. Unlike
+   * {@link #nextLong(long, long)}, this never has to reject more than a small fraction of
+   * candidates, even when the range is wider than {@link Long#MAX_VALUE}.
+   *
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive)
+   * @return a pseudorandom {@code long} value between the origin (inclusive) and the bound
+   *     (exclusive)
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public long nextBoundedLong(final long origin, final long bound) {
+    checkValidRange(origin, bound);
+    final long out = internalNextBoundedLong(this::nextLongNoEntropyDebit, origin, bound);
+    debitEntropy(entropyOfLong(origin, bound));
+    return out;
+  }
+
+  /**
+   * Core of {@link #nextBoundedLong(long, long)}, which doesn't lock or debit entropy, so that it
+   * can be used with any source of random {@code long}s.
+   *
+   * @param nextLong shall return a random {@code long}, like {@link #nextLong()}, but shall not
+   *     debit the entropy count.
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive); must be greater than {@code origin}
+   * @return a pseudorandom {@code long} value between the origin (inclusive) and the bound
+   *     (exclusive)
+   */
+  protected static long internalNextBoundedLong(final LongSupplier nextLong, final long origin,
+      final long bound) {
+    // Treated as unsigned, so this is correct even if the subtraction overflows
+    final long range = bound - origin;
+    long candidate = nextLong.getAsLong();
+    long low = candidate * range;
+    if (Long.compareUnsigned(low, range) < 0) {
+      // 2^64 mod range; candidates whose low half is below this are over-represented
+      final long threshold = Long.remainderUnsigned(-range, range);
+      while (Long.compareUnsigned(low, threshold) < 0) {
+        candidate = nextLong.getAsLong();
+        low = candidate * range;
+      }
+    }
+    return origin + Byte16ArrayArithmetic.unsignedMultiplyHigh(candidate, range);
+  }
+
+  /**
+   * Returns the next random {@code long}, but does not debit entropy. This is what
+   * {@link #nextLong()}, the {@code long} and {@code double} streams and most of the bulk methods
+   * are built on; it delegates to {@link #nextLong64()}, and is overridden only by adapters that
+   * take their output from another {@link Random}.
    *
    * @return a pseudorandom {@code long} with all possible values equally likely.
    */
   protected long nextLongNoEntropyDebit() {
+    return nextLong64();
+  }
+
+  /**
+   * Generates 64 pseudorandom bits. Subclasses whose algorithm produces 64 bits per step should
+   * override this to return one step's output, and those that produce 32 bits per step should
+   * override it to take both steps while holding {@link #lock} only once. This implementation
+   * takes two outputs of {@link #next(int)}, as {@link Random#nextLong()} does.
+   *
+   * @return a pseudorandom {@code long} with all possible values equally likely.
+   */
+  protected long nextLong64() {
     lock.lock();
     try {
       return super.nextLong();
@@ -641,7 +1871,7 @@ public abstract class BaseRandom extends Random
     try {
       return addSubclassFields(
           MoreObjects.toStringHelper(this).add("seed", BinaryUtils.convertBytesToHexString(seed))
-              .add("entropyBits", entropyBits.get()).add("randomSeeder", randomSeeder)).toString();
+              .add("entropyBits", getEntropyBits()).add("randomSeeder", randomSeeder)).toString();
     } finally {
       lock.unlock();
     }
@@ -706,9 +1936,32 @@ public abstract class BaseRandom extends Random
    *
    * @param randomSeeder a {@link SeedGenerator} whose {@link RandomSeeder} will be used
    *     to reseed this PRNG, or null to stop using one.
+   * @throws UnsupportedOperationException if {@code randomSeeder} is non-null and this PRNG
+   *     {@link #isThreadConfined() is thread-confined} or has its
+   *     {@link #setEntropyCountDisabled(boolean) entropy count disabled}.
    */
   public void setRandomSeeder(@Nullable final RandomSeeder randomSeeder) {
-    RandomSeeder old = this.randomSeeder.getAndSet(randomSeeder);
+    if (randomSeeder != null && isThreadConfined()) {
+      throw new UnsupportedOperationException(
+          "A thread-confined PRNG can't be reseeded by a RandomSeeder");
+    }
+    final RandomSeeder old;
+    if (randomSeeder == null) {
+      // Not locked, since RandomSeeder calls this while holding its own lock
+      old = this.randomSeeder.getAndSet(null);
+    } else {
+      // Locked so that this and setEntropyCountDisabled(true) can't both succeed
+      lock.lock();
+      try {
+        if (entropyCountDisabled) {
+          throw new UnsupportedOperationException(
+              "A PRNG without an entropy count can't be reseeded by a RandomSeeder");
+        }
+        old = this.randomSeeder.getAndSet(randomSeeder);
+      } finally {
+        lock.unlock();
+      }
+    }
     if (old != randomSeeder) {
       if (old != null) {
         old.remove(this);
@@ -748,7 +2001,7 @@ public abstract class BaseRandom extends Random
     } else if (seed != this.seed) {
       System.arraycopy(seed, 0, this.seed, 0, seed.length);
     }
-    nextNextGaussian.set(NAN_LONG_BITS); // Invalidate Gaussian that was generated from old seed
+    discardBufferedBits();
     creditEntropyForNewSeed(seed.length);
   }
 
@@ -760,6 +2013,7 @@ public abstract class BaseRandom extends Random
    */
   protected void creditEntropyForNewSeed(final int seedLength) {
     final long effectiveBits = Math.min(seedLength, getNewSeedLength()) * 8L;
+    reconcileEntropyDebits(entropyDebits);
     entropyBits.updateAndGet(oldCount -> Math.max(oldCount, effectiveBits));
   }
 
@@ -800,21 +2054,109 @@ public abstract class BaseRandom extends Random
   }
 
   @Override public long getEntropyBits() {
-    return entropyBits.get();
+    final AtomicLongArray debits = entropyDebits;
+    return (debits == null) ? entropyBits.get() : (entropyBits.get() - sumEntropyDebits(debits));
+  }
+
+  /**
+   * Sets the entropy count, discarding any record of entropy spent before this call.
+   *
+   * @param bits the new entropy count
+   */
+  protected void setEntropyBits(final long bits) {
+    reconcileEntropyDebits(entropyDebits);
+    entropyBits.set(bits);
+  }
+
+  private static long sumEntropyDebits(final AtomicLongArray debits) {
+    long sum = 0;
+    for (int i = 0; i < debits.length(); i += ENTROPY_STRIPE_STRIDE) {
+      sum += debits.get(i);
+    }
+    return sum;
+  }
+
+  /**
+   * Subtracts all the stripes of the given entropy debits from {@link #entropyBits}.
+   *
+   * @param debits the stripes, or null if the entropy count isn't striped
+   */
+  private void reconcileEntropyDebits(@Nullable final AtomicLongArray debits) {
+    if (debits == null) {
+      return;
+    }
+    for (int i = 0; i < debits.length(); i += ENTROPY_STRIPE_STRIDE) {
+      reconcileEntropyStripe(debits, i);
+    }
+  }
+
+  /**
+   * Subtracts one stripe of the given entropy debits from {@link #entropyBits}, and resets it to
+   * zero.
+   *
+   * @param debits the stripes
+   * @param index the index of the stripe
+   * @return the entropy count afterward, not counting the other stripes
+   */
+  private long reconcileEntropyStripe(final AtomicLongArray debits, final int index) {
+    return entropyBits.addAndGet(-debits.getAndSet(index, 0));
+  }
+
+  /**
+   * Returns the index in {@link #entropyDebits} of the calling thread's stripe.
+   *
+   * @return the index of the stripe
+   */
+  private static int entropyStripeIndex() {
+    return ((int) Thread.currentThread().getId() & (ENTROPY_STRIPES - 1)) * ENTROPY_STRIPE_STRIDE;
   }
 
   /**
    * Record that entropy has been spent, and schedule a reseeding if this PRNG has now spent as much
-   * as it's been seeded with.
+   * as it's been seeded with. If the entropy count is
+   * {@link #setEntropyCountStriped(boolean) striped}, the check is only done when the calling
+   * thread's stripe reaches {@link #STRIPED_ENTROPY_CHECK_INTERVAL} bits. Does nothing if the
+   * entropy count is {@link #setEntropyCountDisabled(boolean) disabled}.
    *
    * @param bits The number of bits of entropy spent.
    */
   protected void debitEntropy(final long bits) {
-    if (entropyBits.addAndGet(-bits) <= 0) {
+    if (entropyCountDisabled) {
+      return;
+    }
+    final AtomicLongArray debits = entropyDebits;
+    if (!threadConfined && (debits != null)) {
+      final int index = entropyStripeIndex();
+      if (((debits.addAndGet(index, bits) >= STRIPED_ENTROPY_CHECK_INTERVAL)
+          || (entropyDebits != debits)) && (reconcileEntropyStripe(debits, index) <= 0)) {
+        asyncReseedIfPossible();
+      }
+      return;
+    }
+    if (recordEntropySpent(bits) <= 0) {
       asyncReseedIfPossible();
     }
   }
 
+  /**
+   * Record that entropy has been spent, without checking whether reseeding is needed. Unlike
+   * {@link #debitEntropy(long)}, always returns the exact remaining entropy, even when the entropy
+   * count is {@link #setEntropyCountStriped(boolean) striped}.
+   *
+   * @param bits The number of bits of entropy spent.
+   * @return the entropy count after subtracting {@code bits}
+   */
+  protected long recordEntropySpent(final long bits) {
+    if (threadConfined) {
+      final long remaining = entropyBits.get() - bits;
+      entropyBits.lazySet(remaining);
+      return remaining;
+    }
+    final long remaining = entropyBits.addAndGet(-bits);
+    final AtomicLongArray debits = entropyDebits;
+    return (debits == null) ? remaining : (remaining - sumEntropyDebits(debits));
+  }
+
   private void asyncReseedIfPossible() {
     final RandomSeeder currentSeeder = getRandomSeeder();
     if (currentSeeder != null) {
@@ -0,0 +1,306 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * <p>CipherCounterRandom using the ChaCha stream cipher (Bernstein, "ChaCha, a variant of Salsa20",
+ * 2008) with 20 rounds, or optionally the reduced-round variants ChaCha8 or ChaCha12. The cipher
+ * is implemented in plain Java, so unlike {@link AesCounterRandom}, it has neither the overhead of
+ * going through {@link javax.crypto.Cipher} nor a dependence on hardware AES support for its
+ * speed.</p>
+ *
+ * <p>A seed of 16 to 31 bytes begins with a 16-byte key, and a seed of 32 to 48 bytes with a
+ * 32-byte key; the rest of the seed is the start of the counter's initial value. The counter, read
+ * as a 128-bit big-endian number, takes the place of the 32-bit block counter (in its lowest 32
+ * bits) and the 96-bit nonce (in the rest) of RFC 8439; in other words, it's the byte-reversal of
+ * the last 16 bytes of the RFC 8439 input block, so that the output continues seamlessly when the
+ * block counter overflows into the nonce. As in other
+ * {@link CipherCounterRandom}s, the counter is incremented before each block is generated. With a
+ * 32-byte key and 20 rounds, the output is the RFC 8439 key stream; with a 16-byte key, it's the
+ * original ChaCha key stream for a 128-bit key.</p>
+ *
+ * <p><em>NOTE: Because instances of this class require 128-bit seeds, it is not possible to seed
+ * this RNG using the {@link #setSeed(long)} method inherited from {@link Random} until the seed
+ * array has been set.</em></p>
+ *
+ * @author Chris Hennick
+ */
+public class ChaCha20Random extends CipherCounterRandom {
+
+  private static final long serialVersionUID = -2440297566826463357L;
+
+  /**
+   * Number of rounds in ChaCha20, the default and the variant standardized in RFC 8439.
+   */
+  public static final int DEFAULT_ROUNDS = 20;
+
+  private static final int DEFAULT_SEED_SIZE_BYTES = 32;
+  private static final int LARGE_KEY_LENGTH_BYTES = 32;
+  private static final int SMALL_KEY_LENGTH_BYTES = 16;
+  private static final String HASH_ALGORITHM = "SHA-384";
+  /**
+   * Size of each block of output, which is generated from one counter value.
+   */
+  private static final int BLOCK_SIZE_BYTES = 64;
+  /**
+   * Number of blocks to generate at once; this gives the same batch size as
+   * {@link AesCounterRandom}.
+   */
+  private static final int BLOCKS_AT_ONCE = 4;
+  private static final int BYTES_AT_ONCE = BLOCK_SIZE_BYTES * BLOCKS_AT_ONCE;
+  private static final int STATE_WORDS = 16;
+  // "expand 32-byte k" and "expand 16-byte k", as little-endian ints
+  private static final int[] SIGMA = {0x61707865, 0x3320646e, 0x79622d32, 0x6b206574};
+  private static final int[] TAU = {0x61707865, 0x3120646e, 0x79622d36, 0x6b206574};
+
+  /**
+   * Number of rounds; either 8, 12 or 20.
+   */
+  private final int rounds;
+  // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
+  /**
+   * The constants and the key, which make up the first 12 words of the cipher's input; the other 4
+   * are the counter.
+   */
+  private transient int[] keyState;
+
+  /**
+   * Creates a new RNG and seeds it using 256 bits from the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public ChaCha20Random() throws SeedException {
+    this(DEFAULT_SEED_SIZE_BYTES);
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy to create a 256-bit seed.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public ChaCha20Random(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(DEFAULT_SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
+   *
+   * @param seedSizeBytes The number of bytes to use for seed data. Valid values range from 16
+   *     to 48.
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public ChaCha20Random(final int seedSizeBytes) throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR.generateSeed(seedSizeBytes));
+  }
+
+  /**
+   * Creates an RNG using ChaCha20 and seeds it with the specified seed data.
+   *
+   * @param seed The seed data used to initialize the RNG. Length must be at least 16 and no
+   *     more than 48.
+   */
+  public ChaCha20Random(final byte[] seed) {
+    this(seed, DEFAULT_ROUNDS);
+  }
+
+  /**
+   * Creates an RNG using the ChaCha variant with the given number of rounds, and seeds it with the
+   * specified seed data.
+   *
+   * @param seed The seed data used to initialize the RNG. Length must be at least 16 and no
+   *     more than 48.
+   * @param rounds the number of rounds: 8, 12 or 20
+   * @throws IllegalArgumentException if {@code rounds} isn't 8, 12 or 20
+   */
+  public ChaCha20Random(final byte[] seed, final int rounds) {
+    super(seed);
+    if ((rounds != 8) && (rounds != 12) && (rounds != 20)) {
+      throw new IllegalArgumentException("Rounds must be 8, 12 or 20, but got " + rounds);
+    }
+    this.rounds = rounds;
+  }
+
+  /**
+   * Returns the number of rounds.
+   *
+   * @return 8, 12 or 20
+   */
+  public int getRounds() {
+    return rounds;
+  }
+
+  @Override protected CipherCounterRandom newInstanceWithSeed(final byte[] seed) {
+    return new ChaCha20Random(seed, rounds);
+  }
+
+  @Override public int getBlocksAtOnce() {
+    return BLOCKS_AT_ONCE;
+  }
+
+  @Override public int getBlockSizeBytes() {
+    return BLOCK_SIZE_BYTES;
+  }
+
+  @Override protected int getBytesAtOnce() {
+    return BYTES_AT_ONCE;
+  }
+
+  @Override public int getMaxKeyLengthBytes() {
+    return LARGE_KEY_LENGTH_BYTES;
+  }
+
+  @Override protected int getKeyLength(final int inputLength) {
+    return (inputLength >= LARGE_KEY_LENGTH_BYTES) ? LARGE_KEY_LENGTH_BYTES
+        : SMALL_KEY_LENGTH_BYTES;
+  }
+
+  @Override protected int getMinSeedLength() {
+    return SMALL_KEY_LENGTH_BYTES;
+  }
+
+  @Override protected MessageDigest createHash() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new InternalError("Required hash algorithm missing");
+    }
+  }
+
+  @Override protected void createCipher() {
+    keyState = new int[STATE_WORDS - 4];
+  }
+
+  /**
+   * Fills in {@link #keyState}. A 16-byte key is used twice, with different constants, as in the
+   * original ChaCha.
+   */
+  @Override protected void setKey(final byte[] key) {
+    System.arraycopy((key.length == LARGE_KEY_LENGTH_BYTES) ? SIGMA : TAU, 0, keyState, 0, 4);
+    for (int i = 0; i < 8; i++) {
+      keyState[4 + i] = littleEndianInt(key, (i * Integer.BYTES) % key.length);
+    }
+  }
+
+  @Override
+  public MoreObjects.ToStringHelper addSubclassFields(final MoreObjects.ToStringHelper original) {
+    return super.addSubclassFields(original).add("rounds", rounds);
+  }
+
+  @Override protected void doCipher(final byte[] input, final byte[] output) {
+    doCipher(input, getBlocksAtOnce(), output, 0);
+  }
+
+  @Override protected void doCipher(final byte[] input, final int blocks, final byte[] output,
+      final int outputOffset) {
+    final int counterSizeBytes = getCounterSizeBytes();
+    for (int block = 0; block < blocks; block++) {
+      final int counterOffset = block * counterSizeBytes;
+      generateBlock(BinaryUtils.convertBytesToInt(input, counterOffset + 12),
+          BinaryUtils.convertBytesToInt(input, counterOffset + 8),
+          BinaryUtils.convertBytesToInt(input, counterOffset + 4),
+          BinaryUtils.convertBytesToInt(input, counterOffset), output,
+          outputOffset + (block * BLOCK_SIZE_BYTES));
+    }
+  }
+
+  /**
+   * Runs the ChaCha block function and writes the result, serialized as little-endian words as in
+   * RFC 8439.
+   *
+   * @param in12 input word 12, the RFC 8439 block counter
+   * @param in13 input word 13, the first word of the RFC 8439 nonce
+   * @param in14 input word 14
+   * @param in15 input word 15
+   * @param output the array to write to
+   * @param offset where to start writing the 64 bytes of output
+   */
+  private void generateBlock(final int in12, final int in13, final int in14, final int in15,
+      final byte[] output, final int offset) {
+    final int[] k = keyState;
+    int x0 = k[0];
+    int x1 = k[1];
+    int x2 = k[2];
+    int x3 = k[3];
+    int x4 = k[4];
+    int x5 = k[5];
+    int x6 = k[6];
+    int x7 = k[7];
+    int x8 = k[8];
+    int x9 = k[9];
+    int x10 = k[10];
+    int x11 = k[11];
+    int x12 = in12;
+    int x13 = in13;
+    int x14 = in14;
+    int x15 = in15;
+    for (int i = 0; i < rounds; i += 2) {
+      // Column round
+      x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 16);
+      x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 12);
+      x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 8);
+      x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 7);
+      x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 16);
+      x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 12);
+      x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 8);
+      x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 7);
+      x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 16);
+      x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 12);
+      x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 8);
+      x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 7);
+      x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 16);
+      x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 12);
+      x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 8);
+      x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 7);
+      // Diagonal round
+      x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 16);
+      x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 12);
+      x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 8);
+      x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 7);
+      x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 16);
+      x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 12);
+      x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 8);
+      x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 7);
+      x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 16);
+      x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 12);
+      x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 8);
+      x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 7);
+      x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 16);
+      x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 12);
+      x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 8);
+      x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 7);
+    }
+    putLittleEndianInt(x0 + k[0], output, offset);
+    putLittleEndianInt(x1 + k[1], output, offset + 4);
+    putLittleEndianInt(x2 + k[2], output, offset + 8);
+    putLittleEndianInt(x3 + k[3], output, offset + 12);
+    putLittleEndianInt(x4 + k[4], output, offset + 16);
+    putLittleEndianInt(x5 + k[5], output, offset + 20);
+    putLittleEndianInt(x6 + k[6], output, offset + 24);
+    putLittleEndianInt(x7 + k[7], output, offset + 28);
+    putLittleEndianInt(x8 + k[8], output, offset + 32);
+    putLittleEndianInt(x9 + k[9], output, offset + 36);
+    putLittleEndianInt(x10 + k[10], output, offset + 40);
+    putLittleEndianInt(x11 + k[11], output, offset + 44);
+    putLittleEndianInt(x12 + in12, output, offset + 48);
+    putLittleEndianInt(x13 + in13, output, offset + 52);
+    putLittleEndianInt(x14 + in14, output, offset + 56);
+    putLittleEndianInt(x15 + in15, output, offset + 60);
+  }
+
+  private static int littleEndianInt(final byte[] bytes, final int offset) {
+    return Integer.reverseBytes(BinaryUtils.convertBytesToInt(bytes, offset));
+  }
+
+  private static void putLittleEndianInt(final int value, final byte[] output, final int offset) {
+    BinaryUtils.convertIntToBytes(Integer.reverseBytes(value), output, offset);
+  }
+}
@@ -4,10 +4,15 @@ import com.google.common.base.MoreObjects;
 import io.github.pr0methean.betterrandom.SeekableRandom;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import javax.annotation.Nullable;
 
 /**
  * <p>Non-linear random number generator based on a cipher that encrypts an incrementing counter.
@@ -30,17 +35,38 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   static final int DEFAULT_COUNTER_SIZE_BYTES = 16;
   private static final long serialVersionUID = -7872636191973295031L;
   /**
-   * An array holding generated, encrypted bytes.
+   * An array holding generated, encrypted bytes. It has room for {@link #getBytesAtOnce()} bytes,
+   * but only the first {@link #currentBlockLength} are valid.
    */
   protected final byte[] currentBlock;
   /**
-   * The counter. Successive values are encrypted to generate pseudorandom numbers.
+   * The counter. Successive values are encrypted to generate pseudorandom numbers. This is the
+   * value used for the last block in {@link #currentBlock}.
    */
   protected volatile byte[] counter;
   /**
    * The offset in {@link #currentBlock} to draw output from.
    */
   protected volatile int index;
+  /**
+   * The number of bytes generated into {@link #currentBlock} by the last refill; always a whole
+   * number of blocks.
+   */
+  protected volatile int currentBlockLength;
+  /**
+   * The number of blocks the next refill of {@link #currentBlock} will generate. This is reset to 1
+   * whenever the counter is set, and doubles with each refill up to {@link #getBlocksAtOnce()}, so
+   * that a caller who only wants a few values after seeding or seeking doesn't wait for a whole
+   * batch, while one who keeps consuming output soon gets whole batches.
+   */
+  private transient int nextBatchBlocks;
+  /**
+   * The smallest chunk that {@link #parallelNextBytes(ByteBuffer, ForkJoinPool)} gives to a task.
+   * This is large enough that copying and advancing the PRNG for each chunk takes negligible time
+   * by comparison, and is a whole number of blocks for any block size that's a power of 2 up to
+   * this size.
+   */
+  private static final int MIN_PARALLEL_CHUNK_BYTES = 1 << 16;
   private volatile byte[] counterInput;
   private volatile boolean seeded;
   private transient MessageDigest hash;
@@ -56,7 +82,7 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   }
 
   /**
-   * Returns the length of the counter, which should equal the cipher's block size.
+   * Returns the length of the counter, which for a block cipher should equal the block size.
    *
    * @return the length of the counter
    */
@@ -64,6 +90,17 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     return DEFAULT_COUNTER_SIZE_BYTES;
   }
 
+  /**
+   * Returns the number of bytes of output generated from each counter value. This is
+   * {@link #getCounterSizeBytes()} by default, which is correct for a block cipher; subclasses
+   * based on a stream cipher whose blocks are larger than its counter should override it.
+   *
+   * @return the number of bytes generated per counter value
+   */
+  public int getBlockSizeBytes() {
+    return getCounterSizeBytes();
+  }
+
   @Override public int getNewSeedLength() {
     return getMaxKeyLengthBytes();
   }
@@ -77,34 +114,73 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
    */
   public abstract int getMaxKeyLengthBytes();
 
+  /**
+   * {@inheritDoc} This takes constant time regardless of {@code delta}: the counter is adjusted
+   * arithmetically and only the block containing the new position is regenerated. So a single
+   * stream can be partitioned among many workers, each given an instance with the same seed that's
+   * advanced to the start of its share of the output.
+   */
   @Override public void advance(final long delta) {
     if (delta == 0) {
       return;
     }
-    int counterSizeBytes = getCounterSizeBytes();
-    final long intsPerBlock = counterSizeBytes / Integer.BYTES;
+    final int blockSizeBytes = getBlockSizeBytes();
+    final long intsPerBlock = blockSizeBytes / Integer.BYTES;
     long blocksDelta = delta / intsPerBlock;
     final int deltaWithinBlock = (int) (delta % intsPerBlock) * Integer.BYTES;
     lock.lock();
     try {
-      int newIndex = index + deltaWithinBlock;
-      if (newIndex >= counterSizeBytes) {
-        newIndex -= counterSizeBytes;
-        blocksDelta++;
-      }
-      if (newIndex < 0) {
-        newIndex += counterSizeBytes;
-        blocksDelta--;
-      }
-      blocksDelta -= getBlocksAtOnce(); // Compensate for the increment during nextBlock() below
+      final int newOffset = index + deltaWithinBlock;
+      blocksDelta += Math.floorDiv(newOffset, blockSizeBytes);
+      // The first block in currentBlock used the counter value (counter + 1 - blocksInCurrentBlock)
+      blocksDelta -= currentBlockLength / blockSizeBytes;
       Byte16ArrayArithmetic.addInto(counter, blocksDelta);
+      nextBatchBlocks = 1;
       nextBlock();
-      index = newIndex;
+      index = Math.floorMod(newOffset, blockSizeBytes);
+      discardBufferedBits();
     } finally {
       lock.unlock();
     }
   }
 
+  /**
+   * Returns a new instance of the same class and cipher parameters, with the same key, counter and
+   * buffered output as this one, so that it will produce the same output.
+   */
+  @Override protected BaseRandom copyState() {
+    final CipherCounterRandom copy = newInstanceWithSeed(seed.clone());
+    if (copy == null) {
+      return null;
+    }
+    System.arraycopy(counter, 0, copy.counter, 0, counter.length);
+    System.arraycopy(currentBlock, 0, copy.currentBlock, 0, currentBlockLength);
+    copy.currentBlockLength = currentBlockLength;
+    copy.index = index;
+    copy.nextBatchBlocks = nextBatchBlocks;
+    return copy;
+  }
+
+  /**
+   * Returns 2, since each {@code long} is made of two 32-bit outputs.
+   */
+  @Override protected long getAdvanceStepsPerLong() {
+    return 2;
+  }
+
+  /**
+   * Creates a new instance of the same class as this one, with the same cipher parameters, from
+   * the given seed. Used by {@link #copyState()}, which then overwrites the new instance's counter
+   * and buffered output. The default implementation returns null, meaning that this PRNG can't be
+   * copied, so its streams draw directly from it rather than being split by seeking.
+   *
+   * @param seed the seed, which has the same length as this PRNG's current seed
+   * @return a new instance, or null if this PRNG doesn't support copying
+   */
+  @Nullable protected CipherCounterRandom newInstanceWithSeed(final byte[] seed) {
+    return null;
+  }
+
   /**
    * Returns the length of the key that should be extracted from a seed of a given length. During
    * the initial seeding, whatever part of the seed does not become the key, becomes the counter's
@@ -116,23 +192,24 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   protected abstract int getKeyLength(int inputLength);
 
   /**
-   * Returns how many consecutive values of the counter are encrypted at once, in order to reduce
-   * the number of calls to Cipher methods. Each counter value encrypts to yield a "block" of
-   * pseudorandom data. Changing this value won't change the output if the cipher is running in
-   * block mode, but it may impact performance.
+   * Returns how many consecutive values of the counter are encrypted at once when generating
+   * output continuously, in order to reduce the number of calls to Cipher methods. Each counter
+   * value encrypts to yield a "block" of pseudorandom data. Changing this value won't change the
+   * output if the cipher is running in block mode, but it may impact performance. Smaller batches
+   * are generated just after seeding or seeking.
    *
-   * @return the number of blocks (counter values) to encrypt at once
+   * @return the maximum number of blocks (counter values) to encrypt at once
    */
   public abstract int getBlocksAtOnce();
 
   /**
    * Returns the number of random bytes that can be precalculated at once, which is normally
-   * {@code getCounterSizeBytes() * getBlocksAtOnce()}.
+   * {@code getBlockSizeBytes() * getBlocksAtOnce()}.
    *
    * @return the number of random bytes that can be precalculated at once
    */
   protected int getBytesAtOnce() {
-    return getCounterSizeBytes() * getBlocksAtOnce();
+    return getBlockSizeBytes() * getBlocksAtOnce();
   }
 
   /**
@@ -150,7 +227,7 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
       counter = new byte[getCounterSizeBytes()];
     }
     if (counterInput == null) {
-      counterInput = new byte[getBytesAtOnce()];
+      counterInput = new byte[getCounterSizeBytes() * getBlocksAtOnce()];
     }
     createCipher();
     hash = createHash();
@@ -180,24 +257,89 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   protected abstract void createCipher();
 
   /**
-   * Generates BLOCKS_AT_ONCE 128-bit (16-byte) blocks. Copies them to currentBlock.
+   * Refills {@link #currentBlock}, with between 1 and {@link #getBlocksAtOnce()} blocks depending
+   * on how much output has been used since the counter was last set, and sets
+   * {@link #currentBlockLength}. Doesn't update {@link #index}. Must be called with {@link #lock}
+   * held.
    *
    * @throws IllegalStateException If there is a problem with the cipher that generates the
    *     random data.
    */
   protected void nextBlock() {
-    int blocks = getBlocksAtOnce();
-    for (int i = 0; i < blocks; i++) {
-      Byte16ArrayArithmetic.addInto(counter, Byte16ArrayArithmetic.ONE);
-      System.arraycopy(counter, 0, counterInput, i * getCounterSizeBytes(), getCounterSizeBytes());
-    }
+    final int blocks = Math.max(1, nextBatchBlocks);
     try {
-      doCipher(counterInput, currentBlock);
+      generateBlocks(blocks, currentBlock, 0);
     } catch (final GeneralSecurityException ex) {
       // Should never happen.  If initialisation succeeds without exceptions
       // we should be able to proceed indefinitely without exceptions.
       throw new IllegalStateException("Failed creating next random block.", ex);
     }
+    currentBlockLength = blocks * getBlockSizeBytes();
+    nextBatchBlocks = Math.min(2 * blocks, getBlocksAtOnce());
+  }
+
+  /**
+   * Returns the maximum number of blocks that {@link #nextBytes(byte[])} and
+   * {@link #nextBytes(ByteBuffer)} will ask {@link #generateBlocks(int, byte[], int)} or
+   * {@link #generateBlocks(int, ByteBuffer)} to write straight into the caller's array or buffer in
+   * one call. This is {@link #getBlocksAtOnce()} by default, since the default implementations of
+   * those methods can't handle more. Subclasses that override them to drive a cipher with a
+   * significant overhead per call should return a larger value, so that large requests are filled
+   * in large chunks.
+   *
+   * @return the maximum number of blocks to generate directly into the output at once
+   */
+  protected int getMaxDirectBlocks() {
+    return getBlocksAtOnce();
+  }
+
+  /**
+   * Increments the counter {@code blocks} times, and writes the cipher's output for each new value
+   * to {@code output}, starting at {@code outputOffset}. The default implementation copies the
+   * counter values into an array and passes it to {@link #doCipher(byte[], int, byte[], int)};
+   * subclasses whose cipher can increment the counter itself, such as a cipher in CTR mode, can
+   * override this and {@link #generateBlocks(int, ByteBuffer)} instead. Must be called with
+   * {@link #lock} held.
+   *
+   * @param blocks the number of blocks to generate; between 1 and {@link #getBlocksAtOnce()}, or
+   *     up to {@link #getMaxDirectBlocks()} when {@code output} isn't {@link #currentBlock}
+   * @param output an array with room for {@code blocks * getBlockSizeBytes()} bytes after
+   *     {@code outputOffset}
+   * @param outputOffset where in {@code output} to write the first block
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void generateBlocks(final int blocks, final byte[] output, final int outputOffset)
+      throws GeneralSecurityException {
+    nextCounterInput(blocks);
+    doCipher(counterInput, blocks, output, outputOffset);
+  }
+
+  /**
+   * Increments the counter {@code blocks} times, and writes the cipher's output for each new value
+   * at the buffer's position, advancing the position past it. The default implementation copies
+   * the counter values into an array and passes it to {@link #doCipher(byte[], int, ByteBuffer)}.
+   * Must be called with {@link #lock} held.
+   *
+   * @param blocks the number of blocks to generate; between 1 and {@link #getMaxDirectBlocks()}
+   * @param output a buffer with at least {@code blocks * getBlockSizeBytes()} bytes remaining
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void generateBlocks(final int blocks, final ByteBuffer output)
+      throws GeneralSecurityException {
+    nextCounterInput(blocks);
+    doCipher(counterInput, blocks, output);
+  }
+
+  /**
+   * Increments the counter the given number of times, and copies each value into
+   * {@code counterInput}.
+   */
+  private void nextCounterInput(final int blocks) {
+    final int counterSizeBytes = getCounterSizeBytes();
+    for (int i = 0; i < blocks; i++) {
+      Byte16ArrayArithmetic.addInto(counter, Byte16ArrayArithmetic.ONE);
+      System.arraycopy(counter, 0, counterInput, i * counterSizeBytes, counterSizeBytes);
+    }
   }
 
   /**
@@ -209,33 +351,362 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
    */
   protected abstract void doCipher(byte[] input, byte[] output) throws GeneralSecurityException;
 
+  /**
+   * Executes the cipher on only the first {@code blocks} counter values, writing the output at an
+   * offset. The default implementation encrypts the whole batch into {@link #currentBlock} with
+   * {@link #doCipher(byte[], byte[])}, and then copies the blocks that were asked for if
+   * {@code output} is another array; subclasses whose cipher can encrypt fewer blocks, or write
+   * at an offset, should override this.
+   *
+   * @param input consecutive counter values, each {@link #getCounterSizeBytes()} long
+   * @param blocks the number of counter values to encrypt; between 1 and
+   *     {@link #getBlocksAtOnce()}
+   * @param output an array with room for {@code blocks * getBlockSizeBytes()} bytes after
+   *     {@code outputOffset}
+   * @param outputOffset where in {@code output} to write the first block
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void doCipher(byte[] input, int blocks, byte[] output, int outputOffset)
+      throws GeneralSecurityException {
+    doCipher(input, currentBlock);
+    if ((output != currentBlock) || (outputOffset != 0)) {
+      System.arraycopy(currentBlock, 0, output, outputOffset, blocks * getBlockSizeBytes());
+    }
+  }
+
+  /**
+   * Executes the cipher, writing the output at the buffer's position and advancing the position
+   * past it. The default implementation uses {@link #currentBlock} as scratch space and then copies
+   * it into the buffer; subclasses should override this if the cipher can write into a buffer
+   * directly.
+   *
+   * @param input consecutive counter values, each {@link #getCounterSizeBytes()} long
+   * @param blocks the number of counter values to encrypt; between 1 and
+   *     {@link #getBlocksAtOnce()}
+   * @param output a buffer with at least {@code blocks * getBlockSizeBytes()} bytes remaining
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void doCipher(byte[] input, int blocks, ByteBuffer output)
+      throws GeneralSecurityException {
+    doCipher(input, blocks, currentBlock, 0);
+    output.put(currentBlock, 0, blocks * getBlockSizeBytes());
+  }
+
+  /**
+   * {@inheritDoc} Unlike {@link BaseRandom#nextBytes(byte[])}, the output is the cipher's output
+   * in order, and is the same as {@link #nextBytes(ByteBuffer)} would produce. Whatever's left of
+   * the current block is used first; then as many whole blocks as will fit are encrypted straight
+   * into the array, in chunks of up to {@link #getMaxDirectBlocks()} blocks; and then one more batch
+   * is generated as usual to supply any remaining bytes. The lock is held and the entropy debited
+   * only once for the whole array.
+   */
+  @Override public void nextBytes(final byte[] bytes) {
+    final int length = bytes.length;
+    if (length == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      nextBytesLocked(bytes, 0, length);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(((long) Byte.SIZE) * length);
+  }
+
+  /**
+   * {@inheritDoc} The output is the cipher's output in order. If the buffer is backed by an
+   * accessible array, this works like {@link #nextBytes(byte[])} on that array; otherwise, whole
+   * blocks are encrypted straight into the buffer in the same way.
+   */
+  @Override public void nextBytes(final ByteBuffer dest) {
+    final int length = dest.remaining();
+    if (length == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      nextBytesLocked(dest);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(((long) Byte.SIZE) * length);
+  }
+
+  /**
+   * <p>Fills the given array with the same bytes that {@link #nextBytes(byte[])} would, and
+   * advances this PRNG past them, but generates them in parallel using the given pool. The array is
+   * divided into chunks, and each chunk is filled by a task that {@link #copyState() copies} this
+   * PRNG's state and {@link #advance(long) advances} the copy to the start of that chunk; so the
+   * output is the same regardless of the pool's parallelism.</p>
+   *
+   * <p>Small arrays, and arrays passed to a PRNG that doesn't support copying, are filled
+   * sequentially.</p>
+   *
+   * @param bytes the array to fill
+   * @param pool the pool to run the tasks in
+   */
+  public void parallelNextBytes(final byte[] bytes, final ForkJoinPool pool) {
+    parallelNextBytes(ByteBuffer.wrap(bytes), pool);
+  }
+
+  /**
+   * Fills the given buffer's remaining bytes with the same bytes that
+   * {@link #nextBytes(ByteBuffer)} would, and advances this PRNG past them, but generates them in
+   * parallel as described for {@link #parallelNextBytes(byte[], ForkJoinPool)}. Afterwards, the
+   * buffer's position equals its limit.
+   *
+   * @param dest the buffer to fill
+   * @param pool the pool to run the tasks in
+   */
+  public void parallelNextBytes(final ByteBuffer dest, final ForkJoinPool pool) {
+    final int length = dest.remaining();
+    if (length < (2 * MIN_PARALLEL_CHUNK_BYTES)) {
+      nextBytes(dest);
+      return;
+    }
+    final BaseRandom origin;
+    lock.lock();
+    try {
+      origin = copyState();
+      if (origin != null) {
+        advance(length / Integer.BYTES);
+        final int remainder = length % Integer.BYTES;
+        if (remainder > 0) {
+          nextBytesLocked(new byte[remainder], 0, remainder);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (origin == null) {
+      nextBytes(dest);
+      return;
+    }
+    // Aim for a few chunks per worker, so that they stay busy if some are faster than others
+    final int chunks = 4 * pool.getParallelism();
+    final int chunkBytes = Math.max(MIN_PARALLEL_CHUNK_BYTES,
+        ((length / chunks) / MIN_PARALLEL_CHUNK_BYTES) * MIN_PARALLEL_CHUNK_BYTES);
+    final int start = dest.position();
+    pool.invoke(new ParallelFill((CipherCounterRandom) origin, dest, start, 0, length, chunkBytes));
+    // Cast needed for Java 8 compatibility, since ByteBuffer.position(int) is covariant in 9+
+    ((Buffer) dest).position(start + length);
+    debitEntropy(((long) Byte.SIZE) * length);
+  }
+
+  /**
+   * Implementation of {@link #nextBytes(byte[])} for part of an array. Must be called with
+   * {@link #lock} held.
+   */
+  private void nextBytesLocked(final byte[] dest, final int offset, final int length) {
+    final int blockSizeBytes = getBlockSizeBytes();
+    final int curIndex = index;
+    final int fromCurrentBlock = Math.min(currentBlockLength - curIndex, length);
+    System.arraycopy(currentBlock, curIndex, dest, offset, fromCurrentBlock);
+    index = curIndex + fromCurrentBlock;
+    int position = offset + fromCurrentBlock;
+    final int end = offset + length;
+    // If we're still going, currentBlock has been used up
+    final int maxBlocks = getMaxDirectBlocks();
+    try {
+      while ((end - position) >= blockSizeBytes) {
+        final int blocks = Math.min((end - position) / blockSizeBytes, maxBlocks);
+        generateBlocks(blocks, dest, position);
+        position += blocks * blockSizeBytes;
+      }
+    } catch (final GeneralSecurityException ex) {
+      // Should never happen; see nextBlock()
+      throw new IllegalStateException("Failed creating next random block.", ex);
+    }
+    final int remaining = end - position;
+    if (remaining > 0) {
+      nextBlock();
+      System.arraycopy(currentBlock, 0, dest, position, remaining);
+      index = remaining;
+    }
+  }
+
+  /**
+   * Implementation of {@link #nextBytes(ByteBuffer)}. Must be called with {@link #lock} held.
+   */
+  private void nextBytesLocked(final ByteBuffer dest) {
+    if (dest.hasArray()) {
+      final int position = dest.position();
+      final int length = dest.remaining();
+      nextBytesLocked(dest.array(), dest.arrayOffset() + position, length);
+      // Cast needed for Java 8 compatibility, since ByteBuffer.position(int) is covariant in 9+
+      ((Buffer) dest).position(position + length);
+      return;
+    }
+    // Not backed by an accessible array, so encrypt into the buffer itself
+    final int blockSizeBytes = getBlockSizeBytes();
+    final int curIndex = index;
+    final int fromCurrentBlock = Math.min(currentBlockLength - curIndex, dest.remaining());
+    dest.put(currentBlock, curIndex, fromCurrentBlock);
+    index = curIndex + fromCurrentBlock;
+    // If we're still going, currentBlock has been used up, so doCipher may overwrite it
+    final int maxBlocks = getMaxDirectBlocks();
+    try {
+      while (dest.remaining() >= blockSizeBytes) {
+        generateBlocks(Math.min(dest.remaining() / blockSizeBytes, maxBlocks), dest);
+      }
+    } catch (final GeneralSecurityException ex) {
+      // Should never happen; see nextBlock()
+      throw new IllegalStateException("Failed creating next random block.", ex);
+    }
+    final int remaining = dest.remaining();
+    if (remaining > 0) {
+      nextBlock();
+      dest.put(currentBlock, 0, remaining);
+      index = remaining;
+    }
+  }
+
   @Override protected final int next(final int bits) {
     lock.lock();
     int result;
     try {
-      int curIndex = index;
-      if ((getBytesAtOnce() - curIndex) < 4) {
-        nextBlock();
-        curIndex = 0;
-      }
-      result = BinaryUtils.convertBytesToInt(currentBlock, curIndex);
-      curIndex += 4;
-      index = curIndex;
+      result = nextIntLocked();
     } finally {
       lock.unlock();
     }
     return result >>> (32 - bits);
   }
 
+  /**
+   * Reads the next 4 bytes of output, first generating a new block if needed. Must be called with
+   * {@link #lock} held.
+   *
+   * @return 32 pseudorandom bits
+   */
+  private int nextIntLocked() {
+    final int curIndex = index;
+    final int available = currentBlockLength - curIndex;
+    if (available < Integer.BYTES) {
+      // Carry over whatever's left, so that the output doesn't depend on where batches begin
+      int result = 0;
+      for (int i = curIndex; i < currentBlockLength; i++) {
+        result = (result << Byte.SIZE) | (currentBlock[i] & 0xFF);
+      }
+      nextBlock();
+      final int needed = Integer.BYTES - available;
+      for (int i = 0; i < needed; i++) {
+        result = (result << Byte.SIZE) | (currentBlock[i] & 0xFF);
+      }
+      index = needed;
+      return result;
+    }
+    index = curIndex + Integer.BYTES;
+    return BinaryUtils.convertBytesToInt(currentBlock, curIndex);
+  }
+
+  /**
+   * Reads the next 8 bytes of output, first generating a new block if needed; the result is the
+   * same as that of two calls to {@link #nextIntLocked()}, concatenated. Must be called with
+   * {@link #lock} held.
+   *
+   * @return 64 pseudorandom bits
+   */
+  private long nextRawLongLocked() {
+    final int curIndex = index;
+    if ((currentBlockLength - curIndex) < Long.BYTES) {
+      // The second half comes from the next block
+      return ((long) nextIntLocked() << 32) | (nextIntLocked() & 0xFFFFFFFFL);
+    }
+    index = curIndex + Long.BYTES;
+    return BinaryUtils.convertBytesToLong(currentBlock, curIndex);
+  }
+
+  /**
+   * Converts the output of {@link #nextRawLongLocked()} to the value that
+   * {@link java.util.Random#nextLong()} would make of the same two {@code int}s, by adding the
+   * second one to the first one shifted left rather than concatenating them.
+   *
+   * @param raw 64 pseudorandom bits
+   * @return the equivalent {@link #nextLong()} output
+   */
+  private static long rawToLong(final long raw) {
+    return (raw & 0xFFFFFFFF00000000L) + (int) raw;
+  }
+
+  /**
+   * Reads 8 bytes of output at once, rather than 4 bytes twice.
+   */
+  @Override protected long nextLong64() {
+    final long raw;
+    lock.lock();
+    try {
+      raw = nextRawLongLocked();
+    } finally {
+      lock.unlock();
+    }
+    return rawToLong(raw);
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    final long raw;
+    lock.lock();
+    try {
+      raw = nextRawLongLocked();
+    } finally {
+      lock.unlock();
+    }
+    return intsToDouble((int) (raw >>> 32), (int) raw);
+  }
+
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = rawToLong(nextRawLongLocked());
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        final long raw = nextRawLongLocked();
+        dest[i] = intsToDouble((int) (raw >>> 32), (int) raw);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
   /**
    * {@inheritDoc} If the seed is not of the maximum length, it is combined with the existing seed
-   * using the hash algorithm.
+   * using the hash algorithm. If it is, it replaces both the key and the counter, so that the output
+   * matches that of a new instance created with the same seed.
    */
   @Override public void setSeed(final byte[] seed) {
     checkNotTooLong(seed);
     final byte[] key;
     lock.lock();
     try {
+      if (seed.length == getMaxTotalSeedLengthBytes()) {
+        setSeedInternal(seed);
+        return;
+      }
       boolean weAreSeeded = seeded;
       if (weAreSeeded) {
         // Extend the key
@@ -288,7 +759,8 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     checkNotTooLong(seed);
     if (seed.length < getMinSeedLength()) {
       throw new IllegalArgumentException(
-          String.format("Seed length is %d bytes; need at least 16 bytes", seed.length));
+          String.format("Seed length is %d bytes; need at least %d bytes", seed.length,
+              getMinSeedLength()));
     }
     super.setSeedInternal(seed);
     // determine how much of seed can go to key
@@ -305,7 +777,9 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     } catch (final InvalidKeyException e) {
       throw new InternalError("Invalid key: " + Arrays.toString(key), e);
     }
-    index = getBytesAtOnce();
+    index = 0;
+    currentBlockLength = 0;
+    nextBatchBlocks = 1;
     seeded = true;
   }
 
@@ -323,4 +797,65 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
    * @throws InvalidKeyException if the cipher rejects the key
    */
   protected abstract void setKey(byte[] key) throws InvalidKeyException;
+
+  /**
+   * Task that fills part of a buffer for {@link #parallelNextBytes(ByteBuffer, ForkJoinPool)}, by
+   * splitting it in half until each part is at most one chunk.
+   */
+  private static final class ParallelFill extends RecursiveAction {
+
+    private static final long serialVersionUID = 7227471536146339040L;
+    private final CipherCounterRandom origin;
+    private final ByteBuffer dest;
+    private final int start;
+    private final int offset;
+    private final int length;
+    private final int chunkBytes;
+
+    /**
+     * Creates an instance.
+     *
+     * @param origin a copy of the PRNG in the state where the output starts; never modified
+     * @param dest the buffer to fill; its position and limit aren't used or modified
+     * @param start the position in {@code dest} of the first byte of the whole output
+     * @param offset the offset from {@code start} of the part this task fills; a multiple of
+     *     {@code chunkBytes}
+     * @param length the length of the part this task fills
+     * @param chunkBytes the largest part that isn't split further; a multiple of
+     *     {@link Integer#BYTES}
+     */
+    ParallelFill(final CipherCounterRandom origin, final ByteBuffer dest, final int start,
+        final int offset, final int length, final int chunkBytes) {
+      this.origin = origin;
+      this.dest = dest;
+      this.start = start;
+      this.offset = offset;
+      this.length = length;
+      this.chunkBytes = chunkBytes;
+    }
+
+    @Override protected void compute() {
+      if (length > chunkBytes) {
+        final int firstLength = ((length / chunkBytes) / 2) * chunkBytes;
+        if (firstLength > 0) {
+          invokeAll(new ParallelFill(origin, dest, start, offset, firstLength, chunkBytes),
+              new ParallelFill(origin, dest, start, offset + firstLength, length - firstLength,
+                  chunkBytes));
+          return;
+        }
+      }
+      final CipherCounterRandom copy = (CipherCounterRandom) origin.copyState();
+      copy.advance(offset / Integer.BYTES);
+      final ByteBuffer part = dest.duplicate();
+      // Casts needed for Java 8 compatibility, since these methods are covariant in 9+
+      ((Buffer) part).limit(start + offset + length);
+      ((Buffer) part).position(start + offset);
+      copy.lock.lock();
+      try {
+        copy.nextBytesLocked(part);
+      } finally {
+        copy.lock.unlock();
+      }
+    }
+  }
 }
@@ -101,19 +101,84 @@ public class Cmwc4096Random extends BaseRandom {
     index = 4095;
   }
 
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override protected int next(final int bits) {
+  @Override protected int next(final int bits) {
     lock.lock();
     try {
-      index = (index + 1) & 4095;
-      final long t = (A * (state[index] & 0xFFFFFFFFL)) + carry;
-      carry = (int) (t >> 32);
-      int x = ((int) t) + carry;
-      if (x < carry) {
-        x++;
-        carry++;
+      return nextIntLocked() >>> (32 - bits);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Performs one step of the generator. Must be called with {@link #lock} held.
+   *
+   * @return 32 pseudorandom bits
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision") private int nextIntLocked() {
+    index = (index + 1) & 4095;
+    final long t = (A * (state[index] & 0xFFFFFFFFL)) + carry;
+    carry = (int) (t >> 32);
+    int x = ((int) t) + carry;
+    if (x < carry) {
+      x++;
+      carry++;
+    }
+    state[index] = 0xFFFFFFFE - x;
+    return state[index];
+  }
+
+  @Override protected long nextLong64() {
+    lock.lock();
+    try {
+      return ((long) nextIntLocked() << 32) + nextIntLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    lock.lock();
+    try {
+      return intsToDouble(nextIntLocked(), nextIntLocked());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = ((long) nextIntLocked() << 32) + nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = intsToDouble(nextIntLocked(), nextIntLocked());
       }
-      state[index] = 0xFFFFFFFE - x;
-      return state[index] >>> (32 - bits);
     } finally {
       lock.unlock();
     }
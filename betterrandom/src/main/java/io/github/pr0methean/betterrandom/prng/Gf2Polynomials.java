@@ -0,0 +1,94 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * <p>Arithmetic on polynomials over GF(2), modulo the characteristic polynomial of the state
+ * transition of a linear PRNG such as {@link Xoshiro256StarStarRandom}. If that polynomial is
+ * {@code P} and {@code x^k mod P = sum(c_i * x^i)}, then advancing the PRNG by {@code k} steps is
+ * the same as XORing together the states it passes through in its next {@code deg(P)} steps, for
+ * each {@code i} such that {@code c_i = 1}. This is how the published {@code jump()} functions for
+ * these PRNGs work, with {@code k} fixed; here {@code k} can be anything.</p>
+ *
+ * <p>A polynomial of degree less than {@code n} is represented as an array of {@code n / 64}
+ * {@code long}s, where bit {@code b} of element {@code i} is the coefficient of
+ * <code>x<sup>64i + b</sup></code>. The characteristic polynomial of degree {@code n} is
+ * represented the same way, with its leading coefficient left implicit.</p>
+ *
+ * @author Chris Hennick
+ */
+final class Gf2Polynomials {
+
+  private Gf2Polynomials() {
+  }
+
+  /**
+   * Returns <code>x<sup>exponent</sup></code> modulo the characteristic polynomial. A negative
+   * exponent is supported, as long as the characteristic polynomial has a nonzero constant term (as
+   * it does for any PRNG whose state transition is invertible).
+   *
+   * @param exponent the exponent, i.e. the number of steps to advance
+   * @param characteristic the characteristic polynomial, without its leading coefficient
+   * @return the jump polynomial for {@code exponent} steps
+   */
+  static long[] powerOfX(final long exponent, final long[] characteristic) {
+    final int words = characteristic.length;
+    final long[] base = new long[words];
+    if (exponent >= 0) {
+      base[0] = 2; // x
+    } else {
+      // If P = x * Q + 1, then x * Q = 1 (mod P), so Q is the inverse of x
+      for (int i = 0; i < words; i++) {
+        base[i] = characteristic[i] >>> 1;
+        if ((i + 1) < words) {
+          base[i] |= characteristic[i + 1] << (Long.SIZE - 1);
+        }
+      }
+      base[words - 1] |= Long.MIN_VALUE; // from the implicit leading coefficient
+    }
+    long[] result = new long[words];
+    result[0] = 1;
+    // The magnitude, as an unsigned value so that Long.MIN_VALUE works
+    long remaining = (exponent >= 0) ? exponent : -exponent;
+    long[] power = base;
+    while (remaining != 0) {
+      if ((remaining & 1) != 0) {
+        result = multiply(result, power, characteristic);
+      }
+      remaining >>>= 1;
+      if (remaining != 0) {
+        power = multiply(power, power, characteristic);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the product of two polynomials modulo the characteristic polynomial.
+   */
+  private static long[] multiply(final long[] a, final long[] b, final long[] characteristic) {
+    final int words = characteristic.length;
+    final long[] product = new long[words];
+    // Horner's method, from the highest coefficient of a down
+    for (int i = words - 1; i >= 0; i--) {
+      final long word = a[i];
+      for (int bit = Long.SIZE - 1; bit >= 0; bit--) {
+        // Multiply by x, reducing the overflow into the constant term by P
+        final boolean overflow = product[words - 1] < 0;
+        for (int j = words - 1; j > 0; j--) {
+          product[j] = (product[j] << 1) | (product[j - 1] >>> (Long.SIZE - 1));
+        }
+        product[0] <<= 1;
+        if (overflow) {
+          for (int j = 0; j < words; j++) {
+            product[j] ^= characteristic[j];
+          }
+        }
+        if (((word >>> bit) & 1) != 0) {
+          for (int j = 0; j < words; j++) {
+            product[j] ^= b[j];
+          }
+        }
+      }
+    }
+    return product;
+  }
+}
@@ -164,37 +164,111 @@ public class MersenneTwisterRandom extends BaseRandom {
     int y;
     lock.lock();
     try {
-      final int curMtIndex;
-      final int oldMtIndex = mtIndex;
-      if (oldMtIndex >= N) // Generate N ints at a time.
-      {
-        int kk;
-        for (kk = 0; kk < (N - M); kk++) {
-          y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-          mt[kk] = mt[kk + M] ^ (y >>> 1) ^ MAG01[y & 0x1];
-        }
-        for (; kk < (N - 1); kk++) {
-          y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-          mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ MAG01[y & 0x1];
-        }
-        y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
-        mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ MAG01[y & 0x1];
-
-        curMtIndex = 0;
-      } else {
-        curMtIndex = oldMtIndex;
-      }
-      y = mt[curMtIndex];
-      mtIndex = curMtIndex + 1;
+      y = nextUntemperedLocked();
     } finally {
       lock.unlock();
     }
-    // Tempering
+    return temper(y) >>> (32 - bits);
+  }
+
+  /**
+   * Returns the next untempered output, first generating {@link #N} new ones if they've all been
+   * used. Must be called with {@link #lock} held.
+   *
+   * @return the next untempered output
+   */
+  private int nextUntemperedLocked() {
+    int y;
+    final int curMtIndex;
+    final int oldMtIndex = mtIndex;
+    if (oldMtIndex >= N) // Generate N ints at a time.
+    {
+      int kk;
+      for (kk = 0; kk < (N - M); kk++) {
+        y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
+        mt[kk] = mt[kk + M] ^ (y >>> 1) ^ MAG01[y & 0x1];
+      }
+      for (; kk < (N - 1); kk++) {
+        y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
+        mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ MAG01[y & 0x1];
+      }
+      y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
+      mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ MAG01[y & 0x1];
+
+      curMtIndex = 0;
+    } else {
+      curMtIndex = oldMtIndex;
+    }
+    mtIndex = curMtIndex + 1;
+    return mt[curMtIndex];
+  }
+
+  private static int temper(int y) {
     y ^= (y >>> 11);
     y ^= (y << 7) & GENERATE_MASK1;
     y ^= (y << 15) & GENERATE_MASK2;
     y ^= (y >>> 18);
-    return y >>> (32 - bits);
+    return y;
+  }
+
+  private int nextIntLocked() {
+    return temper(nextUntemperedLocked());
+  }
+
+  @Override protected long nextLong64() {
+    lock.lock();
+    try {
+      return ((long) nextIntLocked() << 32) + nextIntLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    lock.lock();
+    try {
+      return intsToDouble(nextIntLocked(), nextIntLocked());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = ((long) nextIntLocked() << 32) + nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = intsToDouble(nextIntLocked(), nextIntLocked());
+      }
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
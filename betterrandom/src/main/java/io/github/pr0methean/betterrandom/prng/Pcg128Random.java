@@ -1,10 +1,6 @@
 package io.github.pr0methean.betterrandom.prng;
 
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.addInto;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.multiplyInto;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.multiplyIntoAndAddInto;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.shiftedLeast;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.shiftedMost;
+import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.unsignedMultiplyHigh;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
 import io.github.pr0methean.betterrandom.SeekableRandom;
@@ -12,17 +8,26 @@ import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
-import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
 
 /**
  * <p>From the original description, "PCG is a family of simple fast space-efficient statistically
  * good algorithms for random number generation. Unlike many general-purpose RNGs, they are also
  * hard to predict." This is a Java port of the "XSH RR 128/64" generator presented at <a
  * href="http://www.pcg-random.org/">http://www.pcg-random.org/</a>. Period is 2<sup>126</sup> bits.
- * This PRNG is seekable.
+ * Each step produces 64 bits, so {@link #nextLong()} and {@link #nextDouble()} each take one step;
+ * {@link #nextInt()} also takes one step, and uses the upper 32 bits. This PRNG is seekable.
+ * </p><p>
+ * Each instance uses one of 2<sup>127</sup> streams, which are selected by the LCG increment. The
+ * {@link #Pcg128Random(byte[], long)} constructor chooses a stream by ID, so that many independent
+ * PRNGs can share one seed; the other constructors use the same default stream as the reference
+ * implementation. On any other stream, {@link #getSeed()} returns 32 bytes rather than 16, with the
+ * increment after the state, so that passing it to {@link #Pcg128Random(byte[])} recreates the PRNG
+ * on the same stream.
  * </p><p>
  * Sharing a single instance across threads that are frequently using it concurrently isn't
  * recommended, unless memory is too constrained to use with a
@@ -35,23 +40,38 @@ import java.util.concurrent.locks.ReentrantLock;
 public class Pcg128Random extends BaseRandom implements SeekableRandom {
 
   private static final int SEED_SIZE_BYTES = 2 * Long.BYTES;
-  private static final byte[] MULTIPLIER =
-      {0x00000023, 0x00000060, 0xffffffed, 0x00000005, 0x0000001f, 0xffffffc6, 0x0000005d,
-          0xffffffa4, 0x00000043, 0xffffff85, 0xffffffdf, 0x00000064, 0xffffff9f, 0xffffffcc,
-          0xfffffff6, 0x00000045};
-  private static final byte[] INCREMENT =
-      {0x00000058, 0x00000051, 0xfffffff4, 0x0000002d, 0x0000004c, 0xffffff95, 0x0000007f,
-          0x0000002d, 0x00000014, 0x00000005, 0x0000007b, 0x0000007e, 0xfffffff7, 0x00000067,
-          0xffffff81, 0x0000004f};
+  /**
+   * Length of a seed that includes the increment as well as the state.
+   */
+  private static final int STREAM_SEED_SIZE_BYTES = 2 * SEED_SIZE_BYTES;
+  private static final long MULTIPLIER_HIGH = 0x2360ed051fc65da4L;
+  private static final long MULTIPLIER_LOW = 0x4385df649fccf645L;
+  private static final long INCREMENT_HIGH = 0x5851f42d4c957f2dL;
+  private static final long INCREMENT_LOW = 0x14057b7ef767814fL;
   private static final int WANTED_OP_BITS = 6;
   private static final int ROTATION1 = (WANTED_OP_BITS + Long.SIZE) / 2;
   private static final int ROTATION2 = Long.SIZE - WANTED_OP_BITS;
 
-  private static final double RANDOM_DOUBLE_INCR = 0x1.0p-53;
-  private static final int MASK = (1 << WANTED_OP_BITS) - 1;
   private static final long serialVersionUID = 3246991464669800351L;
 
-  private final Lock advancementLock = new ReentrantLock(); // guards *Mult and *Plus
+  /**
+   * Upper 64 bits of the state. The seed array is only updated from this and {@link #stateLow} when
+   * serializing.
+   */
+  private long stateHigh;
+  /**
+   * Lower 64 bits of the state.
+   */
+  private long stateLow;
+  /**
+   * Upper 64 bits of the LCG increment, which selects the stream. Not final, because instances
+   * serialized before streams were supported need the default set by {@code readObject}.
+   */
+  private long incrementHigh = INCREMENT_HIGH;
+  /**
+   * Lower 64 bits of the LCG increment; always odd.
+   */
+  private long incrementLow = INCREMENT_LOW;
 
   /**
    * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
@@ -73,21 +93,93 @@ public class Pcg128Random extends BaseRandom implements SeekableRandom {
   /**
    * Creates a new PRNG with the provided seed.
    *
-   * @param seed the seed; must be exactly 16 bytes
+   * @param seed the seed; must be either 16 bytes, for the default stream, or 32 bytes, to also
+   *     give the increment as {@link #getSeed()} does
    */
   @EntryPoint public Pcg128Random(final byte[] seed) {
     super(seed);
-    if (seed.length != SEED_SIZE_BYTES) {
-      throw new IllegalArgumentException("Pcg128Random requires a 16-byte seed");
+    if (seed.length == STREAM_SEED_SIZE_BYTES) {
+      // Again, since the field initializers have run since setSeedInternal did this
+      setIncrementFromSeed(seed);
     }
   }
 
+  /**
+   * Creates a new PRNG with the provided seed, on the stream with the provided ID. As in the
+   * reference implementation, the increment is {@code (streamId << 1) | 1}, and the initial state
+   * is the seed plus the increment, advanced by one step; so PRNGs with the same seed on different
+   * streams don't start with the same output.
+   *
+   * @param seed the seed; must be exactly 16 bytes
+   * @param streamId the stream ID
+   */
+  @EntryPoint public Pcg128Random(final byte[] seed, final long streamId) {
+    this(seed);
+    incrementHigh = streamId >>> (Long.SIZE - 1);
+    incrementLow = (streamId << 1) | 1;
+    final long sumLow = stateLow + incrementLow;
+    final long sumHigh = stateHigh + incrementHigh
+        + ((Long.compareUnsigned(sumLow, stateLow) < 0) ? 1 : 0);
+    stateHigh = multiplyAddHigh(sumHigh, sumLow, MULTIPLIER_HIGH, MULTIPLIER_LOW, incrementHigh,
+        incrementLow);
+    stateLow = (sumLow * MULTIPLIER_LOW) + incrementLow;
+  }
+
   @Override public void setSeed(final long seed) {
     fallbackSetSeedIfInitialized();
   }
 
+  /**
+   * Returns the current state, followed by the increment if this PRNG isn't on the default stream.
+   * The result is a valid seed for {@link #Pcg128Random(byte[])} and {@link #setSeed(byte[])}.
+   *
+   * @return the current state, as 16 bytes on the default stream or 32 bytes on any other stream
+   */
+  @Override public byte[] getSeed() {
+    lock.lock();
+    try {
+      if ((incrementHigh == INCREMENT_HIGH) && (incrementLow == INCREMENT_LOW)) {
+        return stateToSeed();
+      }
+      final byte[] seed = Arrays.copyOf(stateToSeed(), STREAM_SEED_SIZE_BYTES);
+      BinaryUtils.convertLongToBytes(incrementHigh, seed, SEED_SIZE_BYTES);
+      BinaryUtils.convertLongToBytes(incrementLow, seed, SEED_SIZE_BYTES + Long.BYTES);
+      return seed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the ID of the stream this PRNG is on. The default stream's ID is too long for a
+   * {@code long}, so for it, this returns only the lowest 64 bits.
+   *
+   * @return the stream ID, as passed to {@link #Pcg128Random(byte[], long)}
+   */
+  public long getStreamId() {
+    lock.lock();
+    try {
+      return (incrementLow >>> 1) | (incrementHigh << (Long.SIZE - 1));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the seed that would recreate the current state. Must be called with {@link #lock}
+   * held.
+   *
+   * @return a new array
+   */
+  private byte[] stateToSeed() {
+    final byte[] result = new byte[SEED_SIZE_BYTES];
+    BinaryUtils.convertLongToBytes(stateHigh, result, 0);
+    BinaryUtils.convertLongToBytes(stateLow, result, Long.BYTES);
+    return result;
+  }
+
   @Override protected double nextDoubleNoEntropyDebit() {
-    return (nextLongNoEntropyDebit() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * RANDOM_DOUBLE_INCR;
+    return longToDouble(nextLong64());
   }
 
   // TODO: convert to 128 bits
@@ -103,92 +195,216 @@ public class Pcg128Random extends BaseRandom implements SeekableRandom {
    * @param lowDelta low quadword of the distance to advance
    */
   public void advance(long highDelta, long lowDelta) {
-    advancementLock.lock();
-    try {
-      if (highDelta == 0 && lowDelta == 0) {
-        return;
-      }
-      // The method used here is based on Brown, "Random Number Generation
-      // with Arbitrary Stride,", Transactions of the American Nuclear
-      // Society (Nov. 1994).  The algorithm is very similar to fast
-      // exponentiation.
-      byte[] curMult = MULTIPLIER.clone();
-      byte[] accMult = Byte16ArrayArithmetic.ONE.clone();
-      byte[] curPlus = INCREMENT.clone();
-      byte[] accPlus = new byte[SEED_SIZE_BYTES];
-      byte[] adjMult = new byte[SEED_SIZE_BYTES];
-      while (lowDelta != 0 || highDelta != 0) {
-        if ((lowDelta & 1) == 1) {
-          multiplyInto(accMult, curMult);
-          multiplyIntoAndAddInto(accPlus, curMult, curPlus);
-        }
-        System.arraycopy(curMult, 0, adjMult, 0, SEED_SIZE_BYTES);
-        addInto(adjMult, Byte16ArrayArithmetic.ONE);
-        multiplyInto(curPlus, adjMult);
-        multiplyInto(curMult, curMult);
-        lowDelta >>>= 1;
-        lowDelta |= (highDelta & 1L) << 63;
-        highDelta >>>= 1;
-      }
-      lock.lock();
-      try {
-        multiplyIntoAndAddInto(seed, accMult, accPlus);
-      } finally {
-        lock.unlock();
+    if (highDelta == 0 && lowDelta == 0) {
+      return;
+    }
+    // The method used here is based on Brown, "Random Number Generation
+    // with Arbitrary Stride,", Transactions of the American Nuclear
+    // Society (Nov. 1994).  The algorithm is very similar to fast
+    // exponentiation.
+    long curMultHigh = MULTIPLIER_HIGH;
+    long curMultLow = MULTIPLIER_LOW;
+    long accMultHigh = 0;
+    long accMultLow = 1;
+    long curPlusHigh = incrementHigh;
+    long curPlusLow = incrementLow;
+    long accPlusHigh = 0;
+    long accPlusLow = 0;
+    while (lowDelta != 0 || highDelta != 0) {
+      if ((lowDelta & 1) == 1) {
+        // accMult *= curMult
+        accMultHigh = multiplyHigh(accMultHigh, accMultLow, curMultHigh, curMultLow);
+        accMultLow *= curMultLow;
+        // accPlus = accPlus * curMult + curPlus
+        accPlusHigh = multiplyAddHigh(accPlusHigh, accPlusLow, curMultHigh, curMultLow,
+            curPlusHigh, curPlusLow);
+        accPlusLow = accPlusLow * curMultLow + curPlusLow;
       }
+      // curPlus *= curMult + 1
+      final long adjMultLow = curMultLow + 1;
+      final long adjMultHigh = curMultHigh + ((adjMultLow == 0) ? 1 : 0);
+      curPlusHigh = multiplyHigh(curPlusHigh, curPlusLow, adjMultHigh, adjMultLow);
+      curPlusLow *= adjMultLow;
+      // curMult *= curMult
+      curMultHigh = multiplyHigh(curMultHigh, curMultLow, curMultHigh, curMultLow);
+      curMultLow *= curMultLow;
+      lowDelta >>>= 1;
+      lowDelta |= (highDelta & 1L) << 63;
+      highDelta >>>= 1;
+    }
+    lock.lock();
+    try {
+      final long oldLow = stateLow;
+      stateHigh = multiplyAddHigh(stateHigh, oldLow, accMultHigh, accMultLow, accPlusHigh,
+          accPlusLow);
+      stateLow = oldLow * accMultLow + accPlusLow;
+      discardBufferedBits();
     } finally {
-      advancementLock.unlock();
+      lock.unlock();
     }
   }
 
+  /**
+   * Returns the upper 64 bits of the product of two 128-bit values, modulo 2<sup>128</sup>. The
+   * lower 64 bits are simply {@code xLow * yLow}.
+   */
+  private static long multiplyHigh(final long xHigh, final long xLow, final long yHigh,
+      final long yLow) {
+    return unsignedMultiplyHigh(xLow, yLow) + (xHigh * yLow) + (xLow * yHigh);
+  }
+
+  /**
+   * Returns the upper 64 bits of {@code x * y + z} for 128-bit values, modulo 2<sup>128</sup>. The
+   * lower 64 bits are simply {@code xLow * yLow + zLow}.
+   */
+  private static long multiplyAddHigh(final long xHigh, final long xLow, final long yHigh,
+      final long yLow, final long zHigh, final long zLow) {
+    final long productLow = xLow * yLow;
+    final long carry = (Long.compareUnsigned(productLow + zLow, productLow) < 0) ? 1 : 0;
+    return multiplyHigh(xHigh, xLow, yHigh, yLow) + zHigh + carry;
+  }
+
+  /**
+   * Returns a {@link SingleThreadPcg128Random} in the same state as this PRNG.
+   */
+  @Override protected BaseRandom copyState() {
+    final Pcg128Random copy = new SingleThreadPcg128Random(stateToSeed());
+    copy.incrementHigh = incrementHigh;
+    copy.incrementLow = incrementLow;
+    return copy;
+  }
+
+  /**
+   * Sets the state. A 32-byte seed, as returned by {@link #getSeed()} on a stream other than the
+   * default, also sets the increment; a 16-byte seed stays on the current stream.
+   *
+   * @param seed the new seed; must be 16 or 32 bytes
+   */
   @Override public void setSeedInternal(final byte[] seed) {
-    if (seed.length != SEED_SIZE_BYTES) {
-      throw new IllegalArgumentException("Pcg128Random requires a 16-byte seed");
+    if ((seed.length != SEED_SIZE_BYTES) && (seed.length != STREAM_SEED_SIZE_BYTES)) {
+      throw new IllegalArgumentException(
+          "Pcg128Random requires a 16-byte seed, or a 32-byte one including the increment");
     }
-    final boolean locked = (advancementLock != null);
-    if (locked) {
-      advancementLock.lock();
+    super.setSeedInternal(seed);
+    stateHigh = BinaryUtils.convertBytesToLong(seed, 0);
+    stateLow = BinaryUtils.convertBytesToLong(seed, Long.BYTES);
+    if (seed.length == STREAM_SEED_SIZE_BYTES) {
+      setIncrementFromSeed(seed);
     }
+  }
+
+  private void setIncrementFromSeed(final byte[] seed) {
+    incrementHigh = BinaryUtils.convertBytesToLong(seed, SEED_SIZE_BYTES);
+    incrementLow = BinaryUtils.convertBytesToLong(seed, SEED_SIZE_BYTES + Long.BYTES) | 1;
+  }
+
+  /**
+   * Returns true, because the seed can either be the state plus the increment, or just the state.
+   *
+   * @return true
+   */
+  @Override protected boolean supportsMultipleSeedLengths() {
+    return true;
+  }
+
+  @Override protected int next(final int bits) {
+    return (int) (nextLong64() >>> (Long.SIZE - bits));
+  }
+
+  @Override protected long nextLong64() {
+    lock.lock();
     try {
-      super.setSeedInternal(seed);
+      return nextLongLocked();
     } finally {
-      if (locked) {
-        advancementLock.unlock();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Performs one step of the generator. Must be called with {@link #lock} held.
+   *
+   * @return 64 pseudorandom bits
+   */
+  private long nextLongLocked() {
+    final long oldHigh = stateHigh;
+    final long oldLow = stateLow;
+    stateHigh = multiplyAddHigh(oldHigh, oldLow, MULTIPLIER_HIGH, MULTIPLIER_LOW, incrementHigh,
+        incrementLow);
+    stateLow = oldLow * MULTIPLIER_LOW + incrementLow;
+    // Calculate output function (XSH RR) on the old state:
+    // xorShifted = (long) (((oldState >>> ROTATION1) ^ oldState) >>> ROTATION2)
+    final long xorShiftedHigh = (oldHigh >>> ROTATION1) ^ oldHigh;
+    final long xorShiftedLow = ((oldLow >>> ROTATION1) | (oldHigh << (Long.SIZE - ROTATION1)))
+        ^ oldLow;
+    final long xorShifted =
+        (xorShiftedLow >>> ROTATION2) | (xorShiftedHigh << (Long.SIZE - ROTATION2));
+    return Long.rotateRight(xorShifted, (int) (oldHigh >>> ROTATION2));
+  }
+
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = (int) (nextLongLocked() >>> Integer.SIZE);
       }
+    } finally {
+      lock.unlock();
     }
   }
 
-  @Override protected int next(final int bits) {
-    return (int) (nextLongNoEntropyDebit() >>> (Long.SIZE - bits));
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextLongLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
   }
 
-  @Override protected long nextLongNoEntropyDebit() {
-    long oldSeedMost;
-    long oldSeedLeast;
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
     lock.lock();
     try {
-      oldSeedMost = BinaryUtils.convertBytesToLong(seed, 0);
-      oldSeedLeast = BinaryUtils.convertBytesToLong(seed, Long.BYTES);
-      multiplyIntoAndAddInto(seed, MULTIPLIER, INCREMENT);
+      for (int i = off; i < end; i++) {
+        dest[i] = longToDouble(nextLongLocked());
+      }
     } finally {
       lock.unlock();
     }
-    // Calculate output function (XSH RR), uses old state for max ILP
-    // int xorShifted = (int) (((oldInternal >>> ROTATION1) ^ oldInternal) >>> ROTATION2);
-    final long xorShiftedMost = shiftedMost(ROTATION1, oldSeedMost, oldSeedLeast) ^ oldSeedMost;
-    final long xorShiftedLeast = shiftedLeast(ROTATION1, oldSeedMost, oldSeedLeast) ^ oldSeedLeast;
-    final long preRotate = shiftedLeast(ROTATION2, xorShiftedMost, xorShiftedLeast);
-    // int rot = (int) (oldInternal >>> (SEED_SIZE_BYTES - WANTED_OP_BITS));
-    final int rot = ((int) (oldSeedMost >>> 58)) & MASK;
-    // return ((xorshifted >>> rot) | (xorshifted << ((-rot) & MASK))) >>> (Integer.SIZE - bits);
-    return (preRotate >>> rot) | (preRotate << ((-rot) & MASK));
   }
 
   @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
-    return original;
+    return original.add("stateHigh", stateHigh).add("stateLow", stateLow)
+        .add("incrementHigh", incrementHigh).add("incrementLow", incrementLow);
   }
 
   @Override public int getNewSeedLength() {
     return SEED_SIZE_BYTES;
   }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    lock.lock();
+    try {
+      // Copy the state back to the seed, which is what's deserialized
+      seed = stateToSeed();
+    } finally {
+      lock.unlock();
+    }
+    out.defaultWriteObject();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (incrementLow == 0) {
+      // Serialized before streams were supported
+      incrementHigh = INCREMENT_HIGH;
+      incrementLow = INCREMENT_LOW;
+    }
+  }
 }
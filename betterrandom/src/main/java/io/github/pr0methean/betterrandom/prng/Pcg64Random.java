@@ -8,6 +8,7 @@ import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
 import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -18,6 +19,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * href="http://www.pcg-random.org/">http://www.pcg-random.org/</a>. Period is 2<sup>62</sup> bits.
  * This PRNG is seekable.
  * </p><p>
+ * Each instance uses one of 2<sup>63</sup> streams, which are selected by the LCG increment. The
+ * {@link #Pcg64Random(long, long)} and {@link #Pcg64Random(byte[], long)} constructors choose a
+ * stream by ID, so that many independent PRNGs can share one seed; the other constructors use the
+ * same default stream as the reference implementation. On any other stream, {@link #getSeed()}
+ * returns 16 bytes rather than 8, with the increment after the state, so that passing it to
+ * {@link #Pcg64Random(byte[])} recreates the PRNG on the same stream.
+ * </p><p>
  * Sharing a single instance across threads that are frequently using it concurrently isn't
  * recommended, unless memory is too constrained to use with a
  * {@link io.github.pr0methean.betterrandom.prng.adapter.ThreadLocalRandomWrapper}.
@@ -31,6 +39,14 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
   private static final long serialVersionUID = 1677405697790847137L;
   private static final long MULTIPLIER = 6364136223846793005L;
   private static final long INCREMENT = 1442695040888963407L;
+  /**
+   * Length of a seed that includes the increment as well as the state.
+   */
+  private static final int STREAM_SEED_SIZE_BYTES = 2 * Long.BYTES;
+  /**
+   * The multiplier for advancing two steps at once.
+   */
+  private static final long MULTIPLIER_2 = MULTIPLIER * MULTIPLIER;
   private static final int WANTED_OP_BITS = 5;
   private static final int ROTATION1 = (WANTED_OP_BITS + Integer.SIZE) / 2;
   private static final int ROTATION2 = (Long.SIZE - Integer.SIZE - WANTED_OP_BITS);
@@ -38,6 +54,11 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
   private static final int MASK = (1 << WANTED_OP_BITS) - 1;
 
   private final AtomicLong internal;
+  /**
+   * The LCG increment, which selects the stream; always odd. Not final, because instances
+   * serialized before streams were supported need the default set by {@code readObject}.
+   */
+  private long increment = INCREMENT;
 
   /**
    * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
@@ -59,12 +80,13 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
   /**
    * Creates a new PRNG with the provided seed.
    *
-   * @param seed the seed; must be exactly 8 bytes
+   * @param seed the seed; must be either 8 bytes, for the default stream, or 16 bytes, to also
+   *     give the increment as {@link #getSeed()} does
    */
   @EntryPoint public Pcg64Random(final byte[] seed) {
     super(seed);
-    if (seed.length != Long.BYTES) {
-      throw new IllegalArgumentException("Pcg64Random requires an 8-byte seed");
+    if (seed.length == STREAM_SEED_SIZE_BYTES) {
+      increment = incrementFromSeed(seed);
     }
     internal = new AtomicLong(BinaryUtils.convertBytesToLong(seed));
   }
@@ -79,17 +101,99 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     internal = new AtomicLong(seed);
   }
 
-  @Override protected long nextLongNoEntropyDebit() {
-    lock.lock();
-    try {
-      return ((long) (next(32)) << 32) + next(32);
-    } finally {
-      lock.unlock();
-    }
+  /**
+   * Creates a new PRNG with the provided seed, on the stream with the provided ID. As in the
+   * reference implementation, the increment is {@code (streamId << 1) | 1}, and the initial state
+   * is the seed plus the increment, advanced by one step; so PRNGs with the same seed on different
+   * streams don't start with the same output. Stream IDs that differ only in the most significant
+   * bit select the same stream.
+   *
+   * @param seed the seed
+   * @param streamId the stream ID
+   */
+  @EntryPoint public Pcg64Random(final long seed, final long streamId) {
+    this(seed);
+    selectStream(seed, streamId);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed, on the stream with the provided ID. See
+   * {@link #Pcg64Random(long, long)}.
+   *
+   * @param seed the seed; must be exactly 8 bytes
+   * @param streamId the stream ID
+   */
+  @EntryPoint public Pcg64Random(final byte[] seed, final long streamId) {
+    this(seed);
+    selectStream(BinaryUtils.convertBytesToLong(seed), streamId);
+  }
+
+  private static long incrementFromSeed(final byte[] seed) {
+    return BinaryUtils.convertBytesToLong(seed, Long.BYTES) | 1;
   }
 
+  private void selectStream(final long seed, final long streamId) {
+    increment = (streamId << 1) | 1;
+    internal.set(((seed + increment) * MULTIPLIER) + increment);
+  }
+
+  /**
+   * Returns the same value as two calls to {@link #next(int)}, but advances the state by both steps
+   * with a single compare-and-set.
+   */
+  @Override protected long nextLong64() {
+    final long oldInternal = advanceTwoSteps();
+    return ((long) output(oldInternal) << 32) + output((oldInternal * MULTIPLIER) + increment);
+  }
+
+  /**
+   * Returns the same value as two calls to {@link #next(int)}, but advances the state by both steps
+   * with a single compare-and-set, and doesn't lock.
+   */
+  @Override protected double nextDoubleNoEntropyDebit() {
+    final long oldInternal = advanceTwoSteps();
+    return intsToDouble(output(oldInternal), output((oldInternal * MULTIPLIER) + increment));
+  }
+
+  /**
+   * Advances the state by two steps, retrying if another thread has updated it in the meantime.
+   *
+   * @return the state before advancing
+   */
+  private long advanceTwoSteps() {
+    final long increment2 = (MULTIPLIER + 1) * increment;
+    long oldInternal;
+    do {
+      oldInternal = internal.get();
+    } while (!updateInternal(oldInternal, (oldInternal * MULTIPLIER_2) + increment2));
+    return oldInternal;
+  }
+
+  /**
+   * Returns the current state, followed by the increment if this PRNG isn't on the default stream.
+   * The result is a valid seed for {@link #Pcg64Random(byte[])} and {@link #setSeed(byte[])}.
+   *
+   * @return the current state, as 8 bytes on the default stream or 16 bytes on any other stream
+   */
   @Override public byte[] getSeed() {
-    return BinaryUtils.convertLongToBytes(internal.get()).clone();
+    final long state = internal.get();
+    if (increment == INCREMENT) {
+      return BinaryUtils.convertLongToBytes(state).clone();
+    }
+    final byte[] seed = new byte[STREAM_SEED_SIZE_BYTES];
+    BinaryUtils.convertLongToBytes(state, seed, 0);
+    BinaryUtils.convertLongToBytes(increment, seed, Long.BYTES);
+    return seed;
+  }
+
+  /**
+   * Returns the ID of the stream this PRNG is on, with the most significant bit clear, since that
+   * bit doesn't affect the stream.
+   *
+   * @return the stream ID, as passed to {@link #Pcg64Random(long, long)}
+   */
+  public long getStreamId() {
+    return increment >>> 1;
   }
 
   @Override
@@ -98,6 +202,7 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
       lock.lock();
       try {
         internal.set(seed);
+        discardBufferedBits();
         creditEntropyForNewSeed(Long.BYTES);
       } finally {
         lock.unlock();
@@ -105,42 +210,88 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     }
   }
 
-  @Override public void advance(long delta) {
+  @Override public void advance(final long delta) {
     if (delta == 0) {
       return;
     }
+    lock.lock();
+    try {
+      reserveSteps(delta);
+      discardBufferedBits();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the state by the given number of steps with a single compare-and-set, retrying if
+   * another thread has updated it in the meantime. Only the compare-and-set is retried, so the
+   * caller can then generate the outputs for those steps from the returned state without
+   * contending with other threads, however many steps there are.
+   *
+   * @param steps the number of steps, which may be negative
+   * @return the state before advancing
+   */
+  private long reserveSteps(long steps) {
     // The method used here is based on Brown, "Random Number Generation
     // with Arbitrary Stride,", Transactions of the American Nuclear
     // Society (Nov. 1994).  The algorithm is very similar to fast
     // exponentiation.
     long curMult = MULTIPLIER;
-    long curPlus = INCREMENT;
+    long curPlus = increment;
     long accMult = 1;
     long accPlus = 0;
-    while (delta != 0) {
-      if ((delta & 1) == 1) {
+    while (steps != 0) {
+      if ((steps & 1) == 1) {
         accMult *= curMult;
         accPlus = (accPlus * curMult) + curPlus;
       }
       curPlus = (curMult + 1) * curPlus;
       curMult *= curMult;
-      delta >>>= 1;
-    }
-    final long finalAccMult = accMult;
-    final long finalAccPlus = accPlus;
-    lock.lock();
-    try {
-      internal.updateAndGet(old -> (finalAccMult * old) + finalAccPlus);
-    } finally {
-      lock.unlock();
+      steps >>>= 1;
     }
+    long oldInternal;
+    do {
+      oldInternal = internal.get();
+    } while (!updateInternal(oldInternal, (accMult * oldInternal) + accPlus));
+    return oldInternal;
   }
 
+  /**
+   * Returns a {@link SingleThreadPcg64Random} in the same state as this PRNG.
+   */
+  @Override protected BaseRandom copyState() {
+    final Pcg64Random copy = new SingleThreadPcg64Random(internal.get());
+    copy.increment = increment;
+    return copy;
+  }
+
+  /**
+   * Returns 2, since each {@code long} is made of two 32-bit outputs.
+   */
+  @Override protected long getAdvanceStepsPerLong() {
+    return 2;
+  }
+
+  /**
+   * Sets the state. A 16-byte seed, as returned by {@link #getSeed()} on a stream other than the
+   * default, also sets the increment; an 8-byte seed stays on the current stream.
+   *
+   * @param seed the new seed; must be 8 or 16 bytes
+   */
   @Override public void setSeedInternal(final byte[] seed) {
+    if ((seed.length != Long.BYTES) && (seed.length != STREAM_SEED_SIZE_BYTES)) {
+      throw new IllegalArgumentException(
+          "Pcg64Random requires an 8-byte seed, or a 16-byte one including the increment");
+    }
     super.setSeedInternal(seed);
     if (internal != null) {
       lock.lock();
       try {
+        if (seed.length == STREAM_SEED_SIZE_BYTES) {
+          // Before the state, so that threads that see the new state also see the new increment
+          increment = incrementFromSeed(seed);
+        }
         internal.set(BinaryUtils.convertBytesToLong(seed));
       } finally {
         lock.unlock();
@@ -148,21 +299,96 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     }
   }
 
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override protected int next(final int bits) {
+  @Override protected int next(final int bits) {
     long oldInternal;
     long newInternal;
-    do {
+    if (isThreadConfined()) {
       oldInternal = internal.get();
-      newInternal = (oldInternal * MULTIPLIER) + INCREMENT;
-    } while (!internal.compareAndSet(oldInternal, newInternal));
-    // Calculate output function (XSH RR), uses old state for max ILP
+      internal.lazySet((oldInternal * MULTIPLIER) + increment);
+    } else {
+      do {
+        oldInternal = internal.get();
+        newInternal = (oldInternal * MULTIPLIER) + increment;
+      } while (!internal.compareAndSet(oldInternal, newInternal));
+    }
+    return output(oldInternal) >>> (Integer.SIZE - bits);
+  }
+
+  /**
+   * Reserves all the steps with {@link #reserveSteps(long)}, then generates the outputs from the
+   * reserved start state.
+   */
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    long state = reserveSteps(len);
+    for (int i = off; i < end; i++) {
+      dest[i] = output(state);
+      state = (state * MULTIPLIER) + increment;
+    }
+  }
+
+  /**
+   * Reserves all the steps with {@link #reserveSteps(long)}, then generates the outputs from the
+   * reserved start state.
+   */
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    long state = reserveSteps(2L * len);
+    for (int i = off; i < end; i++) {
+      final int high = output(state);
+      state = (state * MULTIPLIER) + increment;
+      dest[i] = ((long) high << 32) + output(state);
+      state = (state * MULTIPLIER) + increment;
+    }
+  }
+
+  /**
+   * Reserves all the steps with {@link #reserveSteps(long)}, then generates the outputs from the
+   * reserved start state.
+   */
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    long state = reserveSteps(2L * len);
+    for (int i = off; i < end; i++) {
+      final int high = output(state);
+      state = (state * MULTIPLIER) + increment;
+      dest[i] = intsToDouble(high, output(state));
+      state = (state * MULTIPLIER) + increment;
+    }
+  }
+
+  private boolean updateInternal(final long expected, final long newInternal) {
+    if (isThreadConfined()) {
+      internal.lazySet(newInternal);
+      return true;
+    }
+    return internal.compareAndSet(expected, newInternal);
+  }
+
+  /**
+   * Calculates the output function (XSH RR) for a given state. Uses the old state (before the
+   * update) for max ILP.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private static int output(final long oldInternal) {
     final int xorshifted = (int) (((oldInternal >>> ROTATION1) ^ oldInternal) >>> ROTATION2);
     final int rot = (int) (oldInternal >>> ROTATION3);
-    return ((xorshifted >>> rot) | (xorshifted << ((-rot) & MASK))) >>> (Integer.SIZE - bits);
+    return (xorshifted >>> rot) | (xorshifted << ((-rot) & MASK));
   }
 
   @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
-    return original.add("internal", internal.get());
+    return original.add("internal", internal.get()).add("increment", increment);
+  }
+
+  /**
+   * Returns true, because the seed can either be the state plus the increment, or just the state.
+   *
+   * @return true
+   */
+  @Override protected boolean supportsMultipleSeedLengths() {
+    return true;
   }
 
   @Override public int getNewSeedLength() {
@@ -174,4 +400,12 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     BinaryUtils.convertLongToBytes(internal.get(), seed, 0);
     out.defaultWriteObject();
   }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (increment == 0) {
+      // Serialized before streams were supported
+      increment = INCREMENT;
+    }
+  }
 }
@@ -0,0 +1,212 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * <p>CipherCounterRandom using Philox4x32-10 (Salmon, Moraes, Dror and Shaw, "Parallel Random
+ * Numbers: As Easy as 1, 2, 3", SC '11), a counter-based generator designed for speed rather than
+ * cryptographic strength: each 128-bit block of output is a keyed bijection of a 128-bit counter,
+ * computed with 10 rounds of 32-bit multiplications. Like the other {@link CipherCounterRandom}s,
+ * it can {@link #advance(long)} any distance in constant time; and since a block depends only on
+ * the key and the counter, {@link #generate(long, long, long, long[])} gives random access to the
+ * same output without creating an instance at all.</p>
+ *
+ * <p>The key is 64 bits, so a seed of 8 bytes is just a key, and a seed of 9 to 24 bytes begins
+ * with an 8-byte key and continues with the start of the counter's initial value. The key, read as
+ * a big-endian {@code long}, has the Random123 key word {@code k[0]} in its lower 32 bits and
+ * {@code k[1]} in its upper 32 bits; likewise the counter, read as a 128-bit big-endian number,
+ * has the Random123 counter word {@code ctr[0]} in its lowest 32 bits and {@code ctr[3]} in its
+ * highest. Each block is output as the Random123 output words in order, so each of them is one
+ * {@link #nextInt()}. As in other {@link CipherCounterRandom}s, the counter is incremented before
+ * each block is generated.</p>
+ *
+ * <p><em>NOTE: Because instances of this class require 64-bit seeds, it is not possible to seed
+ * this RNG using the {@link #setSeed(long)} method inherited from {@link Random} until the seed
+ * array has been set.</em></p>
+ *
+ * @author Chris Hennick
+ */
+public class Philox4x32Random extends CipherCounterRandom {
+
+  private static final long serialVersionUID = 2476212616934213596L;
+
+  /**
+   * Number of rounds in Philox4x32-10, the variant recommended by its authors.
+   */
+  public static final int ROUNDS = 10;
+
+  private static final int KEY_LENGTH_BYTES = 8;
+  private static final int DEFAULT_SEED_SIZE_BYTES = KEY_LENGTH_BYTES + 16;
+  private static final String HASH_ALGORITHM = "SHA-256";
+  /**
+   * Number of blocks to generate at once; this gives the same batch size as
+   * {@link AesCounterRandom}.
+   */
+  private static final int BLOCKS_AT_ONCE = 16;
+  // Round multipliers, as unsigned 32-bit values
+  private static final long MULTIPLIER_0 = 0xD2511F53L;
+  private static final long MULTIPLIER_1 = 0xCD9E8D57L;
+  // Key schedule increments: the golden ratio and sqrt(3) - 1, as 32-bit fractions
+  private static final int WEYL_0 = 0x9E3779B9;
+  private static final int WEYL_1 = 0xBB67AE85;
+  private static final long LOWER_32_BITS = 0xFFFF_FFFFL;
+
+  // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
+  private transient long key;
+  /**
+   * Receives each block from {@link #generate(long, long, long, long[])} before it's copied to
+   * the output.
+   */
+  private transient long[] blockBuffer;
+
+  /**
+   * Creates a new RNG and seeds it using 192 bits from the {@link DefaultSeedGenerator}: a key and
+   * a random initial counter value.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public Philox4x32Random() throws SeedException {
+    this(DEFAULT_SEED_SIZE_BYTES);
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy to create a 192-bit seed: a key and a
+   * random initial counter value.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public Philox4x32Random(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(DEFAULT_SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
+   *
+   * @param seedSizeBytes The number of bytes to use for seed data. Valid values range from 8
+   *     to 24.
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public Philox4x32Random(final int seedSizeBytes) throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR.generateSeed(seedSizeBytes));
+  }
+
+  /**
+   * Creates an RNG using Philox4x32-10 and seeds it with the specified seed data.
+   *
+   * @param seed The seed data used to initialize the RNG. Length must be at least 8 and no
+   *     more than 24.
+   */
+  public Philox4x32Random(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Computes one block of Philox4x32-10 output. This is a pure function with no side effects
+   * besides writing to {@code out}, so it can be called from any thread, with any counter, without
+   * allocating anything. An instance seeded with the same key and an initial counter value of
+   * {@code c} outputs the blocks for counters {@code c + 1}, {@code c + 2} and so on, since the
+   * counter is incremented before each block.
+   *
+   * @param key the key, as read from the first 8 bytes of a seed
+   * @param counterHigh the upper 64 bits of the 128-bit counter
+   * @param counterLow the lower 64 bits of the 128-bit counter
+   * @param out the array to write to; its first element receives output words 0 and 1 (in its
+   *     upper and lower halves respectively), and its second element words 2 and 3, which are the
+   *     values an instance would return from successive calls to {@link #nextInt()}
+   */
+  public static void generate(final long key, final long counterHigh, final long counterLow,
+      final long[] out) {
+    int k0 = (int) key;
+    int k1 = (int) (key >>> 32);
+    int x0 = (int) counterLow;
+    int x1 = (int) (counterLow >>> 32);
+    int x2 = (int) counterHigh;
+    int x3 = (int) (counterHigh >>> 32);
+    for (int i = 0; i < ROUNDS; i++) {
+      final long product0 = MULTIPLIER_0 * (x0 & LOWER_32_BITS);
+      final long product1 = MULTIPLIER_1 * (x2 & LOWER_32_BITS);
+      x0 = (int) (product1 >>> 32) ^ x1 ^ k0;
+      x1 = (int) product1;
+      x2 = (int) (product0 >>> 32) ^ x3 ^ k1;
+      x3 = (int) product0;
+      k0 += WEYL_0;
+      k1 += WEYL_1;
+    }
+    out[0] = ((long) x0 << 32) | (x1 & LOWER_32_BITS);
+    out[1] = ((long) x2 << 32) | (x3 & LOWER_32_BITS);
+  }
+
+  /**
+   * Computes one block of Philox4x32-10 output, for a counter less than 2<sup>64</sup>. Equivalent
+   * to {@link #generate(long, long, long, long[])} with a {@code counterHigh} of zero.
+   *
+   * @param key the key, as read from the first 8 bytes of a seed
+   * @param counter the counter
+   * @param out the array to write to; see {@link #generate(long, long, long, long[])}
+   */
+  public static void generate(final long key, final long counter, final long[] out) {
+    generate(key, 0, counter, out);
+  }
+
+  @Override protected CipherCounterRandom newInstanceWithSeed(final byte[] seed) {
+    return new Philox4x32Random(seed);
+  }
+
+  @Override public int getBlocksAtOnce() {
+    return BLOCKS_AT_ONCE;
+  }
+
+  @Override public int getMaxKeyLengthBytes() {
+    return KEY_LENGTH_BYTES;
+  }
+
+  @Override protected int getKeyLength(final int inputLength) {
+    return KEY_LENGTH_BYTES;
+  }
+
+  @Override protected int getMinSeedLength() {
+    return KEY_LENGTH_BYTES;
+  }
+
+  @Override protected MessageDigest createHash() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new InternalError("Required hash algorithm missing");
+    }
+  }
+
+  @Override protected void createCipher() {
+    blockBuffer = new long[2];
+  }
+
+  @Override protected void setKey(final byte[] key) {
+    this.key = BinaryUtils.convertBytesToLong(key, 0);
+  }
+
+  @Override protected void doCipher(final byte[] input, final byte[] output) {
+    doCipher(input, getBlocksAtOnce(), output, 0);
+  }
+
+  @Override protected void doCipher(final byte[] input, final int blocks, final byte[] output,
+      final int outputOffset) {
+    final int blockSizeBytes = getBlockSizeBytes();
+    final long[] buffer = blockBuffer;
+    for (int block = 0; block < blocks; block++) {
+      final int counterOffset = block * blockSizeBytes;
+      generate(key, BinaryUtils.convertBytesToLong(input, counterOffset),
+          BinaryUtils.convertBytesToLong(input, counterOffset + Long.BYTES), buffer);
+      final int offset = outputOffset + counterOffset;
+      BinaryUtils.convertLongToBytes(buffer[0], output, offset);
+      BinaryUtils.convertLongToBytes(buffer[1], output, offset + Long.BYTES);
+    }
+  }
+}
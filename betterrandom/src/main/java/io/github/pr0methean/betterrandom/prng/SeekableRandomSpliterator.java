@@ -0,0 +1,267 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+
+/**
+ * <p>Base of the spliterators behind the sized streams of a {@link SeekableRandom}
+ * {@link BaseRandom}. Each instance owns a private copy of the PRNG, obtained from
+ * {@link BaseRandom#copyState()} and {@link SeekableRandom#advance(long) advanced} to the right
+ * position, so the workers of a parallel stream never contend for the original's state.</p>
+ *
+ * <p>Each output takes the same fixed number of steps, so the output at each index is the one the
+ * original would have produced next from the state it had when the stream was created, no matter
+ * how the stream is split. The stream is only split at multiples of {@link #BLOCK_SIZE}, so that
+ * each copy produces enough outputs to be worth the cost of seeking.</p>
+ *
+ * @author Chris Hennick
+ */
+abstract class SeekableRandomSpliterator {
+
+  /**
+   * Minimum number of outputs for a spliterator to split off.
+   */
+  static final int BLOCK_SIZE = 1 << 10;
+
+  private static final int CHARACTERISTICS =
+      Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE
+          | Spliterator.ORDERED;
+
+  /**
+   * A copy of the PRNG in the state where the stream starts. Never advanced; only copied, which
+   * doesn't modify it, so it can safely be shared by all the spliterators split from the same one.
+   */
+  protected final BaseRandom origin;
+  protected final long stepsPerValue;
+  private long index;
+  private final long fence;
+  @Nullable private BaseRandom source;
+
+  /**
+   * Creates an instance.
+   *
+   * @param origin a copy of the PRNG in the state where the stream starts
+   * @param stepsPerValue the number of {@link SeekableRandom#advance(long)} steps each output
+   *     takes
+   * @param index the first index (inclusive) to output
+   * @param fence the last index (exclusive) to output
+   */
+  protected SeekableRandomSpliterator(final BaseRandom origin, final long stepsPerValue,
+      final long index, final long fence) {
+    this.origin = origin;
+    this.stepsPerValue = stepsPerValue;
+    this.index = index;
+    this.fence = fence;
+  }
+
+  /**
+   * Creates a spliterator of the same type, with the same origin, that covers the given range.
+   *
+   * @param index the first index (inclusive) to output
+   * @param fence the last index (exclusive) to output
+   * @return a new spliterator
+   */
+  protected abstract SeekableRandomSpliterator newPrefix(long index, long fence);
+
+  /**
+   * Implements {@link Spliterator#trySplit()}, by giving the first half (rounded down to a multiple
+   * of {@link #BLOCK_SIZE}) of the remaining range to a new instance.
+   *
+   * @return the prefix, or null if this spliterator has less than one more block remaining
+   */
+  @Nullable protected final SeekableRandomSpliterator splitOffPrefix() {
+    final long mid = (((index + fence) >>> 1) / BLOCK_SIZE) * BLOCK_SIZE;
+    if (mid <= index) {
+      return null;
+    }
+    final SeekableRandomSpliterator prefix = newPrefix(index, mid);
+    prefix.source = source;
+    index = mid;
+    source = null;
+    return prefix;
+  }
+
+  /**
+   * Returns whether any outputs remain.
+   *
+   * @return true if this spliterator isn't exhausted
+   */
+  protected final boolean hasNext() {
+    return index < fence;
+  }
+
+  /**
+   * Returns the PRNG to generate the next output from, and moves on to the following index. The
+   * first call creates it, by copying the origin and advancing the copy to the current index.
+   *
+   * @return a copy of the PRNG, in the state where the output at the current index starts
+   */
+  protected final BaseRandom next() {
+    if (source == null) {
+      source = origin.copyState();
+      ((SeekableRandom) source).advance(index * stepsPerValue);
+    }
+    index++;
+    return source;
+  }
+
+  /**
+   * Implements {@link Spliterator#estimateSize()}.
+   *
+   * @return the exact number of outputs remaining
+   */
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  /**
+   * Implements {@link Spliterator#characteristics()}.
+   *
+   * @return the characteristics of this spliterator
+   */
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  /**
+   * Spliterator of {@code int}s.
+   */
+  static final class Ints extends SeekableRandomSpliterator implements Spliterator.OfInt {
+
+    private final ToIntFunction<BaseRandom> output;
+
+    /**
+     * Creates an instance.
+     *
+     * @param origin a copy of the PRNG in the state where the stream starts
+     * @param stepsPerValue the number of steps each output takes
+     * @param index the first index (inclusive) to output
+     * @param fence the last index (exclusive) to output
+     * @param output generates an output from a copy of the PRNG
+     */
+    Ints(final BaseRandom origin, final long stepsPerValue, final long index,
+        final long fence, final ToIntFunction<BaseRandom> output) {
+      super(origin, stepsPerValue, index, fence);
+      this.output = output;
+    }
+
+    @Override protected SeekableRandomSpliterator newPrefix(final long index, final long fence) {
+      return new Ints(origin, stepsPerValue, index, fence, output);
+    }
+
+    @Nullable @Override public Ints trySplit() {
+      return (Ints) splitOffPrefix();
+    }
+
+    @Override public boolean tryAdvance(final IntConsumer action) {
+      if (!hasNext()) {
+        return false;
+      }
+      action.accept(output.applyAsInt(next()));
+      return true;
+    }
+
+    @Override public void forEachRemaining(final IntConsumer action) {
+      while (hasNext()) {
+        action.accept(output.applyAsInt(next()));
+      }
+    }
+  }
+
+  /**
+   * Spliterator of {@code long}s.
+   */
+  static final class Longs extends SeekableRandomSpliterator implements Spliterator.OfLong {
+
+    private final ToLongFunction<BaseRandom> output;
+
+    /**
+     * Creates an instance.
+     *
+     * @param origin a copy of the PRNG in the state where the stream starts
+     * @param stepsPerValue the number of steps each output takes
+     * @param index the first index (inclusive) to output
+     * @param fence the last index (exclusive) to output
+     * @param output generates an output from a copy of the PRNG
+     */
+    Longs(final BaseRandom origin, final long stepsPerValue, final long index,
+        final long fence, final ToLongFunction<BaseRandom> output) {
+      super(origin, stepsPerValue, index, fence);
+      this.output = output;
+    }
+
+    @Override protected SeekableRandomSpliterator newPrefix(final long index, final long fence) {
+      return new Longs(origin, stepsPerValue, index, fence, output);
+    }
+
+    @Nullable @Override public Longs trySplit() {
+      return (Longs) splitOffPrefix();
+    }
+
+    @Override public boolean tryAdvance(final LongConsumer action) {
+      if (!hasNext()) {
+        return false;
+      }
+      action.accept(output.applyAsLong(next()));
+      return true;
+    }
+
+    @Override public void forEachRemaining(final LongConsumer action) {
+      while (hasNext()) {
+        action.accept(output.applyAsLong(next()));
+      }
+    }
+  }
+
+  /**
+   * Spliterator of {@code double}s.
+   */
+  static final class Doubles extends SeekableRandomSpliterator implements Spliterator.OfDouble {
+
+    private final ToDoubleFunction<BaseRandom> output;
+
+    /**
+     * Creates an instance.
+     *
+     * @param origin a copy of the PRNG in the state where the stream starts
+     * @param stepsPerValue the number of steps each output takes
+     * @param index the first index (inclusive) to output
+     * @param fence the last index (exclusive) to output
+     * @param output generates an output from a copy of the PRNG
+     */
+    Doubles(final BaseRandom origin, final long stepsPerValue, final long index,
+        final long fence, final ToDoubleFunction<BaseRandom> output) {
+      super(origin, stepsPerValue, index, fence);
+      this.output = output;
+    }
+
+    @Override protected SeekableRandomSpliterator newPrefix(final long index, final long fence) {
+      return new Doubles(origin, stepsPerValue, index, fence, output);
+    }
+
+    @Nullable @Override public Doubles trySplit() {
+      return (Doubles) splitOffPrefix();
+    }
+
+    @Override public boolean tryAdvance(final DoubleConsumer action) {
+      if (!hasNext()) {
+        return false;
+      }
+      action.accept(output.applyAsDouble(next()));
+      return true;
+    }
+
+    @Override public void forEachRemaining(final DoubleConsumer action) {
+      while (hasNext()) {
+        action.accept(output.applyAsDouble(next()));
+      }
+    }
+  }
+}
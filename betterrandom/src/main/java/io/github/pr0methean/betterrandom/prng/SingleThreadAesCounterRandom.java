@@ -0,0 +1,58 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+
+/**
+ * An {@link AesCounterRandom} that {@link #isThreadConfined() is confined to a single thread}, and
+ * so doesn't lock. Gives the same output as an {@link AesCounterRandom} with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadAesCounterRandom extends AesCounterRandom
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = -6219306815574960374L;
+
+  /**
+   * Creates a new RNG and seeds it using 256 bits from the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public SingleThreadAesCounterRandom() throws SeedException {
+    super();
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy to create a 256-bit seed.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public SingleThreadAesCounterRandom(final SeedGenerator seedGenerator) throws SeedException {
+    super(seedGenerator);
+  }
+
+  /**
+   * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
+   *
+   * @param seedSizeBytes The number of bytes to use for seed data. Valid values range from 16
+   *     to {@link #MAX_SEED_LENGTH_BYTES}.
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public SingleThreadAesCounterRandom(final int seedSizeBytes) throws SeedException {
+    super(seedSizeBytes);
+  }
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed The seed data used to initialize the RNG. Length must be at least 16 and no
+   *     more than {@link #MAX_SEED_LENGTH_BYTES}.
+   */
+  public SingleThreadAesCounterRandom(final byte[] seed) {
+    super(seed);
+  }
+}
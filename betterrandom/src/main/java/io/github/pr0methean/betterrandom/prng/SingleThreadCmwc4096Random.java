@@ -0,0 +1,48 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+
+/**
+ * A {@link Cmwc4096Random} that {@link #isThreadConfined() is confined to a single thread}, and so
+ * doesn't lock. Gives the same output as a {@link Cmwc4096Random} with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadCmwc4096Random extends Cmwc4096Random
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = -5765283736946264317L;
+
+  /**
+   * Creates a new RNG and seeds it using the default seeding strategy.
+   *
+   * @throws SeedException if any.
+   */
+  public SingleThreadCmwc4096Random() throws SeedException {
+    super();
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException If there is a problem generating a seed.
+   */
+  @EntryPoint public SingleThreadCmwc4096Random(final SeedGenerator seedGenerator)
+      throws SeedException {
+    super(seedGenerator);
+  }
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed 16384 bytes of seed data used to initialize the RNG.
+   */
+  public SingleThreadCmwc4096Random(final byte[] seed) {
+    super(seed);
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+
+/**
+ * A {@link MersenneTwisterRandom} that {@link #isThreadConfined() is confined to a single thread},
+ * and so doesn't lock. Gives the same output as a {@link MersenneTwisterRandom} with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadMersenneTwisterRandom extends MersenneTwisterRandom
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = 1540960440329545397L;
+
+  /**
+   * Creates a new RNG and seeds it using the default seeding strategy.
+   *
+   * @throws SeedException if any.
+   */
+  public SingleThreadMersenneTwisterRandom() throws SeedException {
+    super();
+  }
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed 16 bytes of seed data used to initialize the RNG.
+   */
+  public SingleThreadMersenneTwisterRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException If there is a problem generating a seed.
+   */
+  public SingleThreadMersenneTwisterRandom(final SeedGenerator seedGenerator)
+      throws SeedException {
+    super(seedGenerator);
+  }
+}
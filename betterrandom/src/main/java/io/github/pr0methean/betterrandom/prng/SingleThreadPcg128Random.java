@@ -0,0 +1,57 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+
+/**
+ * A {@link Pcg128Random} that {@link #isThreadConfined() is confined to a single thread}, and so
+ * doesn't lock. Gives the same output as a {@link Pcg128Random} with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadPcg128Random extends Pcg128Random
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = -8081404624512938815L;
+
+  /**
+   * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
+   */
+  public SingleThreadPcg128Random() {
+    super();
+  }
+
+  /**
+   * Creates a new PRNG with a seed from the provided {@link SeedGenerator}.
+   *
+   * @param seedGenerator the seed generator that will generate the initial seed
+   * @throws SeedException if {@code seedGenerator} fails to generate a seed
+   */
+  @EntryPoint public SingleThreadPcg128Random(final SeedGenerator seedGenerator)
+      throws SeedException {
+    super(seedGenerator);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed; must be either 16 bytes, for the default stream, or 32 bytes, to also
+   *     give the increment as {@link #getSeed()} does
+   */
+  @EntryPoint public SingleThreadPcg128Random(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed, on the stream with the provided ID. See
+   * {@link Pcg128Random#Pcg128Random(byte[], long)}.
+   *
+   * @param seed the seed; must be exactly 16 bytes
+   * @param streamId the stream ID
+   */
+  @EntryPoint public SingleThreadPcg128Random(final byte[] seed, final long streamId) {
+    super(seed, streamId);
+  }
+}
@@ -0,0 +1,78 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+
+/**
+ * A {@link Pcg64Random} that {@link #isThreadConfined() is confined to a single thread}, and so
+ * steps its state without a compare-and-set loop. Gives the same output as a {@link Pcg64Random}
+ * with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadPcg64Random extends Pcg64Random
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = 4490270466407934556L;
+
+  /**
+   * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
+   */
+  public SingleThreadPcg64Random() {
+    super();
+  }
+
+  /**
+   * Creates a new PRNG with a seed from the provided {@link SeedGenerator}.
+   *
+   * @param seedGenerator the seed generator that will generate the initial seed
+   * @throws SeedException if {@code seedGenerator} fails to generate a seed
+   */
+  @EntryPoint public SingleThreadPcg64Random(final SeedGenerator seedGenerator)
+      throws SeedException {
+    super(seedGenerator);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed; must be either 8 bytes, for the default stream, or 16 bytes, to also
+   *     give the increment as {@link #getSeed()} does
+   */
+  @EntryPoint public SingleThreadPcg64Random(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed
+   */
+  @EntryPoint public SingleThreadPcg64Random(final long seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed, on the stream with the provided ID. See
+   * {@link Pcg64Random#Pcg64Random(long, long)}.
+   *
+   * @param seed the seed
+   * @param streamId the stream ID
+   */
+  @EntryPoint public SingleThreadPcg64Random(final long seed, final long streamId) {
+    super(seed, streamId);
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed, on the stream with the provided ID. See
+   * {@link Pcg64Random#Pcg64Random(long, long)}.
+   *
+   * @param seed the seed; must be exactly 8 bytes
+   * @param streamId the stream ID
+   */
+  @EntryPoint public SingleThreadPcg64Random(final byte[] seed, final long streamId) {
+    super(seed, streamId);
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+
+/**
+ * A {@link XorShiftRandom} that {@link #isThreadConfined() is confined to a single thread}, and so
+ * doesn't lock. Gives the same output as a {@link XorShiftRandom} with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadXorShiftRandom extends XorShiftRandom
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = 2962532785447186232L;
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed 20 bytes of seed data used to initialize the RNG.
+   */
+  public SingleThreadXorShiftRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new RNG and seeds it using the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public SingleThreadXorShiftRandom() throws SeedException {
+    super();
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public SingleThreadXorShiftRandom(final SeedGenerator seedGenerator) throws SeedException {
+    super(seedGenerator);
+  }
+}
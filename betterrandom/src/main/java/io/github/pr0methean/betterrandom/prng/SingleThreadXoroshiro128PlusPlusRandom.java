@@ -0,0 +1,48 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+
+/**
+ * A {@link Xoroshiro128PlusPlusRandom} that {@link #isThreadConfined() is confined to a single
+ * thread}, and so doesn't lock. Gives the same output as a {@link Xoroshiro128PlusPlusRandom}
+ * with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadXoroshiro128PlusPlusRandom extends Xoroshiro128PlusPlusRandom
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = 8451872963015372209L;
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed 16 bytes of seed data used to initialize the RNG.
+   */
+  public SingleThreadXoroshiro128PlusPlusRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new RNG and seeds it using the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public SingleThreadXoroshiro128PlusPlusRandom() throws SeedException {
+    super();
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public SingleThreadXoroshiro128PlusPlusRandom(final SeedGenerator seedGenerator)
+      throws SeedException {
+    super(seedGenerator);
+  }
+}
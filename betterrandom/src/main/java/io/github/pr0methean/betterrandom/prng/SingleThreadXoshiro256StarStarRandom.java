@@ -0,0 +1,48 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+
+/**
+ * A {@link Xoshiro256StarStarRandom} that {@link #isThreadConfined() is confined to a single
+ * thread}, and so doesn't lock. Gives the same output as a {@link Xoshiro256StarStarRandom}
+ * with the same seed.
+ *
+ * @author Chris Hennick
+ */
+public class SingleThreadXoshiro256StarStarRandom extends Xoshiro256StarStarRandom
+    implements ThreadConfinedRandom {
+
+  private static final long serialVersionUID = -6185466227474310627L;
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed 32 bytes of seed data used to initialize the RNG.
+   */
+  public SingleThreadXoshiro256StarStarRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new RNG and seeds it using the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public SingleThreadXoshiro256StarStarRandom() throws SeedException {
+    super();
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public SingleThreadXoshiro256StarStarRandom(final SeedGenerator seedGenerator)
+      throws SeedException {
+    super(seedGenerator);
+  }
+}
@@ -0,0 +1,151 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * <p>Generates the random indices for a Fisher-Yates shuffle, or for Floyd's sampling algorithm,
+ * on behalf of {@link BaseRandom#shuffle(int[])} and related methods. Draws its input from
+ * {@link BaseRandom#nextLongsNoEntropyDebit(long[], int, int)} in batches, so that the lock is
+ * taken only once per batch, and leaves the entropy debit to the caller.</p>
+ *
+ * <p>Several indices are extracted from each 64-bit input when their bounds allow it, using the
+ * batched variant of Lemire's method by Brackett-Rozinsky and Lemire ("Batched Ranged Random
+ * Integer Generation", 2024): the input is multiplied by each bound in turn, each index is the
+ * upper 64 bits of the product, and the lower 64 bits carry on to the next bound. The input is
+ * rejected only when the final lower 64 bits fall below 2<sup>64</sup> mod the product of the
+ * bounds, which makes every combination of indices equally likely. Since the bounds here never
+ * exceed 2<sup>31</sup>, each multiplication only takes two 64-bit multiplications.</p>
+ *
+ * @author Chris Hennick
+ */
+final class SwapTargetGenerator {
+
+  /**
+   * Maximum number of indices produced by each call to {@link #fill(int, int)}.
+   */
+  static final int CHUNK_SIZE = 1 << 10;
+
+  private static final int MAX_BUFFER_SIZE = 1 << 8;
+  private static final long LOW_HALF_MASK = (1L << Integer.SIZE) - 1;
+
+  private final BaseRandom random;
+  private final long[] buffer;
+  private int position;
+  private final int[] targets;
+  private long entropy = 0;
+
+  /**
+   * Creates an instance.
+   *
+   * @param random the PRNG to draw from
+   * @param totalTargets the total number of indices that will be generated, used to size the
+   *     buffers
+   */
+  SwapTargetGenerator(final BaseRandom random, final int totalTargets) {
+    this.random = random;
+    buffer = new long[Math.max(1, Math.min(MAX_BUFFER_SIZE, totalTargets))];
+    position = buffer.length;
+    targets = new int[Math.min(CHUNK_SIZE, totalTargets)];
+  }
+
+  /**
+   * Returns the array that {@link #fill(int, int)} writes to.
+   *
+   * @return the array of indices
+   */
+  int[] targets() {
+    return targets;
+  }
+
+  /**
+   * Returns the total entropy of all the indices generated so far, in bits, rounded up per index.
+   *
+   * @return the entropy to debit
+   */
+  long getEntropy() {
+    return entropy;
+  }
+
+  /**
+   * Sets {@code targets()[m]} to a uniformly random index between 0 and {@code top - m}
+   * (inclusive), for each {@code m} less than {@code count}.
+   *
+   * @param top the inclusive upper bound for the first index; at most {@link Integer#MAX_VALUE}
+   *     - 1
+   * @param count the number of indices to generate; at most {@code top} and at most the length of
+   *     {@link #targets()}
+   */
+  void fill(final int top, final int count) {
+    int m = 0;
+    while (m < count) {
+      // Take as many bounds as are certain to have a product less than 2^64
+      final long firstBound = ((long) top - m) + 1;
+      long product = firstBound;
+      int bits = Long.SIZE - Long.numberOfLeadingZeros(firstBound);
+      entropy += Long.SIZE - Long.numberOfLeadingZeros(firstBound - 1);
+      int batch = 1;
+      while ((m + batch) < count) {
+        final long bound = firstBound - batch;
+        final int boundBits = Long.SIZE - Long.numberOfLeadingZeros(bound);
+        if ((bits + boundBits) > Long.SIZE) {
+          break;
+        }
+        bits += boundBits;
+        product *= bound;
+        entropy += Long.SIZE - Long.numberOfLeadingZeros(bound - 1);
+        batch++;
+      }
+      long leftover = extract(m, batch, firstBound);
+      if (Long.compareUnsigned(leftover, product) < 0) {
+        // 2^64 mod product; inputs whose leftover is below this are over-represented
+        final long threshold = Long.remainderUnsigned(-product, product);
+        while (Long.compareUnsigned(leftover, threshold) < 0) {
+          leftover = extract(m, batch, firstBound);
+        }
+      }
+      m += batch;
+    }
+  }
+
+  /**
+   * Extracts {@code batch} indices from one 64-bit input.
+   *
+   * @param m the position in {@link #targets} of the first index
+   * @param batch the number of indices
+   * @param firstBound the exclusive bound of the first index; each subsequent bound is one less
+   * @return the lower 64 bits of the final product, for the rejection test
+   */
+  private long extract(final int m, final int batch, final long firstBound) {
+    long input = nextLong();
+    for (int i = 0; i < batch; i++) {
+      final long bound = firstBound - i;
+      // 96-bit product of the input and a bound below 2^32, as (upper64, lower64)
+      final long lowProduct = (input & LOW_HALF_MASK) * bound;
+      final long highProduct = ((input >>> Integer.SIZE) * bound) + (lowProduct >>> Integer.SIZE);
+      targets[m + i] = (int) (highProduct >>> Integer.SIZE);
+      input = (highProduct << Integer.SIZE) | (lowProduct & LOW_HALF_MASK);
+    }
+    return input;
+  }
+
+  /**
+   * Swaps two elements of the array or list being shuffled.
+   */
+  @FunctionalInterface
+  interface Swapper {
+
+    /**
+     * Swaps the elements at the given indices.
+     *
+     * @param i the index of one element
+     * @param j the index of the other element
+     */
+    void swap(int i, int j);
+  }
+
+  private long nextLong() {
+    if (position == buffer.length) {
+      random.nextLongsNoEntropyDebit(buffer, 0, buffer.length);
+      position = 0;
+    }
+    return buffer[position++];
+  }
+}
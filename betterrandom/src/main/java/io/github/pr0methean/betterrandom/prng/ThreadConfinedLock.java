@@ -0,0 +1,44 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ReentrantLock} that never blocks and never records an owner, used as the
+ * {@link BaseRandom#lock} of a PRNG that {@link BaseRandom#isThreadConfined() is thread-confined}.
+ * Since only one thread ever touches such a PRNG, there's nothing to exclude.
+ */
+final class ThreadConfinedLock extends ReentrantLock {
+
+  private static final long serialVersionUID = -3512706381546297641L;
+
+  @Override public void lock() {
+    // No-op.
+  }
+
+  @Override public void lockInterruptibly() {
+    // No-op.
+  }
+
+  @Override public boolean tryLock() {
+    return true;
+  }
+
+  @Override public boolean tryLock(final long timeout, final TimeUnit unit) {
+    return true;
+  }
+
+  @Override public void unlock() {
+    // No-op.
+  }
+
+  /**
+   * Not supported, because no thread can wait on a thread-confined PRNG.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override public Condition newCondition() {
+    throw new UnsupportedOperationException("A thread-confined PRNG can't be waited on");
+  }
+}
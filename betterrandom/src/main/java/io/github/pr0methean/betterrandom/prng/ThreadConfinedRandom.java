@@ -0,0 +1,13 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * Marks a {@link BaseRandom} subclass whose instances are confined to a single thread. Such a PRNG
+ * doesn't lock and doesn't use atomic read-modify-write operations, so it's faster but must not be
+ * accessed concurrently. A marker interface rather than an overridable method, so that
+ * {@link BaseRandom} knows whether an instance is confined before any subclass constructor runs.
+ *
+ * @see BaseRandom#isThreadConfined()
+ * @author Chris Hennick
+ */
+public interface ThreadConfinedRandom {
+}
@@ -120,14 +120,78 @@ public class XorShiftRandom extends BaseRandom {
   @Override protected int next(final int bits) {
     lock.lock();
     try {
-      final int t = (state1 ^ (state1 >> 7));
-      state1 = state2;
-      state2 = state3;
-      state3 = state4;
-      state4 = state5;
-      state5 = (state5 ^ (state5 << 6)) ^ (t ^ (t << 13));
-      final int value = (state2 + state2 + 1) * state5;
-      return value >>> (32 - bits);
+      return nextIntLocked() >>> (32 - bits);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Performs one step of the generator. Must be called with {@link #lock} held.
+   *
+   * @return 32 pseudorandom bits
+   */
+  private int nextIntLocked() {
+    final int t = (state1 ^ (state1 >> 7));
+    state1 = state2;
+    state2 = state3;
+    state3 = state4;
+    state4 = state5;
+    state5 = (state5 ^ (state5 << 6)) ^ (t ^ (t << 13));
+    return (state2 + state2 + 1) * state5;
+  }
+
+  @Override protected long nextLong64() {
+    lock.lock();
+    try {
+      return ((long) nextIntLocked() << 32) + nextIntLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    lock.lock();
+    try {
+      return intsToDouble(nextIntLocked(), nextIntLocked());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = ((long) nextIntLocked() << 32) + nextIntLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = intsToDouble(nextIntLocked(), nextIntLocked());
+      }
     } finally {
       lock.unlock();
     }
@@ -0,0 +1,304 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * <p>Java port of xoroshiro128++ 1.0 by David Blackman and Sebastiano Vigna ("Scrambled Linear
+ * Pseudorandom Number Generators", ACM Transactions on Mathematical Software 47(4), 2021; see <a
+ * href="https://prng.di.unimi.it/">https://prng.di.unimi.it/</a>). It has 128 bits of state, a
+ * period of 2<sup>128</sup> - 1, and produces 64 bits per step, so {@link #nextLong()} and
+ * {@link #nextDouble()} each take one step; {@link #nextInt()} also takes one step, and uses the
+ * upper 32 bits. This PRNG is seekable: {@link #advance(long)} counts steps, and uses the
+ * characteristic polynomial of the state transition to seek in logarithmic time. {@link #jump()}
+ * and {@link #longJump()} advance by 2<sup>64</sup> and 2<sup>96</sup> steps respectively, for
+ * dividing the period into non-overlapping subsequences.</p>
+ *
+ * <p>This is slightly faster than {@link Xoshiro256StarStarRandom} and has half the state, but
+ * its shorter period leaves less room for non-overlapping subsequences, so the latter is better
+ * suited to massively parallel applications.</p>
+ *
+ * <p>The seed is the 128-bit state, as 2 big-endian {@code long}s. Since the all-zero state would
+ * only ever produce zeroes, an all-zero seed is replaced with a fixed nonzero state.</p>
+ *
+ * <p><em>NOTE: Because instances of this class require 128-bit seeds, it is not possible to seed
+ * this RNG using the {@link #setSeed(long)} method inherited from {@link java.util.Random}. Calls
+ * to this method will instead reseed it using the {@link DefaultSeedGenerator}.</em></p>
+ *
+ * @author David Blackman and Sebastiano Vigna (algorithm and C implementation)
+ * @author Chris Hennick (Java port)
+ */
+public class Xoroshiro128PlusPlusRandom extends BaseRandom implements SeekableRandom {
+
+  private static final long serialVersionUID = -3285412379652744131L;
+  private static final int SEED_SIZE_BYTES = 2 * Long.BYTES;
+  private static final int STATE_BITS = 2 * Long.SIZE;
+  /**
+   * The characteristic polynomial of the state transition, without its leading coefficient; see
+   * {@link Gf2Polynomials}.
+   */
+  private static final long[] CHARACTERISTIC_POLYNOMIAL =
+      {0x8dae70779760b081L, 0x0031bcf2f855d6e5L};
+  /**
+   * The jump polynomial for 2<sup>64</sup> steps, from the reference implementation.
+   */
+  private static final long[] JUMP = {0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L};
+  /**
+   * The jump polynomial for 2<sup>96</sup> steps, from the reference implementation.
+   */
+  private static final long[] LONG_JUMP = {0x360fd5f2cf8d5d99L, 0x9c6e6877736c46e3L};
+  /**
+   * Replaces the all-zero state. These are the first 2 outputs of SplitMix64 seeded with zero,
+   * which is how the authors recommend initializing the state from a 64-bit seed.
+   */
+  private static final long[] ZERO_SEED_REPLACEMENT = {0xe220a8397b1dcdafL, 0x6e789e6aa1b965f4L};
+
+  private long state0;
+  private long state1;
+
+  /**
+   * Creates a new PRNG and seeds it using the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public Xoroshiro128PlusPlusRandom() throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR);
+  }
+
+  /**
+   * Creates a new PRNG with a seed from the provided {@link SeedGenerator}.
+   *
+   * @param seedGenerator the seed generator that will generate the initial seed
+   * @throws SeedException if {@code seedGenerator} fails to generate a seed
+   */
+  public Xoroshiro128PlusPlusRandom(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed; must be exactly 16 bytes
+   */
+  public Xoroshiro128PlusPlusRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
+    return original.add("state0", state0).add("state1", state1);
+  }
+
+  /**
+   * Reseeds this PRNG using the {@link DefaultSeedGenerator}, since it needs a longer seed.
+   *
+   * @param seed ignored
+   */
+  @Override public void setSeed(final long seed) {
+    fallbackSetSeedIfInitialized();
+  }
+
+  @Override public byte[] getSeed() {
+    lock.lock();
+    try {
+      return stateToSeed();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the seed that would recreate the current state. Must be called with {@link #lock}
+   * held.
+   *
+   * @return a new array
+   */
+  private byte[] stateToSeed() {
+    final byte[] result = new byte[SEED_SIZE_BYTES];
+    BinaryUtils.convertLongToBytes(state0, result, 0);
+    BinaryUtils.convertLongToBytes(state1, result, Long.BYTES);
+    return result;
+  }
+
+  @Override protected void setSeedInternal(final byte[] seed) {
+    super.setSeedInternal(seed);
+    state0 = BinaryUtils.convertBytesToLong(seed, 0);
+    state1 = BinaryUtils.convertBytesToLong(seed, Long.BYTES);
+    if ((state0 | state1) == 0) {
+      state0 = ZERO_SEED_REPLACEMENT[0];
+      state1 = ZERO_SEED_REPLACEMENT[1];
+    }
+  }
+
+  @Override protected int next(final int bits) {
+    lock.lock();
+    try {
+      return (int) (nextLongLocked() >>> (Long.SIZE - bits));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Performs one step of the generator. Must be called with {@link #lock} held.
+   *
+   * @return 64 pseudorandom bits
+   */
+  private long nextLongLocked() {
+    final long s0 = state0;
+    final long s1 = state1;
+    final long result = Long.rotateLeft(s0 + s1, 17) + s0;
+    final long t = s1 ^ s0;
+    state0 = Long.rotateLeft(s0, 49) ^ t ^ (t << 21);
+    state1 = Long.rotateLeft(t, 28);
+    return result;
+  }
+
+  @Override protected long nextLong64() {
+    lock.lock();
+    try {
+      return nextLongLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    lock.lock();
+    try {
+      return longToDouble(nextLongLocked());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int off, final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = (int) (nextLongLocked() >>> Integer.SIZE);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = nextLongLocked();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int off,
+      final int len) {
+    final int end = off + len;
+    lock.lock();
+    try {
+      for (int i = off; i < end; i++) {
+        dest[i] = longToDouble(nextLongLocked());
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc} Each step is one 64-bit output, which is used by one call to
+   * {@link #nextInt()}, {@link #nextLong()} or {@link #nextDouble()}.
+   */
+  @Override public void advance(final long delta) {
+    if ((delta > 0) && (delta < STATE_BITS)) {
+      // Faster to just step
+      lock.lock();
+      try {
+        for (long i = 0; i < delta; i++) {
+          nextLongLocked();
+        }
+        discardBufferedBits();
+      } finally {
+        lock.unlock();
+      }
+    } else if (delta != 0) {
+      jump(Gf2Polynomials.powerOfX(delta, CHARACTERISTIC_POLYNOMIAL));
+    }
+  }
+
+  /**
+   * Advances this PRNG by 2<sup>64</sup> steps. This can be used to generate 2<sup>64</sup>
+   * non-overlapping subsequences, e.g. for parallel computations.
+   */
+  public void jump() {
+    jump(JUMP);
+  }
+
+  /**
+   * Advances this PRNG by 2<sup>96</sup> steps. This can be used to generate 2<sup>32</sup>
+   * starting points, from each of which {@link #jump()} will generate 2<sup>32</sup>
+   * non-overlapping subsequences, e.g. for parallel computations across several machines.
+   */
+  public void longJump() {
+    jump(LONG_JUMP);
+  }
+
+  /**
+   * Advances this PRNG by the number of steps the given jump polynomial represents.
+   *
+   * @param polynomial the jump polynomial; see {@link Gf2Polynomials}
+   */
+  private void jump(final long[] polynomial) {
+    lock.lock();
+    try {
+      long s0 = 0;
+      long s1 = 0;
+      for (final long word : polynomial) {
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+          if (((word >>> bit) & 1) != 0) {
+            s0 ^= state0;
+            s1 ^= state1;
+          }
+          nextLongLocked();
+        }
+      }
+      state0 = s0;
+      state1 = s1;
+      discardBufferedBits();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns a {@link SingleThreadXoroshiro128PlusPlusRandom} in the same state as this PRNG.
+   */
+  @Override protected BaseRandom copyState() {
+    return new SingleThreadXoroshiro128PlusPlusRandom(stateToSeed());
+  }
+
+  @Override public int getNewSeedLength() {
+    return SEED_SIZE_BYTES;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    lock.lock();
+    try {
+      // Copy the state back to the seed, which is what's deserialized
+      seed = stateToSeed();
+    } finally {
+      lock.unlock();
+    }
+    out.defaultWriteObject();
+  }
+}
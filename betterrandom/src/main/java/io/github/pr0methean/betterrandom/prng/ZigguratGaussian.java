@@ -0,0 +1,121 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Generates normally-distributed values using the 128-layer ziggurat method of Marsaglia and Tsang
+ * ("The Ziggurat Method for Generating Random Variables", Journal of Statistical Software 5(8),
+ * 2000). About 98.8% of samples take a single 64-bit input and a table lookup, and no state is
+ * kept between samples, so unlike the polar method used by {@link java.util.Random#nextGaussian()}
+ * there's no cached second value to synchronize.
+ *
+ * <p>Public so that samplers in {@link io.github.pr0methean.betterrandom.distribution} can build
+ * on it; most users will want {@link BaseRandom#nextGaussian()} instead.</p>
+ */
+public final class ZigguratGaussian {
+
+  private static final int LAYERS = 128;
+  private static final int LAYER_MASK = LAYERS - 1;
+  private static final long SIGN_BIT = LAYERS;
+  /**
+   * Start of the tail (the right edge of the widest rectangle).
+   */
+  private static final double R = 3.442619855899;
+  private static final double INV_R = 1.0 / R;
+  /**
+   * Area of each layer, including the tail for the base layer.
+   */
+  private static final double V = 9.91256303526217e-3;
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+  /**
+   * Right edge of each layer. For the base layer, this is the width of a rectangle with the same
+   * area as that layer including the tail.
+   */
+  private static final double[] X = new double[LAYERS];
+  /**
+   * {@code K[i]} is the fraction of layer {@code i} that lies entirely under the curve, so that
+   * points in it can be accepted without evaluating the density.
+   */
+  private static final double[] K = new double[LAYERS];
+  /**
+   * Unnormalized density at the top edge of each layer, i.e. at {@code X[i]}; except that
+   * {@code F[0]} is the density at zero, since it's only read as the top of layer 1.
+   */
+  private static final double[] F = new double[LAYERS];
+
+  static {
+    double x = R;
+    X[LAYER_MASK] = R;
+    F[LAYER_MASK] = density(R);
+    for (int i = LAYER_MASK - 1; i >= 1; i--) {
+      final double lowerX = x;
+      x = StrictMath.sqrt(-2 * StrictMath.log((V / lowerX) + density(lowerX)));
+      X[i] = x;
+      F[i] = density(x);
+      K[i + 1] = x / lowerX;
+    }
+    X[0] = V / density(R);
+    F[0] = 1.0;
+    K[0] = R / X[0];
+    K[1] = 0.0;
+  }
+
+  private ZigguratGaussian() {
+    // Utility class
+  }
+
+  private static double density(final double x) {
+    return StrictMath.exp(-0.5 * x * x);
+  }
+
+  /**
+   * Returns a normally-distributed value with mean 0 and standard deviation 1.
+   *
+   * @param nextLong shall return uniformly random 64-bit values, and shall not debit the entropy
+   *     count. Usually called only once.
+   * @return a standard normal variate
+   */
+  public static double nextGaussian(final LongSupplier nextLong) {
+    while (true) {
+      final long bits = nextLong.getAsLong();
+      final int layer = (int) (bits & LAYER_MASK);
+      final boolean negative = (bits & SIGN_BIT) != 0;
+      // Top 53 bits, which don't overlap those used above
+      final double u = (bits >>> 11) * DOUBLE_UNIT;
+      if (u < K[layer]) {
+        final double out = u * X[layer];
+        return negative ? -out : out;
+      }
+      if (layer == 0) {
+        final double out = R + nextTail(nextLong);
+        return negative ? -out : out;
+      }
+      final double x = u * X[layer];
+      final double y = F[layer] + (nextUnitInterval(nextLong) * (F[layer - 1] - F[layer]));
+      if (y < density(x)) {
+        return negative ? -x : x;
+      }
+    }
+  }
+
+  /**
+   * Samples the part of the tail beyond {@link #R}, using Marsaglia's method.
+   */
+  private static double nextTail(final LongSupplier nextLong) {
+    double x;
+    double y;
+    do {
+      x = -StrictMath.log(nextUnitInterval(nextLong)) * INV_R;
+      y = -StrictMath.log(nextUnitInterval(nextLong));
+    } while ((y + y) < (x * x));
+    return x;
+  }
+
+  /**
+   * Returns a uniform value in (0, 1], so that its logarithm is always finite.
+   */
+  private static double nextUnitInterval(final LongSupplier nextLong) {
+    return ((nextLong.getAsLong() >>> 11) + 1) * DOUBLE_UNIT;
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.pr0methean.betterrandom.prng.adapter;
 
 import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.nio.ByteBuffer;
 import java.util.SplittableRandom;
 
 /**
@@ -81,6 +82,19 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
     }
   }
 
+  /**
+   * Fills the buffer from {@link SplittableRandom#nextLong()}, calling
+   * {@link #getSplittableRandom()} only once.
+   */
+  @Override public void nextBytes(final ByteBuffer dest) {
+    final int length = dest.remaining();
+    if (length == 0) {
+      return;
+    }
+    debitEntropy(((long) Byte.SIZE) * length); // May cause replacement
+    fillBytes(dest, getSplittableRandom()::nextLong);
+  }
+
   /**
    * Delegates to {@link SplittableRandom#nextInt()}.
    */
@@ -89,6 +103,77 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
     return getSplittableRandom().nextInt();
   }
 
+  /**
+   * Delegates to {@link SplittableRandom#nextInt()}, calling {@link #getSplittableRandom()} only
+   * once.
+   */
+  @Override public void nextInts(final int[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) Integer.SIZE) * len); // May cause replacement
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    final int end = off + len;
+    for (int i = off; i < end; i++) {
+      dest[i] = splittableRandom.nextInt();
+    }
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextInt(int, int) SplittableRandom.nextInt(origin,
+   * bound)}, calling {@link #getSplittableRandom()} only once.
+   */
+  @Override public void nextInts(final int[] dest, final int off, final int len, final int origin,
+      final int bound) {
+    checkValidRange(origin, bound);
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) entropyOfInt(origin, bound)) * len); // May cause replacement
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    final int end = off + len;
+    for (int i = off; i < end; i++) {
+      dest[i] = splittableRandom.nextInt(origin, bound);
+    }
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextLong()}, calling {@link #getSplittableRandom()} only
+   * once.
+   */
+  @Override public void nextLongs(final long[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) Long.SIZE) * len); // May cause replacement
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    final int end = off + len;
+    for (int i = off; i < end; i++) {
+      dest[i] = splittableRandom.nextLong();
+    }
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextDouble()}, calling {@link #getSplittableRandom()}
+   * only once.
+   */
+  @Override public void nextDoubles(final double[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) ENTROPY_OF_DOUBLE) * len); // May cause replacement
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    final int end = off + len;
+    for (int i = off; i < end; i++) {
+      dest[i] = splittableRandom.nextDouble();
+    }
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextLong()} via
+   * {@link #internalNextGaussians(double[], int, int, java.util.function.LongSupplier)},
+   * calling {@link #getSplittableRandom()} only once.
+   */
+  @Override public void nextGaussians(final double[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    // Upper bound, as in nextGaussian()
+    debitEntropy(((long) ENTROPY_OF_DOUBLE) * len); // May cause replacement
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    internalNextGaussians(dest, off, len, splittableRandom::nextLong);
+  }
+
   /**
    * Delegates to {@link SplittableRandom#nextInt(int) SplittableRandom.nextInt(bound)}.
    */
@@ -151,22 +236,13 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextDouble()} via
-   * {@link #internalNextGaussian(java.util.function.DoubleSupplier)}.
+   * Delegates to {@link SplittableRandom#nextLong()} via
+   * {@link #internalNextGaussian(java.util.function.LongSupplier)}.
    */
   @Override public double nextGaussian() {
-    // Upper bound. 2 Gaussians are generated from 2 nextDouble calls, which once made are either
-    // used or rerolled.
-    debitEntropy(ENTROPY_OF_DOUBLE);
-    return internalNextGaussian(() -> getSplittableRandom().nextDouble());
-  }
-
-  @Override protected void lockForNextGaussian() {
-    // No-op.
-  }
-
-  @Override protected void unlockForNextGaussian() {
-    // No-op.
+    // Upper bound, as in BaseRandom.nextGaussian()
+    debitEntropy(ENTROPY_OF_DOUBLE); // May cause replacement
+    return internalNextGaussian(getSplittableRandom()::nextLong);
   }
 
   /**
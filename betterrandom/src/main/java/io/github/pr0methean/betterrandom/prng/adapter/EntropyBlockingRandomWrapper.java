@@ -4,6 +4,7 @@ import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.nio.ByteBuffer;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
@@ -86,6 +87,66 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
     }
   }
 
+  /**
+   * Generates one byte at a time, so that the entropy check can block between them.
+   */
+  @Override public void nextBytes(ByteBuffer dest) {
+    while (dest.hasRemaining()) {
+      dest.put((byte) (nextInt(1 << Byte.SIZE)));
+    }
+  }
+
+  /**
+   * Generates one element at a time, so that the entropy check can block between them.
+   */
+  @Override public void nextInts(int[] dest, int off, int len) {
+    checkArrayRange(dest.length, off, len);
+    for (int i = off; i < off + len; i++) {
+      dest[i] = nextInt();
+    }
+  }
+
+  /**
+   * Generates one element at a time, so that the entropy check can block between them.
+   */
+  @Override public void nextInts(int[] dest, int off, int len, int origin, int bound) {
+    checkValidRange(origin, bound);
+    checkArrayRange(dest.length, off, len);
+    for (int i = off; i < off + len; i++) {
+      dest[i] = nextBoundedInt(origin, bound);
+    }
+  }
+
+  /**
+   * Generates one element at a time, so that the entropy check can block between them.
+   */
+  @Override public void nextLongs(long[] dest, int off, int len) {
+    checkArrayRange(dest.length, off, len);
+    for (int i = off; i < off + len; i++) {
+      dest[i] = nextLong();
+    }
+  }
+
+  /**
+   * Generates one element at a time, so that the entropy check can block between them.
+   */
+  @Override public void nextDoubles(double[] dest, int off, int len) {
+    checkArrayRange(dest.length, off, len);
+    for (int i = off; i < off + len; i++) {
+      dest[i] = nextDouble();
+    }
+  }
+
+  /**
+   * Generates one element at a time, so that the entropy check can block between them.
+   */
+  @Override public void nextGaussians(double[] dest, int off, int len) {
+    checkArrayRange(dest.length, off, len);
+    for (int i = off; i < off + len; i++) {
+      dest[i] = nextGaussian();
+    }
+  }
+
   /**
    * Returns the seed generator that is used on the calling thread if not registered with a running
    * {@link RandomSeeder}.
@@ -116,10 +177,23 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
     onSeedingStateChanged(false);
   }
 
+  /**
+   * Not supported, since blocking depends on the entropy count.
+   *
+   * @param disabled must be false
+   * @throws UnsupportedOperationException if {@code disabled} is true
+   */
+  @Override public void setEntropyCountDisabled(boolean disabled) {
+    if (disabled) {
+      throw new UnsupportedOperationException(
+          "Can't disable the entropy count of a PRNG that blocks on it");
+    }
+  }
+
   @Override protected void debitEntropy(long bits) {
     long remaining;
     while (true) {
-      remaining = entropyBits.addAndGet(-bits);
+      remaining = recordEntropySpent(bits);
       if (remaining >= minimumEntropy) {
         if (remaining <= 0) {
           // We need reseeding, but don't need to block waiting for it
@@ -189,7 +263,7 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
    * @throws IllegalArgumentException if the PRNG cannot output 64 bits between reseedings
    */
   protected void checkMaxOutputAtOnce() {
-    long maxOutputAtOnce = 8 * entropyBits.get() - minimumEntropy;
+    long maxOutputAtOnce = 8 * getEntropyBits() - minimumEntropy;
     if (maxOutputAtOnce < Long.SIZE) {
       throw new IllegalArgumentException("Need to be able to output 64 bits at once");
     }
@@ -4,6 +4,7 @@ import static io.github.pr0methean.betterrandom.util.BinaryUtils.convertBytesToL
 
 import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import java.nio.ByteBuffer;
 import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
@@ -98,10 +99,71 @@ public class EntropyBlockingSplittableRandomAdapter extends SplittableRandomAdap
     return getDelegateWrapper().getSeed();
   }
 
+  /**
+   * Not supported, since blocking depends on the entropy count.
+   *
+   * @param disabled must be false
+   * @throws UnsupportedOperationException if {@code disabled} is true
+   */
+  @Override public void setEntropyCountDisabled(boolean disabled) {
+    if (disabled) {
+      throw new UnsupportedOperationException(
+          "Can't disable the entropy count of a PRNG that blocks on it");
+    }
+  }
+
   @Override protected void debitEntropy(long bits) {
     getDelegateWrapper().debitEntropy(bits);
   }
 
+  /**
+   * Delegates to the calling thread's {@link EntropyBlockingRandomWrapper}, which generates one
+   * byte at a time so that the entropy check can block between them.
+   */
+  @Override public void nextBytes(ByteBuffer dest) {
+    getDelegateWrapper().nextBytes(dest);
+  }
+
+  /**
+   * Delegates to the calling thread's {@link EntropyBlockingRandomWrapper}, which generates one
+   * element at a time so that the entropy check can block between them.
+   */
+  @Override public void nextInts(int[] dest, int off, int len) {
+    getDelegateWrapper().nextInts(dest, off, len);
+  }
+
+  /**
+   * Delegates to the calling thread's {@link EntropyBlockingRandomWrapper}, which generates one
+   * element at a time so that the entropy check can block between them.
+   */
+  @Override public void nextInts(int[] dest, int off, int len, int origin, int bound) {
+    getDelegateWrapper().nextInts(dest, off, len, origin, bound);
+  }
+
+  /**
+   * Delegates to the calling thread's {@link EntropyBlockingRandomWrapper}, which generates one
+   * element at a time so that the entropy check can block between them.
+   */
+  @Override public void nextLongs(long[] dest, int off, int len) {
+    getDelegateWrapper().nextLongs(dest, off, len);
+  }
+
+  /**
+   * Delegates to the calling thread's {@link EntropyBlockingRandomWrapper}, which generates one
+   * element at a time so that the entropy check can block between them.
+   */
+  @Override public void nextDoubles(double[] dest, int off, int len) {
+    getDelegateWrapper().nextDoubles(dest, off, len);
+  }
+
+  /**
+   * Delegates to the calling thread's {@link EntropyBlockingRandomWrapper}, which generates one
+   * element at a time so that the entropy check can block between them.
+   */
+  @Override public void nextGaussians(double[] dest, int off, int len) {
+    getDelegateWrapper().nextGaussians(dest, off, len);
+  }
+
   @SuppressWarnings("unchecked")
   private EntropyBlockingRandomWrapper<SingleThreadSplittableRandomAdapter> getDelegateWrapper() {
     return (EntropyBlockingRandomWrapper<SingleThreadSplittableRandomAdapter>) threadLocal.get();
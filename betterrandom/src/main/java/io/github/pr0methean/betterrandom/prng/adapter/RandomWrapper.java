@@ -25,6 +25,7 @@ import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.Dumpable;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.Random;
 import javax.annotation.Nullable;
@@ -113,7 +114,7 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
   }
 
   /**
-   * Updates {@link #seed} and {@link #entropyBits} without reseeding the wrapped PRNG. Called by
+   * Updates {@link #seed} and the entropy count without reseeding the wrapped PRNG. Called by
    * the {@code wrapJavaUtilRandom} overloads that take the seed as a parameter, since the seed
    * isn't available from the PRNG once it's been passed to the constructor.
    *
@@ -125,7 +126,7 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
     } else {
       this.seed = seed.clone();
     }
-    entropyBits.set(seed.length * 8L);
+    setEntropyBits(seed.length * 8L);
     unknownSeed = false;
   }
 
@@ -168,13 +169,14 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
       readEntropyOfWrapped(wrapped);
       seed = getSeedOrDummy(wrapped);
       unknownSeed = !(wrapped instanceof RepeatableRandom);
+      discardBufferedBits();
     } finally {
       lock.unlock();
     }
   }
 
   private void readEntropyOfWrapped(final Random wrapped) {
-    entropyBits.set((wrapped instanceof EntropyCountingRandom) ?
+    setEntropyBits((wrapped instanceof EntropyCountingRandom) ?
         ((EntropyCountingRandom) wrapped).getEntropyBits() :
         ((wrapped instanceof RepeatableRandom) ?
             (((RepeatableRandom) wrapped).getSeed().length * (long) (Byte.SIZE)) : Long.SIZE));
@@ -319,6 +321,27 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
     getWrapped().nextBytes(bytes);
   }
 
+  /**
+   * Delegates to the wrapped PRNG's {@link BaseRandom#nextBytes(ByteBuffer)} if it's a
+   * {@link BaseRandom}. Otherwise, fills a temporary array using its {@link Random#nextBytes(byte[])}
+   * and copies it into the buffer.
+   */
+  @Override public void nextBytes(final ByteBuffer dest) {
+    final int length = dest.remaining();
+    if (length == 0) {
+      return;
+    }
+    debitEntropy(length * (long) (Byte.SIZE));
+    final Random wrapped = getWrapped();
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextBytes(dest);
+    } else {
+      final byte[] bytes = new byte[length];
+      wrapped.nextBytes(bytes);
+      dest.put(bytes);
+    }
+  }
+
   @Override public int nextInt() {
     debitEntropy(Integer.SIZE);
     return getWrapped().nextInt();
@@ -329,6 +352,97 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
     return getWrapped().nextInt(bound);
   }
 
+  /**
+   * Delegates to the wrapped PRNG's {@link BaseRandom#nextInts(int[], int, int)} if it's a
+   * {@link BaseRandom}, and otherwise calls its {@link Random#nextInt()} once per element.
+   */
+  @Override public void nextInts(final int[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) Integer.SIZE) * len);
+    final Random wrapped = getWrapped();
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextInts(dest, off, len);
+    } else {
+      final int end = off + len;
+      for (int i = off; i < end; i++) {
+        dest[i] = wrapped.nextInt();
+      }
+    }
+  }
+
+  /**
+   * Delegates to the wrapped PRNG's {@link BaseRandom#nextInts(int[], int, int, int, int)} if it's
+   * a {@link BaseRandom}, and otherwise generates the values from its output as
+   * {@link BaseRandom#nextBoundedInt(int, int)} would.
+   */
+  @Override public void nextInts(final int[] dest, final int off, final int len, final int origin,
+      final int bound) {
+    final Random wrapped = getWrapped();
+    if (wrapped instanceof BaseRandom) {
+      checkValidRange(origin, bound);
+      checkArrayRange(dest.length, off, len);
+      debitEntropy(((long) entropyOfInt(origin, bound)) * len);
+      ((BaseRandom) wrapped).nextInts(dest, off, len, origin, bound);
+    } else {
+      super.nextInts(dest, off, len, origin, bound);
+    }
+  }
+
+  /**
+   * Delegates to the wrapped PRNG's {@link BaseRandom#nextLongs(long[], int, int)} if it's a
+   * {@link BaseRandom}, and otherwise calls its {@link Random#nextLong()} once per element.
+   */
+  @Override public void nextLongs(final long[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) Long.SIZE) * len);
+    final Random wrapped = getWrapped();
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextLongs(dest, off, len);
+    } else {
+      final int end = off + len;
+      for (int i = off; i < end; i++) {
+        dest[i] = wrapped.nextLong();
+      }
+    }
+  }
+
+  /**
+   * Delegates to the wrapped PRNG's {@link BaseRandom#nextDoubles(double[], int, int)} if it's a
+   * {@link BaseRandom}, and otherwise calls its {@link Random#nextDouble()} once per element.
+   */
+  @Override public void nextDoubles(final double[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    debitEntropy(((long) ENTROPY_OF_DOUBLE) * len);
+    final Random wrapped = getWrapped();
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextDoubles(dest, off, len);
+    } else {
+      final int end = off + len;
+      for (int i = off; i < end; i++) {
+        dest[i] = wrapped.nextDouble();
+      }
+    }
+  }
+
+  /**
+   * Delegates to the wrapped PRNG's {@link BaseRandom#nextGaussians(double[], int, int)} if it's a
+   * {@link BaseRandom}, and otherwise calls its {@link Random#nextGaussian()} once per element.
+   */
+  @Override public void nextGaussians(final double[] dest, final int off, final int len) {
+    checkArrayRange(dest.length, off, len);
+    // Upper bound, as in nextGaussian()
+    debitEntropy(((long) ENTROPY_OF_DOUBLE) * len);
+    final Random wrapped = getWrapped();
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextGaussians(dest, off, len);
+    } else {
+      final int end = off + len;
+      for (int i = off; i < end; i++) {
+        dest[i] = wrapped.nextGaussian();
+      }
+    }
+  }
+
   @Override protected long nextLongNoEntropyDebit() {
     return getWrapped().nextLong();
   }
@@ -110,11 +110,27 @@ public class SplittableRandomAdapter extends BaseSplittableRandomAdapter {
     return threadLocal.get().nextGaussian();
   }
 
+  @Override public void nextGaussians(final double[] dest, final int off, final int len) {
+    threadLocal.get().nextGaussians(dest, off, len);
+  }
+
   @Override protected void debitEntropy(final long bits) {
+    if (isEntropyCountDisabled()) {
+      return;
+    }
     // Necessary because our inherited next* methods read straight through to the SplittableRandom.
     ((SingleThreadSplittableRandomAdapter) threadLocal.get()).debitEntropy(bits);
   }
 
+  /**
+   * {@inheritDoc} Also reseeds the calling thread's delegate, so that this thread's output then
+   * depends only on the new seed; other threads' delegates are unaffected.
+   */
+  @Override public void setSeed(final byte[] seed) {
+    super.setSeed(seed);
+    threadLocal.get().setSeed(seed);
+  }
+
   @Override protected void setSeedInternal(final byte[] seed) {
     this.seed = seed.clone();
   }
@@ -11,6 +11,7 @@ import io.github.pr0methean.betterrandom.util.SerializableLongFunction;
 import io.github.pr0methean.betterrandom.util.SerializableSupplier;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Function;
@@ -149,6 +150,10 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     getWrapped().nextBytes(bytes);
   }
 
+  @Override public void nextBytes(final ByteBuffer dest) {
+    getWrapped().nextBytes(dest);
+  }
+
   @Override public int nextInt() {
     return getWrapped().nextInt();
   }
@@ -157,6 +162,27 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     return getWrapped().nextInt(bound);
   }
 
+  @Override public void nextInts(final int[] dest, final int off, final int len) {
+    getWrapped().nextInts(dest, off, len);
+  }
+
+  @Override public void nextInts(final int[] dest, final int off, final int len, final int origin,
+      final int bound) {
+    getWrapped().nextInts(dest, off, len, origin, bound);
+  }
+
+  @Override public void nextLongs(final long[] dest, final int off, final int len) {
+    getWrapped().nextLongs(dest, off, len);
+  }
+
+  @Override public void nextDoubles(final double[] dest, final int off, final int len) {
+    getWrapped().nextDoubles(dest, off, len);
+  }
+
+  @Override public void nextGaussians(final double[] dest, final int off, final int len) {
+    getWrapped().nextGaussians(dest, off, len);
+  }
+
   @Override protected long nextLongNoEntropyDebit() {
     throw new AssertionError("Caller should be delegating at a higher level");
   }
@@ -222,6 +248,21 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     throw new AssertionError("Caller should be delegating at a higher level");
   }
 
+  /**
+   * Not supported, because entropy is counted by each thread's own PRNG; to disable it, call
+   * {@link BaseRandom#setEntropyCountDisabled(boolean)} on each of those in the initializer
+   * instead.
+   *
+   * @param disabled must be false
+   * @throws UnsupportedOperationException if {@code disabled} is true
+   */
+  @Override public void setEntropyCountDisabled(final boolean disabled) {
+    if (disabled) {
+      throw new UnsupportedOperationException(
+          "Entropy is counted by each thread's PRNG; disable it in the initializer instead");
+    }
+  }
+
   @Override public long getEntropyBits() {
     return isInitializedForCurrentThread() ? getWrapped().getEntropyBits() : seedSize * 8L;
   }
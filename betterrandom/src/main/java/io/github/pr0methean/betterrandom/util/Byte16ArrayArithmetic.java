@@ -87,18 +87,10 @@ public enum Byte16ArrayArithmetic {
     final long x = convertBytesToLong(counter, Long.BYTES);
     final long y = convertBytesToLong(mult, Long.BYTES);
 
-    // https://stackoverflow.com/a/38880097/833771
-    final long x_high = x >>> 32;
-    final long x_low = x & UNSIGNED_INT_TO_LONG_MASK;
-    final long y_high = y >>> 32;
-    final long y_low = y & UNSIGNED_INT_TO_LONG_MASK;
-    final long t = x_high * y_low + (x_low * y_low >>> 32);
-    final long z1 = (t & UNSIGNED_INT_TO_LONG_MASK) + x_low * y_high;
-    final long z0 = t >>> 32;
     final long lowProduct = x * y;
     final long lowOut = lowProduct + addLow;
     final long highOut =
-        (x_high * y_high) + z0 + (z1 >>> 32) + (convertBytesToLong(counter, 0) * y) +
+        unsignedMultiplyHigh(x, y) + (convertBytesToLong(counter, 0) * y) +
             (convertBytesToLong(mult, 0) * x) + addHigh +
             (Long.compareUnsigned(lowProduct, lowOut) > 0 ? 1 : 0);
 
@@ -106,6 +98,25 @@ public enum Byte16ArrayArithmetic {
     convertLongToBytes(lowOut, counter, Long.BYTES);
   }
 
+  /**
+   * Returns the most significant 64 bits of the 128-bit product of two unsigned {@code long}s.
+   *
+   * @param x the first input, treated as unsigned
+   * @param y the second input, treated as unsigned
+   * @return the high quadword of {@code x * y}
+   */
+  public static long unsignedMultiplyHigh(final long x, final long y) {
+    // https://stackoverflow.com/a/38880097/833771
+    final long x_high = x >>> 32;
+    final long x_low = x & UNSIGNED_INT_TO_LONG_MASK;
+    final long y_high = y >>> 32;
+    final long y_low = y & UNSIGNED_INT_TO_LONG_MASK;
+    final long t = x_high * y_low + (x_low * y_low >>> 32);
+    final long z1 = (t & UNSIGNED_INT_TO_LONG_MASK) + x_low * y_high;
+    final long z0 = t >>> 32;
+    return (x_high * y_high) + z0 + (z1 >>> 32);
+  }
+
   private static long trueShiftRight(final long input, final int amount) {
     if (amount <= -Long.SIZE || amount >= Long.SIZE) {
       return 0;
@@ -0,0 +1,94 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.testng.annotations.Test;
+
+@Test(testName = "AliasTable") public class AliasTableTest {
+
+  private static final long SEED = 0x123456789ABCDEFL;
+  private static final double[] WEIGHTS = {1.0, 0.0, 3.0, 6.0, 0.5, 2.5};
+  private static final int SAMPLES = 1_000_000;
+
+  private static void checkFrequencies(final long[] counts) {
+    final double[] expected = new double[WEIGHTS.length - 1];
+    final long[] observed = new long[WEIGHTS.length - 1];
+    double total = 0;
+    for (final double weight : WEIGHTS) {
+      total += weight;
+    }
+    int j = 0;
+    for (int i = 0; i < WEIGHTS.length; i++) {
+      if (WEIGHTS[i] == 0) {
+        assertEquals(counts[i], 0, "Chose an index with zero weight");
+      } else {
+        expected[j] = (WEIGHTS[i] * SAMPLES) / total;
+        observed[j] = counts[i];
+        j++;
+      }
+    }
+    assertGreaterOrEqual(new ChiSquareTest().chiSquareTest(expected, observed), 0.001);
+  }
+
+  @Test public void testSample() {
+    final AliasTable table = new AliasTable(WEIGHTS);
+    assertEquals(table.size(), WEIGHTS.length);
+    final Pcg64Random random = new Pcg64Random(SEED);
+    final long[] counts = new long[WEIGHTS.length];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[table.sample(random)]++;
+    }
+    checkFrequencies(counts);
+  }
+
+  @Test public void testSampleBulk() {
+    final AliasTable table = new AliasTable(WEIGHTS);
+    final Pcg64Random random = new Pcg64Random(SEED);
+    final int[] output = new int[SAMPLES];
+    table.sample(random, output);
+    final long[] counts = new long[WEIGHTS.length];
+    for (final int index : output) {
+      counts[index]++;
+    }
+    checkFrequencies(counts);
+  }
+
+  @Test public void testSampleBulkMatchesSample() {
+    final AliasTable table = new AliasTable(WEIGHTS);
+    final Pcg64Random bulkRandom = new Pcg64Random(SEED);
+    final Pcg64Random scalarRandom = new Pcg64Random(SEED);
+    final int[] output = new int[100];
+    table.sample(bulkRandom, output, 10, 80);
+    for (int i = 10; i < 90; i++) {
+      // The table has 6 columns, so a rejection has probability 2^-32 * 4 per sample
+      assertEquals(output[i], table.sample(scalarRandom));
+    }
+  }
+
+  @Test public void testSingleWeight() {
+    final AliasTable table = new AliasTable(new double[]{0.25});
+    final Pcg64Random random = new Pcg64Random(SEED);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(table.sample(random), 0);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testEmpty() {
+    new AliasTable(new double[0]);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeWeight() {
+    new AliasTable(new double[]{1.0, -1.0});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNaNWeight() {
+    new AliasTable(new double[]{1.0, Double.NaN});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testAllZero() {
+    new AliasTable(new double[]{0.0, 0.0});
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SEED;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkContinuous;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+@Test(testName = "BetaDistribution") public class BetaDistributionTest {
+
+  /**
+   * Pairs of (alpha, beta). The first two use J&ouml;hnk's algorithm; the others use gamma
+   * variates.
+   */
+  private static final double[][] PARAMETERS = {{0.5, 0.5}, {0.2, 0.9}, {2.0, 5.0}, {0.7, 3.0}};
+
+  @Test public void testSample() {
+    for (final double[] parameters : PARAMETERS) {
+      final BetaDistribution distribution = new BetaDistribution(parameters[0], parameters[1]);
+      final Pcg64Random random = new Pcg64Random(SEED);
+      final double[] samples = new double[SAMPLES];
+      for (int i = 0; i < SAMPLES; i++) {
+        samples[i] = distribution.sample(random);
+      }
+      checkContinuous(samples, new org.apache.commons.math3.distribution.BetaDistribution(
+          parameters[0], parameters[1]));
+    }
+  }
+
+  @Test public void testSampleBulk() {
+    for (final double[] parameters : PARAMETERS) {
+      final BetaDistribution distribution = new BetaDistribution(parameters[0], parameters[1]);
+      final double[] samples = new double[SAMPLES];
+      distribution.sample(new Pcg64Random(SEED), samples);
+      checkContinuous(samples, new org.apache.commons.math3.distribution.BetaDistribution(
+          parameters[0], parameters[1]));
+    }
+  }
+
+  @Test public void testGetters() {
+    final BetaDistribution distribution = new BetaDistribution(2.0, 5.0);
+    assertEquals(distribution.getAlpha(), 2.0);
+    assertEquals(distribution.getBeta(), 5.0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeAlpha() {
+    new BetaDistribution(-1.0, 1.0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testInfiniteBeta() {
+    new BetaDistribution(1.0, Double.POSITIVE_INFINITY);
+  }
+}
@@ -0,0 +1,76 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.TestUtils.assertLessOrEqual;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SEED;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkDiscrete;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+@Test(testName = "BinomialDistribution") public class BinomialDistributionTest {
+
+  /**
+   * Pairs of (trials, probability), covering inversion, BTPE and the reflection for p > 0.5.
+   */
+  private static final Object[][] PARAMETERS =
+      {{10, 0.3}, {50, 0.9}, {100, 0.4}, {1000, 0.75}, {1_000_000, 0.01}};
+
+  @Test public void testSample() {
+    for (final Object[] parameters : PARAMETERS) {
+      final int trials = (Integer) parameters[0];
+      final double probability = (Double) parameters[1];
+      final BinomialDistribution distribution = new BinomialDistribution(trials, probability);
+      final Pcg64Random random = new Pcg64Random(SEED);
+      final int[] samples = new int[SAMPLES];
+      for (int i = 0; i < SAMPLES; i++) {
+        samples[i] = distribution.sample(random);
+        assertLessOrEqual(samples[i], trials);
+      }
+      checkDiscrete(samples,
+          new org.apache.commons.math3.distribution.BinomialDistribution(trials, probability));
+    }
+  }
+
+  @Test public void testSampleBulk() {
+    for (final Object[] parameters : PARAMETERS) {
+      final int trials = (Integer) parameters[0];
+      final double probability = (Double) parameters[1];
+      final BinomialDistribution distribution = new BinomialDistribution(trials, probability);
+      final int[] samples = new int[SAMPLES];
+      distribution.sample(new Pcg64Random(SEED), samples);
+      checkDiscrete(samples,
+          new org.apache.commons.math3.distribution.BinomialDistribution(trials, probability));
+    }
+  }
+
+  @Test public void testSamples() {
+    final BinomialDistribution distribution = new BinomialDistribution(1000, 0.75);
+    final int[] samples = distribution.samples(new Pcg64Random(SEED), SAMPLES).toArray();
+    assertEquals(samples.length, SAMPLES);
+    checkDiscrete(samples,
+        new org.apache.commons.math3.distribution.BinomialDistribution(1000, 0.75));
+  }
+
+  @Test public void testDegenerate() {
+    final Pcg64Random random = new Pcg64Random(SEED);
+    assertEquals(new BinomialDistribution(0, 0.5).sample(random), 0);
+    assertEquals(new BinomialDistribution(100, 0.0).sample(random), 0);
+    assertEquals(new BinomialDistribution(100, 1.0).sample(random), 100);
+  }
+
+  @Test public void testGetters() {
+    final BinomialDistribution distribution = new BinomialDistribution(1000, 0.75);
+    assertEquals(distribution.getTrials(), 1000);
+    assertEquals(distribution.getProbability(), 0.75);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeTrials() {
+    new BinomialDistribution(-1, 0.5);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testProbabilityTooHigh() {
+    new BinomialDistribution(10, 1.5);
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.math3.distribution.IntegerDistribution;
+import org.apache.commons.math3.distribution.RealDistribution;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
+
+/**
+ * Goodness-of-fit checks shared by the tests of {@link ContinuousDistribution} and
+ * {@link DiscreteDistribution} subclasses.
+ */
+enum DistributionTestUtils {
+  ;
+
+  static final long SEED = 0x123456789ABCDEFL;
+  static final int SAMPLES = 100_000;
+  private static final double MIN_P_VALUE = 0.001;
+  /**
+   * Bins expected to hold fewer samples than this are merged, so that the chi-square test is valid.
+   */
+  private static final double MIN_EXPECTED_PER_BIN = 10.0;
+
+  static void checkContinuous(final double[] samples, final RealDistribution expected) {
+    assertGreaterOrEqual(new KolmogorovSmirnovTest().kolmogorovSmirnovTest(expected, samples),
+        MIN_P_VALUE);
+  }
+
+  static void checkDiscrete(final int[] samples, final IntegerDistribution expected) {
+    int max = 0;
+    for (final int sample : samples) {
+      assertGreaterOrEqual(sample, 0);
+      max = Math.max(max, sample);
+    }
+    final long[] counts = new long[max + 1];
+    for (final int sample : samples) {
+      counts[sample]++;
+    }
+    // Merge the bins from each end until each has enough expected samples; the last bin includes
+    // the whole upper tail
+    final List<Double> expectedBins = new ArrayList<>();
+    final List<Long> observedBins = new ArrayList<>();
+    double pendingExpected = 0;
+    long pendingObserved = 0;
+    int k = 0;
+    while (k <= max) {
+      pendingExpected += expected.probability(k) * samples.length;
+      pendingObserved += counts[k];
+      k++;
+      final double remaining =
+          (1 - expected.cumulativeProbability(k - 1)) * samples.length;
+      if ((pendingExpected >= MIN_EXPECTED_PER_BIN) && (remaining >= MIN_EXPECTED_PER_BIN)) {
+        expectedBins.add(pendingExpected);
+        observedBins.add(pendingObserved);
+        pendingExpected = 0;
+        pendingObserved = 0;
+      }
+    }
+    pendingExpected += (1 - expected.cumulativeProbability(max)) * samples.length;
+    expectedBins.add(pendingExpected);
+    observedBins.add(pendingObserved);
+    if (expectedBins.size() < 2) {
+      return;
+    }
+    final double[] expectedArray = new double[expectedBins.size()];
+    final long[] observedArray = new long[observedBins.size()];
+    for (int i = 0; i < expectedArray.length; i++) {
+      expectedArray[i] = expectedBins.get(i);
+      observedArray[i] = observedBins.get(i);
+    }
+    assertGreaterOrEqual(new ChiSquareTest().chiSquareTest(expectedArray, observedArray),
+        MIN_P_VALUE);
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SEED;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkContinuous;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+@Test(testName = "ExponentialDistribution") public class ExponentialDistributionTest {
+
+  private static final double RATE = 2.5;
+
+  @Test public void testSample() {
+    final ExponentialDistribution distribution = new ExponentialDistribution(RATE);
+    final Pcg64Random random = new Pcg64Random(SEED);
+    final double[] samples = new double[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      samples[i] = distribution.sample(random);
+    }
+    checkContinuous(samples,
+        new org.apache.commons.math3.distribution.ExponentialDistribution(1.0 / RATE));
+  }
+
+  @Test public void testSampleBulk() {
+    final ExponentialDistribution distribution = new ExponentialDistribution(RATE);
+    final double[] samples = new double[SAMPLES];
+    distribution.sample(new Pcg64Random(SEED), samples);
+    checkContinuous(samples,
+        new org.apache.commons.math3.distribution.ExponentialDistribution(1.0 / RATE));
+  }
+
+  @Test public void testSamples() {
+    final ExponentialDistribution distribution = new ExponentialDistribution(RATE);
+    final double[] samples = distribution.samples(new Pcg64Random(SEED), SAMPLES).toArray();
+    assertEquals(samples.length, SAMPLES);
+    checkContinuous(samples,
+        new org.apache.commons.math3.distribution.ExponentialDistribution(1.0 / RATE));
+  }
+
+  /**
+   * The Kolmogorov-Smirnov test is insensitive to the tail, so check that samples beyond the start
+   * of the ziggurat's tail (about 7.7) occur at the right rate.
+   */
+  @Test public void testTail() {
+    final ExponentialDistribution distribution = new ExponentialDistribution(1.0);
+    final Pcg64Random random = new Pcg64Random(SEED);
+    final int iterations = 2_000_000;
+    int beyondSeven = 0;
+    for (int i = 0; i < iterations; i++) {
+      final double sample = distribution.sample(random);
+      assertGreaterOrEqual(sample, 0.0);
+      if (sample > 7.0) {
+        beyondSeven++;
+      }
+    }
+    // Expected count is about 1824, with standard deviation about 43
+    final double expected = iterations * Math.exp(-7.0);
+    assertGreaterOrEqual(beyondSeven, 0.85 * expected);
+    assertGreaterOrEqual(1.15 * expected, beyondSeven);
+  }
+
+  @Test public void testGetRate() {
+    assertEquals(new ExponentialDistribution(RATE).getRate(), RATE);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroRate() {
+    new ExponentialDistribution(0.0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testInfiniteRate() {
+    new ExponentialDistribution(Double.POSITIVE_INFINITY);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeStreamSize() {
+    new ExponentialDistribution(RATE).samples(new Pcg64Random(SEED), -1);
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SEED;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkContinuous;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+@Test(testName = "GammaDistribution") public class GammaDistributionTest {
+
+  /**
+   * Covers the boosted case (shape below 1), the exponential case and the Marsaglia-Tsang case.
+   */
+  private static final double[] SHAPES = {0.3, 1.0, 2.5, 40.0};
+  private static final double SCALE = 1.5;
+
+  @Test public void testSample() {
+    for (final double shape : SHAPES) {
+      final GammaDistribution distribution = new GammaDistribution(shape, SCALE);
+      final Pcg64Random random = new Pcg64Random(SEED);
+      final double[] samples = new double[SAMPLES];
+      for (int i = 0; i < SAMPLES; i++) {
+        samples[i] = distribution.sample(random);
+      }
+      checkContinuous(samples,
+          new org.apache.commons.math3.distribution.GammaDistribution(shape, SCALE));
+    }
+  }
+
+  @Test public void testSampleBulk() {
+    for (final double shape : SHAPES) {
+      final GammaDistribution distribution = new GammaDistribution(shape, SCALE);
+      final double[] samples = new double[SAMPLES + 2];
+      distribution.sample(new Pcg64Random(SEED), samples, 1, SAMPLES);
+      assertEquals(samples[0], 0.0);
+      assertEquals(samples[SAMPLES + 1], 0.0);
+      final double[] filled = new double[SAMPLES];
+      System.arraycopy(samples, 1, filled, 0, SAMPLES);
+      checkContinuous(filled,
+          new org.apache.commons.math3.distribution.GammaDistribution(shape, SCALE));
+    }
+  }
+
+  @Test public void testSamples() {
+    final GammaDistribution distribution = new GammaDistribution(SHAPES[2], SCALE);
+    final double[] samples = distribution.samples(new Pcg64Random(SEED), SAMPLES).toArray();
+    assertEquals(samples.length, SAMPLES);
+    checkContinuous(samples,
+        new org.apache.commons.math3.distribution.GammaDistribution(SHAPES[2], SCALE));
+  }
+
+  @Test public void testGetters() {
+    final GammaDistribution distribution = new GammaDistribution(SHAPES[2], SCALE);
+    assertEquals(distribution.getShape(), SHAPES[2]);
+    assertEquals(distribution.getScale(), SCALE);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroShape() {
+    new GammaDistribution(0.0, SCALE);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNaNScale() {
+    new GammaDistribution(SHAPES[2], Double.NaN);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class) public void testBulkOutOfBounds() {
+    new GammaDistribution(SHAPES[2], SCALE).sample(new Pcg64Random(SEED), new double[10], 5, 6);
+  }
+}
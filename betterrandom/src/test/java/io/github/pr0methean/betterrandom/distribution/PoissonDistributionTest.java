@@ -0,0 +1,66 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SEED;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkDiscrete;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+@Test(testName = "PoissonDistribution") public class PoissonDistributionTest {
+
+  /**
+   * Covers inversion (below 10) and PTRS (10 and above).
+   */
+  private static final double[] MEANS = {0.1, 3.7, 10.0, 123.4, 1.0e6};
+
+  @Test public void testSample() {
+    for (final double mean : MEANS) {
+      final PoissonDistribution distribution = new PoissonDistribution(mean);
+      final Pcg64Random random = new Pcg64Random(SEED);
+      final int[] samples = new int[SAMPLES];
+      for (int i = 0; i < SAMPLES; i++) {
+        samples[i] = distribution.sample(random);
+      }
+      checkDiscrete(samples, new org.apache.commons.math3.distribution.PoissonDistribution(mean));
+    }
+  }
+
+  @Test public void testSampleBulk() {
+    for (final double mean : MEANS) {
+      final PoissonDistribution distribution = new PoissonDistribution(mean);
+      final int[] samples = new int[SAMPLES];
+      distribution.sample(new Pcg64Random(SEED), samples);
+      checkDiscrete(samples, new org.apache.commons.math3.distribution.PoissonDistribution(mean));
+    }
+  }
+
+  @Test public void testSamples() {
+    final PoissonDistribution distribution = new PoissonDistribution(MEANS[3]);
+    final int[] samples = distribution.samples(new Pcg64Random(SEED), SAMPLES).toArray();
+    assertEquals(samples.length, SAMPLES);
+    checkDiscrete(samples,
+        new org.apache.commons.math3.distribution.PoissonDistribution(MEANS[3]));
+  }
+
+  @Test public void testLogFactorial() {
+    double expected = 0;
+    for (int k = 1; k < 1000; k++) {
+      expected += Math.log(k);
+      assertEquals(DiscreteDistribution.logFactorial(k), expected, expected * 1e-12);
+    }
+  }
+
+  @Test public void testGetMean() {
+    assertEquals(new PoissonDistribution(MEANS[1]).getMean(), MEANS[1]);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroMean() {
+    new PoissonDistribution(0.0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testMeanTooLarge() {
+    new PoissonDistribution(PoissonDistribution.MAX_MEAN * 2);
+  }
+}
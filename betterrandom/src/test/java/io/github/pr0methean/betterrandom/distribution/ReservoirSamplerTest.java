@@ -0,0 +1,152 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
+import static io.github.pr0methean.betterrandom.TestUtils.assertLessOrEqual;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.testng.annotations.Test;
+
+@Test(testName = "ReservoirSampler") public class ReservoirSamplerTest {
+
+  private static final long SEED = 0x123456789ABCDEFL;
+  private static final int CAPACITY = 10;
+  private static final int STREAM_LENGTH = 100;
+  private static final int ITERATIONS = 20_000;
+
+  /**
+   * Checks that each element of {@code [0, STREAM_LENGTH)} is sampled equally often.
+   *
+   * @param sampler takes a PRNG and returns a sample of {@code CAPACITY} distinct elements
+   */
+  private static void checkUniform(final Function<Pcg64Random, List<Integer>> sampler) {
+    final Pcg64Random random = new Pcg64Random(SEED);
+    final long[] counts = new long[STREAM_LENGTH];
+    for (int i = 0; i < ITERATIONS; i++) {
+      final List<Integer> sample = sampler.apply(random);
+      assertEquals(sample.size(), CAPACITY);
+      assertEquals(new HashSet<>(sample).size(), CAPACITY, "Duplicate elements");
+      for (final int element : sample) {
+        counts[element]++;
+      }
+    }
+    final double[] expected = new double[STREAM_LENGTH];
+    Arrays.fill(expected, ((double) ITERATIONS * CAPACITY) / STREAM_LENGTH);
+    assertGreaterOrEqual(new ChiSquareTest().chiSquareTest(expected, counts), 0.001);
+  }
+
+  @Test public void testOffer() {
+    checkUniform(random -> {
+      final ReservoirSampler<Integer> sampler = new ReservoirSampler<>(CAPACITY, random);
+      for (int i = 0; i < STREAM_LENGTH; i++) {
+        sampler.offer(i);
+      }
+      assertEquals(sampler.getCount(), STREAM_LENGTH);
+      return sampler.getSample();
+    });
+  }
+
+  @Test public void testOfferAll() {
+    checkUniform(random -> {
+      final ReservoirSampler<Integer> sampler = new ReservoirSampler<>(CAPACITY, random);
+      sampler.offerAll(IntStream.range(0, STREAM_LENGTH).iterator());
+      return sampler.getSample();
+    });
+  }
+
+  @Test public void testMerge() {
+    // Uneven split, so that the merge must weight the two sides correctly
+    checkUniform(random -> {
+      final ReservoirSampler<Integer> first = new ReservoirSampler<>(CAPACITY, random);
+      final ReservoirSampler<Integer> second = new ReservoirSampler<>(CAPACITY, random);
+      for (int i = 0; i < 30; i++) {
+        first.offer(i);
+      }
+      for (int i = 30; i < STREAM_LENGTH; i++) {
+        second.offer(i);
+      }
+      final ReservoirSampler<Integer> merged = first.merge(second);
+      assertEquals(merged.getCount(), STREAM_LENGTH);
+      return merged.getSample();
+    });
+  }
+
+  @Test public void testOfferAfterMerge() {
+    // The merged sampler must keep sampling correctly, which depends on its skip distribution
+    checkUniform(random -> {
+      final ReservoirSampler<Integer> first = new ReservoirSampler<>(CAPACITY, random);
+      final ReservoirSampler<Integer> second = new ReservoirSampler<>(CAPACITY, random);
+      for (int i = 0; i < 15; i++) {
+        first.offer(i);
+      }
+      for (int i = 15; i < 40; i++) {
+        second.offer(i);
+      }
+      first.merge(second);
+      for (int i = 40; i < STREAM_LENGTH; i++) {
+        first.offer(i);
+      }
+      return first.getSample();
+    });
+  }
+
+  @Test public void testCollector() {
+    checkUniform(random -> IntStream.range(0, STREAM_LENGTH).boxed()
+        .collect(ReservoirSampler.collector(CAPACITY, random)));
+  }
+
+  @Test public void testCollectorParallel() {
+    final List<Integer> sample = IntStream.range(0, 1_000_000).boxed().parallel()
+        .collect(ReservoirSampler.collector(CAPACITY, new Pcg64Random(SEED)));
+    assertEquals(sample.size(), CAPACITY);
+    assertEquals(new HashSet<>(sample).size(), CAPACITY, "Duplicate elements");
+  }
+
+  @Test public void testShortStream() {
+    final ReservoirSampler<Integer> sampler =
+        new ReservoirSampler<>(CAPACITY, new Pcg64Random(SEED));
+    assertEquals(sampler.getSample().size(), 0);
+    for (int i = 0; i < 5; i++) {
+      sampler.offer(i);
+    }
+    assertEquals(sampler.getSample(), Arrays.asList(0, 1, 2, 3, 4));
+    final ReservoirSampler<Integer> other =
+        new ReservoirSampler<>(CAPACITY, new Pcg64Random(SEED));
+    other.offer(5);
+    sampler.merge(other);
+    assertEquals(sampler.getSample().stream().sorted().collect(Collectors.toList()),
+        Arrays.asList(0, 1, 2, 3, 4, 5));
+  }
+
+  /**
+   * Algorithm L should draw about {@code 3k(1 + ln(n/k))} random numbers, rather than {@code n}.
+   */
+  @Test public void testFewRandomNumbers() {
+    final Pcg64Random random = new Pcg64Random(SEED);
+    final ReservoirSampler<Integer> sampler = new ReservoirSampler<>(CAPACITY, random);
+    final long entropyBefore = random.getEntropyBits();
+    for (int i = 0; i < 1_000_000; i++) {
+      sampler.offer(i);
+    }
+    // About 400 random numbers are expected, each spending at most 64 bits of entropy
+    assertLessOrEqual(entropyBefore - random.getEntropyBits(), 1000L * Long.SIZE);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroCapacity() {
+    new ReservoirSampler<Integer>(0, new Pcg64Random(SEED));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testMergeDifferentCapacities() {
+    final Pcg64Random random = new Pcg64Random(SEED);
+    new ReservoirSampler<Integer>(CAPACITY, random)
+        .merge(new ReservoirSampler<Integer>(CAPACITY + 1, random));
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+@Test(testName = "WeightedSampler") public class WeightedSamplerTest {
+
+  private static final long SEED = 0x123456789ABCDEFL;
+
+  @Test public void testSample() {
+    final WeightedSampler<String> sampler =
+        new WeightedSampler<>(Arrays.asList("never", "rare", "common"), new double[]{0, 1, 9});
+    final Pcg64Random random = new Pcg64Random(SEED);
+    int common = 0;
+    for (int i = 0; i < 10_000; i++) {
+      final String element = random.nextElement(sampler);
+      assertTrue(!"never".equals(element), "Chose an element with zero weight");
+      if ("common".equals(element)) {
+        common++;
+      }
+    }
+    // Expected 9000, standard deviation 30
+    assertTrue((common > 8800) && (common < 9200), "Wrong frequency: " + common);
+  }
+
+  @Test public void testSampleBulk() {
+    final Map<String, Integer> weights = new LinkedHashMap<>();
+    weights.put("a", 1);
+    weights.put("b", 2);
+    final WeightedSampler<String> sampler = WeightedSampler.fromMap(weights);
+    assertEquals(sampler.getElements(), Arrays.asList("a", "b"));
+    final Pcg64Random bulkRandom = new Pcg64Random(SEED);
+    final Pcg64Random scalarRandom = new Pcg64Random(SEED);
+    final String[] output = new String[50];
+    sampler.sample(bulkRandom, output);
+    for (final String element : output) {
+      assertEquals(element, sampler.sample(scalarRandom));
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testLengthMismatch() {
+    new WeightedSampler<>(Arrays.asList("a", "b"), new double[]{1});
+  }
+}
@@ -15,6 +15,8 @@ import static org.powermock.api.mockito.PowerMockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -33,14 +35,19 @@ import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.UUID;
@@ -54,7 +61,10 @@ import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.api.mockito.mockpolicies.Slf4jMockPolicy;
 import org.powermock.core.classloader.annotations.MockPolicy;
@@ -63,6 +73,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
 import org.powermock.reflect.Whitebox;
 import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 @MockPolicy(Slf4jMockPolicy.class) @PrepareForTest(DefaultSeedGenerator.class) @PowerMockIgnore(
@@ -72,6 +83,7 @@ import org.testng.annotations.Test;
 public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTestCase {
 
   protected static final int INSTANCES_TO_HASH = 25;
+  protected static final int BULK_ARRAY_LENGTH = 21;
   protected static final int EXPECTED_UNIQUE_HASHES = (int) (0.8 * INSTANCES_TO_HASH);
   protected static final int TEST_BYTES_LENGTH = 100;
   protected final SeedGenerator pseudorandomSeedGenerator = new PseudorandomSeedGenerator();
@@ -297,6 +309,21 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
     assertLessOrEqual(median, 0.1);
   }
 
+  /**
+   * Kolmogorov-Smirnov test of the bulk Gaussian output against the standard normal distribution,
+   * which is sensitive to errors in the shape of the distribution that the moments above can miss.
+   */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testNextGaussiansKolmogorovSmirnov() throws SeedException {
+    final BaseRandom rng = createRng();
+    final double[] output = new double[20_000];
+    rng.nextGaussians(output);
+    final double pValue = new KolmogorovSmirnovTest()
+        .kolmogorovSmirnovTest(new NormalDistribution(), output);
+    Reporter.log("Kolmogorov-Smirnov p-value for Gaussians: " + pValue);
+    assertGreaterOrEqual(pValue, 0.0001);
+  }
+
   /**
    * Make sure that the RNG does not accept seeds that are too small since this could affect the
    * distribution of the output.
@@ -320,6 +347,10 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
 
   public void testSerializable(BaseRandom rng) {
     RandomTestUtils.assertEquivalentWhenSerializedAndDeserialized(rng);
+    if (rng.isThreadConfined()) {
+      // Can't have a RandomSeeder
+      return;
+    }
     // Can't use a PseudorandomSeedGenerator, because Random.equals() breaks equality check
     final SeedGenerator seedGenerator =
         new FakeSeedGenerator(getClass().getSimpleName() + "::testSerializable #" + rng.nextInt());
@@ -438,13 +469,20 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
 
   /**
    * When not overridden, this also tests {@link BaseRandom#getRandomSeeder()} and
-   * {@link BaseRandom#setRandomSeeder(RandomSeeder)}.
+   * {@link BaseRandom#setRandomSeeder(RandomSeeder)}. For a {@link BaseRandom#isThreadConfined()
+   * thread-confined} PRNG, checks that it refuses a {@link RandomSeeder} instead.
    */
   @Test(timeOut = 60_000, retryAnalyzer = FlakyRetryAnalyzer.class)
   public void testRandomSeederIntegration() {
     final SeedGenerator seedGenerator = new PseudorandomSeedGenerator(new Random(),
         UUID.randomUUID().toString());
     final BaseRandom rng = createRng();
+    if (rng.isThreadConfined()) {
+      assertThrows(UnsupportedOperationException.class,
+          () -> rng.setRandomSeeder(new RandomSeeder(seedGenerator)));
+      assertNull(rng.getRandomSeeder());
+      return;
+    }
     RandomTestUtils.checkReseeding(seedGenerator, rng, true);
   }
 
@@ -517,6 +555,264 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
     }
   }
 
+  /**
+   * Checks the byte order documented in {@link BaseRandom#nextBytes(byte[])}, for classes that
+   * don't override it.
+   */
+  @Test(timeOut = 30_000L) public void testNextBytesMatchesNextLong() throws Exception {
+    skipIfOverridden("nextBytes", byte[].class);
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom prng = createRng(seed);
+    final BaseRandom expectedPrng = createRng(seed);
+    final byte[] testBytes = new byte[19];
+    prng.nextBytes(testBytes);
+    final byte[] expected = new byte[24];
+    for (int i = 0; i < expected.length; i += Long.BYTES) {
+      final byte[] word = BinaryUtils.convertLongToBytes(expectedPrng.nextLong());
+      for (int j = 0; j < Long.BYTES; j++) {
+        expected[i + j] = word[Long.BYTES - 1 - j];
+      }
+    }
+    assertEquals(testBytes, Arrays.copyOf(expected, testBytes.length));
+    assertEquals(prng.nextLong(), expectedPrng.nextLong(), "Wrong number of words consumed");
+  }
+
+  @Test(timeOut = 30_000L) public void testNextBytesByteBuffer() {
+    final BaseRandom prng = createRng();
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(TEST_BYTE_ARRAY_LENGTH + 2);
+    buffer.position(1).limit(TEST_BYTE_ARRAY_LENGTH + 1);
+    checkBulkEntropy(prng, 8L * TEST_BYTE_ARRAY_LENGTH, () -> prng.nextBytes(buffer));
+    assertEquals(buffer.position(), TEST_BYTE_ARRAY_LENGTH + 1);
+    assertEquals(buffer.order(), ByteOrder.BIG_ENDIAN);
+    buffer.clear();
+    final byte[] output = new byte[TEST_BYTE_ARRAY_LENGTH + 2];
+    buffer.get(output);
+    assertEquals(output[0], 0);
+    assertEquals(output[TEST_BYTE_ARRAY_LENGTH + 1], 0);
+    assertFalse(Arrays.equals(output, new byte[output.length]));
+  }
+
+  /**
+   * Checks that {@link BaseRandom#nextBytes(ByteBuffer)} produces the same bytes as
+   * {@link BaseRandom#nextBytes(byte[])}, for both heap and direct buffers, for classes that don't
+   * override it.
+   */
+  @Test(timeOut = 30_000L) public void testNextBytesByteBufferMatchesNextBytes()
+      throws Exception {
+    skipIfOverridden("nextBytes", ByteBuffer.class);
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom prng = createRng(seed);
+    final BaseRandom expectedPrng = createRng(seed);
+    for (final ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(21),
+        ByteBuffer.allocateDirect(21)}) {
+      buffer.position(2);
+      prng.nextBytes(buffer);
+      final byte[] expected = new byte[19];
+      expectedPrng.nextBytes(expected);
+      buffer.position(2);
+      final byte[] actual = new byte[19];
+      buffer.get(actual);
+      assertEquals(actual, expected);
+    }
+    assertEquals(prng.nextLong(), expectedPrng.nextLong(), "Wrong number of words consumed");
+  }
+
+  /**
+   * Throws {@link SkipException} if the class under test overrides the given public method of
+   * {@link BaseRandom}, since then it's not expected to produce the same sequence as the
+   * single-value methods.
+   */
+  protected void skipIfOverridden(final String name, final Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    if (getClassUnderTest().getMethod(name, parameterTypes).getDeclaringClass()
+        != BaseRandom.class) {
+      throw new SkipException(name + " is overridden");
+    }
+  }
+
+  private void checkBulkEntropy(final BaseRandom prng, final long expectedEntropySpent,
+      final Runnable bulkCall) {
+    final long oldEntropy = prng.getEntropyBits();
+    bulkCall.run();
+    final long entropy = prng.getEntropyBits();
+    final long expectedEntropy = oldEntropy - expectedEntropySpent;
+    EntropyCheckMode entropyCheckMode = getEntropyCheckMode();
+    switch (entropyCheckMode) {
+      case EXACT:
+        assertEquals(entropy, expectedEntropy);
+        break;
+      case LOWER_BOUND:
+        assertGreaterOrEqual(entropy, expectedEntropy);
+        break;
+      case OFF:
+        break;
+      default:
+        fail("Unhandled entropy check mode " + entropyCheckMode);
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testEntropyCountStriped() {
+    final BaseRandom prng = createRng();
+    prng.setEntropyCountStriped(true);
+    assertTrue(prng.isEntropyCountStriped());
+    checkBulkEntropy(prng, Long.SIZE, prng::nextLong);
+    checkBulkEntropy(prng, 8L * TEST_BYTE_ARRAY_LENGTH,
+        () -> prng.nextBytes(new byte[TEST_BYTE_ARRAY_LENGTH]));
+    prng.setEntropyCountStriped(false);
+    assertFalse(prng.isEntropyCountStriped());
+    checkBulkEntropy(prng, Integer.SIZE, prng::nextInt);
+  }
+
+  @Test(timeOut = 30_000L) public void testEntropyCountDisabled() {
+    checkEntropyCountDisabled(createRng());
+  }
+
+  protected void checkEntropyCountDisabled(final BaseRandom prng) {
+    prng.setEntropyCountDisabled(true);
+    assertTrue(prng.isEntropyCountDisabled());
+    checkBulkEntropy(prng, 0, prng::nextLong);
+    checkBulkEntropy(prng, 0, prng::nextBoolean);
+    checkBulkEntropy(prng, 0, () -> prng.nextBytes(new byte[TEST_BYTE_ARRAY_LENGTH]));
+    checkBulkEntropy(prng, 0, () -> prng.nextInts(new int[TEST_BYTE_ARRAY_LENGTH]));
+    prng.setEntropyCountDisabled(false);
+    assertFalse(prng.isEntropyCountDisabled());
+    checkBulkEntropy(prng, Integer.SIZE, prng::nextInt);
+  }
+
+  @Test(timeOut = 30_000L) public void testNextInts() {
+    final BaseRandom prng = createRng();
+    final int[] output = new int[BULK_ARRAY_LENGTH + 2];
+    checkBulkEntropy(prng, (long) Integer.SIZE * BULK_ARRAY_LENGTH,
+        () -> prng.nextInts(output, 1, BULK_ARRAY_LENGTH));
+    assertEquals(output[0], 0);
+    assertEquals(output[BULK_ARRAY_LENGTH + 1], 0);
+    assertFalse(Arrays.equals(output, new int[output.length]));
+  }
+
+  @Test(timeOut = 30_000L) public void testNextIntsBounded() {
+    final BaseRandom prng = createRng();
+    final int[] output = new int[BULK_ARRAY_LENGTH];
+    checkBulkEntropy(prng, 4L * BULK_ARRAY_LENGTH,
+        () -> prng.nextInts(output, 0, BULK_ARRAY_LENGTH, -5, 10));
+    for (final int value : output) {
+      assertGreaterOrEqual(value, -5);
+      assertLessOrEqual(value, 9);
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testNextIntsBoundedWideRange() {
+    final BaseRandom prng = createRng();
+    final int[] output = new int[BULK_ARRAY_LENGTH];
+    prng.nextInts(output, 0, BULK_ARRAY_LENGTH, -(1 << 30), Integer.MAX_VALUE);
+    for (final int value : output) {
+      assertGreaterOrEqual(value, -(1 << 30));
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNextIntsBoundedInvalidRange() {
+    createRng().nextInts(new int[1], 0, 1, 10, 10);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testNextIntsOutOfBounds() {
+    createRng().nextInts(new int[4], 2, 3);
+  }
+
+  @Test(timeOut = 30_000L) public void testNextLongs() {
+    final BaseRandom prng = createRng();
+    final long[] output = new long[BULK_ARRAY_LENGTH];
+    checkBulkEntropy(prng, (long) Long.SIZE * BULK_ARRAY_LENGTH, () -> prng.nextLongs(output));
+    assertFalse(Arrays.equals(output, new long[output.length]));
+  }
+
+  @Test(timeOut = 30_000L) public void testNextDoubles() {
+    final BaseRandom prng = createRng();
+    final double[] output = new double[BULK_ARRAY_LENGTH];
+    checkBulkEntropy(prng, (long) ENTROPY_OF_DOUBLE * BULK_ARRAY_LENGTH,
+        () -> prng.nextDoubles(output));
+    for (final double value : output) {
+      assertGreaterOrEqual(value, 0.0);
+      TestUtils.assertLess(value, 1.0);
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testNextGaussians() {
+    final BaseRandom prng = createRng();
+    final double[] output = new double[BULK_ARRAY_LENGTH];
+    checkBulkEntropy(prng, (long) ENTROPY_OF_DOUBLE * BULK_ARRAY_LENGTH,
+        () -> prng.nextGaussians(output));
+    for (final double value : output) {
+      assertFalse(Double.isNaN(value) || Double.isInfinite(value), "Not finite: " + value);
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testNextIntsMatchesNextInt() throws Exception {
+    skipIfOverridden("nextInts", int[].class, int.class, int.class);
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom prng = createRng(seed);
+    final BaseRandom expectedPrng = createRng(seed);
+    final int[] output = new int[BULK_ARRAY_LENGTH];
+    prng.nextInts(output);
+    for (final int value : output) {
+      assertEquals(value, expectedPrng.nextInt());
+    }
+    prng.nextInts(output, 0, BULK_ARRAY_LENGTH, 3, 1000);
+    for (final int value : output) {
+      assertEquals(value, expectedPrng.nextBoundedInt(3, 1000));
+    }
+    // About a quarter of the candidates are rejected for this range
+    prng.nextInts(output, 0, BULK_ARRAY_LENGTH, -(1 << 30), Integer.MAX_VALUE);
+    for (final int value : output) {
+      assertEquals(value, expectedPrng.nextBoundedInt(-(1 << 30), Integer.MAX_VALUE));
+    }
+    assertEquals(prng.nextInt(), expectedPrng.nextInt(), "Wrong amount of output consumed");
+  }
+
+  @Test(timeOut = 30_000L) public void testNextLongsMatchesNextLong() throws Exception {
+    skipIfOverridden("nextLongs", long[].class, int.class, int.class);
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom prng = createRng(seed);
+    final BaseRandom expectedPrng = createRng(seed);
+    final long[] output = new long[BULK_ARRAY_LENGTH];
+    prng.nextLongs(output);
+    for (final long value : output) {
+      assertEquals(value, expectedPrng.nextLong());
+    }
+    assertEquals(prng.nextInt(), expectedPrng.nextInt(), "Wrong amount of output consumed");
+  }
+
+  @Test(timeOut = 30_000L) public void testNextDoublesMatchesNextDouble() throws Exception {
+    skipIfOverridden("nextDoubles", double[].class, int.class, int.class);
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom prng = createRng(seed);
+    final BaseRandom expectedPrng = createRng(seed);
+    final double[] output = new double[BULK_ARRAY_LENGTH];
+    prng.nextDoubles(output);
+    for (final double value : output) {
+      assertEquals(value, expectedPrng.nextDouble());
+    }
+    assertEquals(prng.nextInt(), expectedPrng.nextInt(), "Wrong amount of output consumed");
+  }
+
+  @Test(timeOut = 30_000L) public void testNextGaussiansMatchesNextGaussian() throws Exception {
+    skipIfOverridden("nextGaussians", double[].class, int.class, int.class);
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom prng = createRng(seed);
+    final BaseRandom expectedPrng = createRng(seed);
+    // Odd length, so that a cached value is left over and then used
+    final double[] output = new double[BULK_ARRAY_LENGTH * 2];
+    prng.nextGaussians(output, 0, BULK_ARRAY_LENGTH);
+    prng.nextGaussians(output, BULK_ARRAY_LENGTH, BULK_ARRAY_LENGTH);
+    final double[] expected = new double[BULK_ARRAY_LENGTH * 2];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = expectedPrng.nextGaussian();
+    }
+    assertEquals(output, expected);
+    assertEquals(prng.nextGaussian(), expectedPrng.nextGaussian(),
+        "Wrong amount of output consumed");
+  }
+
   @Test public void testNextInt1() {
     final BaseRandom prng = createRng();
     final Supplier<? extends Number> numberSupplier = () -> prng.nextInt(3 << 29);
@@ -593,6 +889,192 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
         getEntropyCheckMode());
   }
 
+  @Test public void testNextBoundedInt() {
+    final BaseRandom prng = createRng();
+    for (int i = 0; i < STREAM_SIZE; i++) {
+      // check that the bound is exclusive, to kill an off-by-one mutant
+      final Supplier<? extends Number> numberSupplier = () -> prng.nextBoundedInt(2);
+      checkRangeAndEntropy(prng, 1, numberSupplier, 0, 2, getEntropyCheckMode());
+    }
+    final Supplier<? extends Number> numberSupplier = () -> prng.nextBoundedInt(3 << 29);
+    checkRangeAndEntropy(prng, 31, numberSupplier, 0, (3 << 29), getEntropyCheckMode());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNextBoundedIntInvalidBound() {
+    createRng().nextBoundedInt(0);
+  }
+
+  @Test public void testNextBoundedInt2() {
+    final BaseRandom prng = createRng();
+    final Supplier<? extends Number> numberSupplier = () -> prng.nextBoundedInt(1 << 27, 1 << 29);
+    checkRangeAndEntropy(prng, 29, numberSupplier, (1 << 27), (1 << 29), getEntropyCheckMode());
+  }
+
+  @Test public void testNextBoundedInt2HugeRange() {
+    final BaseRandom prng = createRng();
+    final Supplier<? extends Number> numberSupplier =
+        () -> prng.nextBoundedInt(Integer.MIN_VALUE, 1 << 29);
+    checkRangeAndEntropy(prng, 32, numberSupplier, Integer.MIN_VALUE, (1 << 29),
+        getEntropyCheckMode());
+  }
+
+  @Test public void testNextBoundedLong() {
+    final BaseRandom prng = createRng();
+    for (int i = 0; i < STREAM_SIZE; i++) {
+      final Supplier<? extends Number> numberSupplier = () -> prng.nextBoundedLong(2);
+      checkRangeAndEntropy(prng, 1, numberSupplier, 0, 2, getEntropyCheckMode());
+    }
+    final Supplier<? extends Number> numberSupplier = () -> prng.nextBoundedLong(3L << 40);
+    checkRangeAndEntropy(prng, 42, numberSupplier, 0, (3L << 40), getEntropyCheckMode());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNextBoundedLongInvalidBound() {
+    createRng().nextBoundedLong(10, 9);
+  }
+
+  @Test public void testNextBoundedLong2HugeRange() {
+    final BaseRandom prng = createRng();
+    final Supplier<? extends Number> numberSupplier =
+        () -> prng.nextBoundedLong(Long.MIN_VALUE, 1L << 62);
+    checkRangeAndEntropy(prng, 64, numberSupplier, Long.MIN_VALUE, (1L << 62),
+        getEntropyCheckMode());
+  }
+
+  /**
+   * Entropy of a Fisher-Yates shuffle of the given length, as debited by
+   * {@link BaseRandom#shuffle(int[])}.
+   */
+  private static long shuffleEntropy(final int length) {
+    long entropy = 0;
+    for (int i = 1; i < length; i++) {
+      entropy += BaseRandom.entropyOfInt(0, i + 1);
+    }
+    return entropy;
+  }
+
+  @Test(timeOut = 30_000L) public void testShuffleInts() {
+    final BaseRandom prng = createRng();
+    // Long enough to need more than one batch of swap targets
+    final int[] array = new int[2 * SwapTargetGenerator.CHUNK_SIZE + 5];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i;
+    }
+    checkBulkEntropy(prng, shuffleEntropy(array.length), () -> prng.shuffle(array));
+    final int[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(sorted[i], i, "Not a permutation");
+    }
+    int fixedPoints = 0;
+    for (int i = 0; i < array.length; i++) {
+      if (array[i] == i) {
+        fixedPoints++;
+      }
+    }
+    // Expected number of fixed points is 1
+    assertLessOrEqual(fixedPoints, 10);
+  }
+
+  @Test(timeOut = 30_000L) public void testShuffleIntsUniform() {
+    final BaseRandom prng = createRng();
+    final Map<List<Integer>, Integer> counts = new HashMap<>();
+    final int iterations = 24_000;
+    for (int i = 0; i < iterations; i++) {
+      final int[] array = {0, 1, 2, 3};
+      prng.shuffle(array);
+      counts.merge(Arrays.asList(array[0], array[1], array[2], array[3]), 1, Integer::sum);
+    }
+    // 4! permutations, each expected 1000 times with standard deviation about 31
+    assertEquals(counts.size(), 24);
+    for (final int count : counts.values()) {
+      assertGreaterOrEqual(count, 800);
+      assertLessOrEqual(count, 1200);
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testShuffleLongs() {
+    final BaseRandom prng = createRng();
+    final long[] array = new long[100];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i;
+    }
+    checkBulkEntropy(prng, shuffleEntropy(array.length), () -> prng.shuffle(array));
+    final long[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(sorted[i], i, "Not a permutation");
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testShuffleObjects() {
+    final BaseRandom prng = createRng();
+    final Integer[] array = new Integer[100];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i;
+    }
+    checkBulkEntropy(prng, shuffleEntropy(array.length), () -> prng.shuffle(array));
+    assertEquals(new HashSet<>(Arrays.asList(array)).size(), array.length, "Not a permutation");
+  }
+
+  @Test(timeOut = 30_000L) public void testShuffleList() {
+    final BaseRandom prng = createRng();
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      expected.add(i);
+    }
+    for (final List<Integer> list : Arrays.<List<Integer>>asList(new ArrayList<>(expected),
+        new LinkedList<>(expected))) {
+      checkBulkEntropy(prng, shuffleEntropy(list.size()), () -> prng.shuffle(list));
+      assertNotEquals(list, expected);
+      final List<Integer> sorted = new ArrayList<>(list);
+      Collections.sort(sorted);
+      assertEquals(sorted, expected, "Not a permutation");
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testSampleWithoutReplacement() {
+    final BaseRandom prng = createRng();
+    // Covers both the sparse (Floyd) and dense (partial shuffle) cases
+    for (final int k : new int[]{0, 1, 5, 60, 100}) {
+      final long[] counts = new long[100];
+      final int iterations = 10_000;
+      for (int i = 0; i < iterations; i++) {
+        final int[] sample = prng.sampleWithoutReplacement(100, k);
+        assertEquals(sample.length, k);
+        final Set<Integer> distinct = new HashSet<>();
+        for (final int value : sample) {
+          assertTrue(distinct.add(value), "Duplicate value " + value);
+          counts[value]++;
+        }
+      }
+      if (k > 0) {
+        // Each value is expected k * iterations / 100 times
+        final double expected = (k * iterations) / 100.0;
+        for (final long count : counts) {
+          assertGreaterOrEqual(count, 0.5 * expected);
+          assertLessOrEqual(count, 1.5 * expected);
+        }
+      }
+    }
+  }
+
+  @Test(timeOut = 30_000L) public void testSampleWithoutReplacementHugePopulation() {
+    final BaseRandom prng = createRng();
+    final int[] sample = prng.sampleWithoutReplacement(Integer.MAX_VALUE, 1000);
+    assertEquals(new HashSet<>(Arrays.stream(sample).boxed().collect(Collectors.toList())).size(),
+        1000);
+    for (final int value : sample) {
+      assertGreaterOrEqual(value, 0);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSampleWithoutReplacementTooMany() {
+    createRng().sampleWithoutReplacement(10, 11);
+  }
+
   @Test public void testNextDouble() {
     final BaseRandom prng = createRng();
     checkRangeAndEntropy(prng, ENTROPY_OF_DOUBLE, (Supplier<? extends Number>) prng::nextDouble,
@@ -651,6 +1133,54 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
     checkRangeAndEntropy(prng, 1L, numberSupplier, 0, 2, getEntropyCheckMode());
   }
 
+  @Test(timeOut = 10_000) public void testNextBits() {
+    final BaseRandom prng = createRng();
+    checkRangeAndEntropy(prng, 5L, () -> prng.nextBits(5), 0, 32, getEntropyCheckMode());
+    checkRangeAndEntropy(prng, 61L, () -> prng.nextBits(61), 0, 1L << 61,
+        getEntropyCheckMode());
+    checkBulkEntropy(prng, Long.SIZE, () -> prng.nextBits(Long.SIZE));
+    // Straddle the boundary between two longs of output
+    long ones = 0;
+    for (int i = 0; i < 1000; i++) {
+      ones += Long.bitCount(prng.nextBits(1 + (i % Long.SIZE)));
+    }
+    // 32020 bits in total, so the standard deviation is about 89
+    assertGreaterOrEqual(ones, 15_500);
+    assertLessOrEqual(ones, 16_520);
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = IllegalArgumentException.class)
+  public void testNextBitsZero() {
+    createRng().nextBits(0);
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = IllegalArgumentException.class)
+  public void testNextBitsTooMany() {
+    createRng().nextBits(Long.SIZE + 1);
+  }
+
+  @Test(timeOut = 10_000) public void testNextBooleans() {
+    final BaseRandom prng = createRng();
+    final int nBits = 10 * Long.SIZE + 13;
+    final long[] bitset = new long[11];
+    bitset[10] = -1L;
+    checkBulkEntropy(prng, nBits, () -> prng.nextBooleans(bitset, nBits));
+    assertEquals(bitset[10] >>> 13, -1L >>> 13, "Bits past the end were modified");
+    int ones = 0;
+    for (final long word : bitset) {
+      ones += Long.bitCount(word);
+    }
+    ones -= Long.SIZE - 13;
+    // Binomial(653, 0.5) has a standard deviation of about 12.8
+    assertGreaterOrEqual(ones, 250);
+    assertLessOrEqual(ones, 403);
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = IndexOutOfBoundsException.class)
+  public void testNextBooleansTooMany() {
+    createRng().nextBooleans(new long[2], 2 * Long.SIZE + 1);
+  }
+
   @Test(timeOut = 10_000) public void testInts() {
     final BaseRandom prng = createRng();
     checkStream(prng, 32, prng.ints().boxed(), -1, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, true);
@@ -759,14 +1289,22 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
   }
 
   @Test(timeOut = 90_000) public void testThreadSafety() {
+    skipIfThreadConfined();
     checkThreadSafety(functionsForThreadSafetyTest, functionsForThreadSafetyTest);
   }
 
   @Test public void testThreadSafetySetSeed() {
+    skipIfThreadConfined();
     checkThreadSafetyVsCrashesOnly(30, Collections.singletonList(setSeed),
         functionsForThreadCrashTest);
   }
 
+  protected void skipIfThreadConfined() {
+    if (createRng().isThreadConfined()) {
+      throw new SkipException("Not thread-safe by design");
+    }
+  }
+
   @Test public void testInitialEntropy() {
     int seedSize = getNewSeedLength();
     byte[] seed = getTestSeedGenerator().generateSeed(seedSize);
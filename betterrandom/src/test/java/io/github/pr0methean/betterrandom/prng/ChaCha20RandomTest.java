@@ -0,0 +1,138 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableMap;
+import io.github.pr0methean.betterrandom.TestUtils;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+@Test(testName = "ChaCha20Random") public class ChaCha20RandomTest
+    extends CipherCounterRandomTest<ChaCha20Random> {
+
+  private static final byte[] SEQUENTIAL_KEY = new byte[32];
+
+  static {
+    for (int i = 0; i < SEQUENTIAL_KEY.length; i++) {
+      SEQUENTIAL_KEY[i] = (byte) i;
+    }
+  }
+
+  @Override protected int getExpectedMaxSize() {
+    return 48;
+  }
+
+  @Override protected Class<? extends ChaCha20Random> getClassUnderTest() {
+    return ChaCha20Random.class;
+  }
+
+  @Override protected ChaCha20Random createRng() {
+    return new ChaCha20Random(getTestSeedGenerator().generateSeed(seedSizeBytes));
+  }
+
+  @Override protected ChaCha20Random createRng(final byte[] seed) {
+    return new ChaCha20Random(seed);
+  }
+
+  /**
+   * The constructor that takes a number of rounds can't be given the seed length as that number.
+   */
+  @Override @Test public void testAllPublicConstructors() {
+    final List<Constructor<?>> withRounds = new ArrayList<>(1);
+    final List<Constructor<?>> withoutRounds = new ArrayList<>(4);
+    final List<Class<?>> roundsConstructorParams = Arrays.asList(byte[].class, int.class);
+    for (final Constructor<?> constructor : ChaCha20Random.class.getDeclaredConstructors()) {
+      (roundsConstructorParams.equals(Arrays.asList(constructor.getParameterTypes()))
+          ? withRounds : withoutRounds).add(constructor);
+    }
+    mockDefaultSeedGenerator();
+    try {
+      TestUtils.testConstructors(false, ImmutableMap.copyOf(constructorParams()),
+          BaseRandom::nextInt, withoutRounds);
+      final Map<Class<?>, Object> params = constructorParams();
+      params.put(int.class, 12);
+      TestUtils.testConstructors(false, ImmutableMap.copyOf(params), BaseRandom::nextInt,
+          withRounds);
+    } finally {
+      unmockDefaultSeedGenerator();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidRounds() {
+    new ChaCha20Random(new byte[32], 10);
+  }
+
+  /**
+   * RFC 8439 section 2.3.2.
+   */
+  @Test public void testRfc8439BlockFunction() {
+    checkKeyStream(SEQUENTIAL_KEY, 1, "000000090000004a00000000", 20,
+        "10f1e7e4d13b5915500fdd1fa32071c4c7d1f4c733c068030422aa9ac3d46c4e"
+            + "d2826446079faa0914c2d705d98b02a2b5129cd1de164eb9cbd083e8a2503c4e");
+  }
+
+  /**
+   * RFC 8439 appendix A.1, test vectors 1 and 2, which are consecutive blocks.
+   */
+  @Test public void testRfc8439ZeroKey() {
+    checkKeyStream(new byte[32], 0, "000000000000000000000000", 20,
+        "76b8e0ada0f13d90405d6ae55386bd28bdd219b8a08ded1aa836efcc8b770dc7"
+            + "da41597c5157488d7724e03fb8d84a376a43b8f41518a11cc387b669b2ee6586"
+            + "9f07e7be5551387a98ba977c732d080dcb0f29a048e3656912c6533e32ee7aed"
+            + "29b721769ce64e43d57133b074d839d531ed1f28510afb45ace10a1f4b794d6f");
+  }
+
+  @Test public void testReducedRounds() {
+    checkKeyStream(new byte[32], 0, "000000000000000000000000", 8,
+        "3e00ef2f895f40d67f5bb8e81f09a5a12c840ec3ce9a7f3b181be188ef711a1e"
+            + "984ce172b9216f419f445367456d5619314a42a3da86b001387bfdb80e0cfe42");
+    checkKeyStream(new byte[32], 0, "000000000000000000000000", 12,
+        "9bf49a6a0755f953811fce125f2683d50429c3bb49e074147e0089a52eae155f"
+            + "0564f879d27ae3c02ce82834acfa8c793a629f2ca0de6919610be82f411326be");
+  }
+
+  /**
+   * A 16-byte seed has an initial counter of zero, which is incremented before the first block,
+   * so this seeks back one block to get the key stream from a counter of zero.
+   */
+  @Test public void testSmallKey() {
+    final ChaCha20Random prng = new ChaCha20Random(new byte[16]);
+    prng.advance(-16);
+    checkNextBytes(prng, "89670952608364fd00b2f90936f031c8e756e15dba04b8493d00429259b20f46"
+        + "cc04f111246b6c2ce066be3bfb32d9aa0fddfbc12123d4b9e44f34dca05a103f");
+  }
+
+  /**
+   * Checks the key stream for an RFC 8439 key, initial block counter and nonce.
+   */
+  private static void checkKeyStream(final byte[] key, final int blockCounter,
+      final String nonceHex, final int rounds, final String expectedHex) {
+    final byte[] rfcCounterAndNonce = new byte[16];
+    BinaryUtils.convertIntToBytes(Integer.reverseBytes(blockCounter), rfcCounterAndNonce, 0);
+    System.arraycopy(BinaryUtils.convertHexStringToBytes(nonceHex), 0, rfcCounterAndNonce, 4, 12);
+    final byte[] counter = new byte[16];
+    for (int i = 0; i < 16; i++) {
+      counter[i] = rfcCounterAndNonce[15 - i];
+    }
+    // Compensate for the increment before the first block
+    Byte16ArrayArithmetic.addInto(counter, -1);
+    final byte[] seed = Arrays.copyOf(key, key.length + counter.length);
+    System.arraycopy(counter, 0, seed, key.length, counter.length);
+    checkNextBytes(new ChaCha20Random(seed, rounds), expectedHex);
+  }
+
+  private static void checkNextBytes(final ChaCha20Random prng, final String expectedHex) {
+    final byte[] actual = new byte[expectedHex.length() / 2];
+    prng.nextBytes(actual);
+    assertEquals(BinaryUtils.convertBytesToHexString(actual),
+        expectedHex.toUpperCase(Locale.ROOT));
+  }
+}
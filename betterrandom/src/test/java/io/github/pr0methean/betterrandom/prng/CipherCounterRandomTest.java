@@ -2,12 +2,15 @@ package io.github.pr0methean.betterrandom.prng;
 
 import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
 import static io.github.pr0methean.betterrandom.TestUtils.assertLessOrEqual;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertTrue;
 
 import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Optional;
@@ -64,6 +67,18 @@ public abstract class CipherCounterRandomTest<T extends CipherCounterRandom>
 
   public static void checkSetSeedForCipher(
       BaseRandomTest<?> test) {
+    checkSetSeedForCipher(test, 16);
+  }
+
+  /**
+   * Checks that reseeding with {@link Random#setSeed(long)} changes the output, for a cipher whose
+   * key, and therefore the seed after such a reseeding, may be shorter than 16 bytes.
+   *
+   * @param test the test whose PRNG to check
+   * @param minSeedLength the minimum length of a seed returned by {@link BaseRandom#getSeed()}
+   */
+  public static void checkSetSeedForCipher(
+      BaseRandomTest<?> test, final int minSeedLength) {
     // can't use a real SeedGenerator since we need longs, so use a Random
     final Random masterRNG = new Random();
     final long[] seeds =
@@ -75,7 +90,8 @@ public abstract class CipherCounterRandomTest<T extends CipherCounterRandom>
     for (int i = 0; i < 2; i++) {
       for (final long seed : seeds) {
         final byte[] originalSeed = rngs[i].getSeed();
-        assertTrue(originalSeed.length >= 16, "getSeed() returned seed that was too short");
+        assertTrue(originalSeed.length >= minSeedLength,
+            "getSeed() returned seed that was too short");
         final BaseRandom rngReseeded = test.createRng(originalSeed);
         final BaseRandom rngReseededOther = test.createRng(originalSeed);
         rngReseeded.setSeed(seed);
@@ -89,6 +105,161 @@ public abstract class CipherCounterRandomTest<T extends CipherCounterRandom>
     assertNotEquals(rngs[0].nextLong(), rngs[1].nextLong(), "RNGs converged after 4 setSeed calls");
   }
 
+  /**
+   * Checks that {@link CipherCounterRandom#nextBytes(ByteBuffer)}, which encrypts straight into
+   * the buffer when it can, produces the same cipher output that
+   * {@link CipherCounterRandom#nextInt()} reads through {@link CipherCounterRandom#currentBlock}.
+   */
+  @Test(timeOut = 15000) public void testNextBytesMatchesNextInt() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final T prng = createRng(seed);
+    final T expectedPrng = createRng(seed);
+    // Start in the middle of a block
+    assertEquals(prng.nextInt(), expectedPrng.nextInt());
+    final int length = (3 * prng.getBytesAtOnce()) + 8;
+    for (final ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(length),
+        ByteBuffer.allocateDirect(length)}) {
+      prng.nextBytes(buffer);
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        assertEquals(buffer.getInt(), expectedPrng.nextInt());
+      }
+    }
+    final byte[] bytes = new byte[length];
+    prng.nextBytes(bytes);
+    final ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+    while (wrapped.hasRemaining()) {
+      assertEquals(wrapped.getInt(), expectedPrng.nextInt());
+    }
+    assertEquals(prng.nextInt(), expectedPrng.nextInt());
+  }
+
+  /**
+   * Checks that a request large enough to be encrypted straight into the caller's array in several
+   * chunks gives the same output as many small requests, which are mostly served from
+   * {@link CipherCounterRandom#currentBlock}.
+   */
+  @Test(timeOut = 15000) public void testLargeNextBytesMatchesSmallRequests() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final T prng = createRng(seed);
+    final T expectedPrng = createRng(seed);
+    // Start in the middle of a block, and end in the middle of one
+    assertEquals(prng.nextInt(), expectedPrng.nextInt());
+    final int length = (2 * prng.getMaxDirectBlocks() * prng.getBlockSizeBytes()) + 1001;
+    final byte[] actual = new byte[length];
+    prng.nextBytes(actual);
+    final byte[] expected = new byte[length];
+    final byte[] piece = new byte[13];
+    for (int offset = 0; offset < length; offset += piece.length) {
+      expectedPrng.nextBytes(piece);
+      System.arraycopy(piece, 0, expected, offset, Math.min(piece.length, length - offset));
+    }
+    assertEquals(actual, expected);
+  }
+
+  /**
+   * Checks that {@link CipherCounterRandom#parallelNextBytes(byte[], ForkJoinPool)} and its
+   * {@link ByteBuffer} counterpart give the same bytes as {@link CipherCounterRandom#nextBytes}, and
+   * leave the PRNG in the same state, regardless of the pool's parallelism.
+   */
+  @Test(timeOut = 30000) public void testParallelNextBytesMatchesSequential() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final int length = (1 << 20) + 3;
+    final ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      for (final ForkJoinPool currentPool : new ForkJoinPool[]{pool, ForkJoinPool.commonPool()}) {
+        final T prng = createRng(seed);
+        final T expectedPrng = createRng(seed);
+        // Start in the middle of an int
+        prng.nextBytes(new byte[3]);
+        expectedPrng.nextBytes(new byte[3]);
+        final byte[] expected = new byte[length];
+        expectedPrng.nextBytes(expected);
+        final byte[] actual = new byte[length];
+        prng.parallelNextBytes(actual, currentPool);
+        assertEquals(actual, expected);
+        expectedPrng.nextBytes(expected);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        prng.parallelNextBytes(buffer, currentPool);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        buffer.get(actual);
+        assertEquals(actual, expected);
+        assertEquals(prng.nextLong(), expectedPrng.nextLong());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Checks that the output is the cipher's output in order even when reads don't line up with the
+   * batches it's generated in, which vary in size.
+   */
+  @Test(timeOut = 15000) public void testUnalignedReadsAreContiguous() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final T prng = createRng(seed);
+    final int ints = (3 * prng.getBytesAtOnce()) / Integer.BYTES;
+    final byte[] expected = new byte[3 + (ints * Integer.BYTES)];
+    createRng(seed).nextBytes(expected);
+    prng.nextBytes(new byte[3]);
+    final ByteBuffer expectedInts = ByteBuffer.wrap(expected, 3, ints * Integer.BYTES);
+    for (int i = 0; i < ints; i++) {
+      assertEquals(prng.nextInt(), expectedInts.getInt());
+    }
+  }
+
+  /**
+   * Checks that {@link CipherCounterRandom#nextLong64()}, which reads 8 bytes at once, gives the
+   * same values as two calls to {@link CipherCounterRandom#nextInt()} would, including when the
+   * 8 bytes span two blocks.
+   */
+  @Test(timeOut = 15000) public void testNextLongMatchesNextInt() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final T prng = createRng(seed);
+    final T expectedPrng = createRng(seed);
+    final int intsPerBlock = prng.getBytesAtOnce() / Integer.BYTES;
+    for (int i = 0; i < (3 * intsPerBlock); i++) {
+      if (i == intsPerBlock) {
+        // Shift to odd offsets, so that some longs straddle a block boundary
+        assertEquals(prng.nextInt(), expectedPrng.nextInt());
+      }
+      assertEquals(prng.nextLong(),
+          ((long) expectedPrng.nextInt() << 32) + expectedPrng.nextInt());
+      final double expectedDouble =
+          BaseRandom.intsToDouble(expectedPrng.nextInt(), expectedPrng.nextInt());
+      assertEquals(prng.nextDouble(), expectedDouble);
+    }
+  }
+
+  /**
+   * Checks that copies made by {@link CipherCounterRandom#copyState()} and advanced to different
+   * offsets, as when one stream is partitioned among workers, together produce the same output as
+   * the original, including when the original is part way through a batch.
+   */
+  @Test(timeOut = 15000) public void testPartitionedCopiesMatchSequential() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final T prng = createRng(seed);
+    final T expectedPrng = createRng(seed);
+    assertEquals(prng.nextInt(), expectedPrng.nextInt());
+    final int partitions = 7;
+    final int intsPerPartition = ((prng.getBytesAtOnce() / Integer.BYTES) / 2) + 3;
+    final BaseRandom[] copies = new BaseRandom[partitions];
+    for (int i = 0; i < partitions; i++) {
+      copies[i] = prng.copyState();
+      ((CipherCounterRandom) copies[i]).advance((long) i * intsPerPartition);
+    }
+    for (final BaseRandom copy : copies) {
+      for (int i = 0; i < intsPerPartition; i++) {
+        assertEquals(copy.nextInt(), expectedPrng.nextInt());
+      }
+    }
+    // Copying and advancing the copies must not have changed the original
+    final T unchanged = createRng(seed);
+    unchanged.nextInt();
+    assertEquals(prng.nextInt(), unchanged.nextInt());
+  }
+
   @Override @Test(enabled = false) public void testSetSeedAfterNextInt() {
     // No-op.
   }
@@ -1,6 +1,22 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
 public class Pcg128RandomTest extends SeekableRandomTest<Pcg128Random> {
+
+  /**
+   * The bytes 0 through 15.
+   */
+  private static final byte[] SEQUENTIAL_SEED = new byte[16];
+
+  static {
+    for (int i = 0; i < SEQUENTIAL_SEED.length; i++) {
+      SEQUENTIAL_SEED[i] = (byte) i;
+    }
+  }
+
   @Override protected Class<? extends Pcg128Random> getClassUnderTest() {
     return Pcg128Random.class;
   }
@@ -12,4 +28,68 @@ public class Pcg128RandomTest extends SeekableRandomTest<Pcg128Random> {
   @Override protected Pcg128Random createRng(final byte[] seed) {
     return new Pcg128Random(seed);
   }
-}
\ No newline at end of file
+
+  protected Pcg128Random createRng(final byte[] seed, final long streamId) {
+    return new Pcg128Random(seed, streamId);
+  }
+
+  /**
+   * Checks that existing seeds still give the output they did when the state was a byte array.
+   */
+  @Test public void testOutputUnchanged() {
+    final Pcg128Random prng = createRng(SEQUENTIAL_SEED);
+    assertEquals(prng.nextLong(), 0x004080c1014991daL);
+    assertEquals(prng.nextLong(), 0xcfcdeef9bd3e3beeL);
+    assertEquals(prng.nextLong(), 0x4eb18027683e3960L);
+    assertEquals(prng.nextLong(), 0xbaa43ef22d599637L);
+  }
+
+  @Test public void testAdvance128Unchanged() {
+    final Pcg128Random prng = createRng(SEQUENTIAL_SEED);
+    prng.advance(1L << 40, 12345);
+    assertEquals(prng.nextLong(), 0xf288b6c09e89ec2bL);
+  }
+
+  @Test public void testStreamsDiffer() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    RandomTestUtils.assertDistinct(createRng(seed, 1), createRng(seed, 2), 20,
+        "Same seed gave the same output on different streams");
+  }
+
+  @Test public void testAdvanceOnStream() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final Pcg128Random stepped = createRng(seed, 7);
+    final Pcg128Random advanced = createRng(seed, 7);
+    for (int i = 0; i < 37; i++) {
+      stepped.nextInt();
+    }
+    advanced.advance(37);
+    RandomTestUtils.assertEquivalent(stepped, advanced, 20,
+        "Output mismatch after advancing on a non-default stream");
+  }
+
+  @Test public void testSerializableOnStream() {
+    RandomTestUtils.assertEquivalentWhenSerializedAndDeserialized(
+        createRng(getTestSeedGenerator().generateSeed(getNewSeedLength()), 7));
+  }
+
+  @Test public void testGetSeedOnStream() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final Pcg128Random original = createRng(seed, -3);
+    original.nextLong();
+    final byte[] seedWithStream = original.getSeed();
+    assertEquals(seedWithStream.length, 32);
+    final Pcg128Random copy = createRng(seedWithStream);
+    assertEquals(copy.getStreamId(), -3L);
+    RandomTestUtils.assertEquivalent(original, copy, 20,
+        "getSeed() didn't recreate the PRNG on its stream");
+    final Pcg128Random reseeded = createRng();
+    reseeded.setSeed(original.getSeed());
+    RandomTestUtils.assertEquivalent(original, reseeded, 20,
+        "setSeed(getSeed()) didn't move the PRNG onto the same stream");
+    reseeded.setSeed(seed);
+    assertEquals(reseeded.getStreamId(), -3L,
+        "Reseeding without the increment left the stream");
+    assertEquals(createRng(seed).getSeed(), seed, "Seed on the default stream changed format");
+  }
+}
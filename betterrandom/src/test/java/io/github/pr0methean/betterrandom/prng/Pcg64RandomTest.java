@@ -1,5 +1,7 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import org.testng.annotations.Test;
 
@@ -11,6 +13,28 @@ import org.testng.annotations.Test;
     BaseRandomTest.checkSetSeedLong(rng, rng2);
   }
 
+  /**
+   * nextLong() advances two steps at once, so check it against two separate steps.
+   */
+  @Test public void testNextLongMatchesTwoNextInts() {
+    final Pcg64Random rng = createRng();
+    final Pcg64Random copy = createRng(rng.getSeed());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(rng.nextLong(), ((long) copy.nextInt() << 32) + copy.nextInt());
+    }
+  }
+
+  /**
+   * nextDouble() advances two steps at once, so check it against two separate steps.
+   */
+  @Test public void testNextDoubleMatchesTwoNextInts() {
+    final Pcg64Random rng = createRng();
+    final Pcg64Random copy = createRng(rng.getSeed());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(rng.nextDouble(), BaseRandom.intsToDouble(copy.nextInt(), copy.nextInt()));
+    }
+  }
+
   @Override protected Class<? extends Pcg64Random> getClassUnderTest() {
     return Pcg64Random.class;
   }
@@ -22,4 +46,65 @@ import org.testng.annotations.Test;
   @Override protected Pcg64Random createRng(final byte[] seed) {
     return new Pcg64Random(seed);
   }
+
+  protected Pcg64Random createRng(final byte[] seed, final long streamId) {
+    return new Pcg64Random(seed, streamId);
+  }
+
+  /**
+   * The first outputs of pcg32-demo from the reference C implementation, which seeds with 42 on
+   * stream 54.
+   */
+  @Test public void testStreamMatchesReference() {
+    final Pcg64Random rng = createRng(new byte[]{0, 0, 0, 0, 0, 0, 0, 42}, 54);
+    assertEquals(rng.nextInt(), 0xa15c02b7);
+    assertEquals(rng.nextInt(), 0x7b47f409);
+    assertEquals(rng.nextInt(), 0xba1d3330);
+    assertEquals(rng.nextInt(), 0x83d2f293);
+    assertEquals(rng.nextInt(), 0xbfa4784b);
+    assertEquals(rng.nextInt(), 0xcbed606e);
+  }
+
+  @Test public void testStreamsDiffer() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    RandomTestUtils.assertDistinct(createRng(seed, 1), createRng(seed, 2), 20,
+        "Same seed gave the same output on different streams");
+  }
+
+  @Test public void testAdvanceOnStream() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final Pcg64Random stepped = createRng(seed, 7);
+    final Pcg64Random advanced = createRng(seed, 7);
+    for (int i = 0; i < 37; i++) {
+      stepped.nextInt();
+    }
+    advanced.advance(37);
+    RandomTestUtils.assertEquivalent(stepped, advanced, 20,
+        "Output mismatch after advancing on a non-default stream");
+  }
+
+  @Test public void testSerializableOnStream() {
+    RandomTestUtils.assertEquivalentWhenSerializedAndDeserialized(
+        createRng(getTestSeedGenerator().generateSeed(getNewSeedLength()), 7));
+  }
+
+  @Test public void testGetSeedOnStream() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final Pcg64Random original = createRng(seed, 7);
+    original.nextLong();
+    final byte[] seedWithStream = original.getSeed();
+    assertEquals(seedWithStream.length, 16);
+    final Pcg64Random copy = createRng(seedWithStream);
+    assertEquals(copy.getStreamId(), 7L);
+    RandomTestUtils.assertEquivalent(original, copy, 20,
+        "getSeed() didn't recreate the PRNG on its stream");
+    final Pcg64Random reseeded = createRng();
+    reseeded.setSeed(original.getSeed());
+    RandomTestUtils.assertEquivalent(original, reseeded, 20,
+        "setSeed(getSeed()) didn't move the PRNG onto the same stream");
+    reseeded.setSeed(seed);
+    assertEquals(reseeded.getStreamId(), 7L,
+        "Reseeding without the increment left the stream");
+    assertEquals(createRng(seed).getSeed(), seed, "Seed on the default stream changed format");
+  }
 }
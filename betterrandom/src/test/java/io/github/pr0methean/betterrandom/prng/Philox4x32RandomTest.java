@@ -0,0 +1,94 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+@Test(testName = "Philox4x32Random") public class Philox4x32RandomTest
+    extends CipherCounterRandomTest<Philox4x32Random> {
+
+  @Override protected int getExpectedMaxSize() {
+    return 24;
+  }
+
+  @Override protected Class<? extends Philox4x32Random> getClassUnderTest() {
+    return Philox4x32Random.class;
+  }
+
+  @Override protected Philox4x32Random createRng() {
+    return new Philox4x32Random(getTestSeedGenerator().generateSeed(seedSizeBytes));
+  }
+
+  @Override protected Philox4x32Random createRng(final byte[] seed) {
+    return new Philox4x32Random(seed);
+  }
+
+  /**
+   * The key is only 8 bytes, so that's all the seed is after {@link BaseRandom#setSeed(long)}.
+   */
+  @Override @Test(timeOut = 40_000) public void testSetSeedAfterNextLong() {
+    if (seedSizeBytes > 16) {
+      throw new SkipException("Skipping a redundant test");
+    }
+    checkSetSeedForCipher(this, 8);
+  }
+
+  @Override @Test(timeOut = 15000) public void testMaxSeedLengthOk() {
+    final Philox4x32Random prng = createRng();
+    assertEquals(prng.getMaxKeyLengthBytes(), 8);
+    assertEquals(prng.getMaxTotalSeedLengthBytes(), getExpectedMaxSize());
+  }
+
+  /**
+   * Known-answer tests from the Random123 distribution (kat_vectors), with the counter and key
+   * words in Random123 order.
+   */
+  @Test public void testKnownAnswers() {
+    checkGenerate(new int[]{0, 0, 0, 0}, new int[]{0, 0},
+        new int[]{0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8});
+    checkGenerate(new int[]{-1, -1, -1, -1}, new int[]{-1, -1},
+        new int[]{0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd});
+    checkGenerate(new int[]{0x243f6a88, 0x85a308d3, 0x13198a2e, 0x03707344},
+        new int[]{0xa4093822, 0x299f31d0},
+        new int[]{0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1});
+  }
+
+  /**
+   * An instance seeded with a key and counter outputs the blocks for the following counter values,
+   * since the counter is incremented before each block.
+   */
+  @Test public void testNextIntMatchesGenerate() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getExpectedMaxSize());
+    final long key = BinaryUtils.convertBytesToLong(seed, 0);
+    final long counterHigh = BinaryUtils.convertBytesToLong(seed, 8);
+    final long counterLow = BinaryUtils.convertBytesToLong(seed, 16);
+    final Philox4x32Random prng = createRng(seed);
+    final long[] block = new long[2];
+    for (int i = 1; i <= 100; i++) {
+      Philox4x32Random.generate(key, counterHigh, counterLow + i, block);
+      assertEquals(prng.nextInt(), (int) (block[0] >>> 32));
+      assertEquals(prng.nextInt(), (int) block[0]);
+      assertEquals(prng.nextInt(), (int) (block[1] >>> 32));
+      assertEquals(prng.nextInt(), (int) block[1]);
+    }
+  }
+
+  @Test public void testGenerateWithSmallCounter() {
+    final long[] expected = new long[2];
+    final long[] actual = new long[2];
+    Philox4x32Random.generate(0x123456789abcdefL, 0, 0xfedcba987654321L, expected);
+    Philox4x32Random.generate(0x123456789abcdefL, 0xfedcba987654321L, actual);
+    assertEquals(actual, expected);
+  }
+
+  private static void checkGenerate(final int[] counter, final int[] key, final int[] expected) {
+    final long[] out = new long[2];
+    Philox4x32Random.generate(((long) key[1] << 32) | (key[0] & 0xFFFF_FFFFL),
+        ((long) counter[3] << 32) | (counter[2] & 0xFFFF_FFFFL),
+        ((long) counter[1] << 32) | (counter[0] & 0xFFFF_FFFFL), out);
+    assertEquals(out, new long[]{((long) expected[0] << 32) | (expected[1] & 0xFFFF_FFFFL),
+        ((long) expected[2] << 32) | (expected[3] & 0xFFFF_FFFFL)});
+  }
+}
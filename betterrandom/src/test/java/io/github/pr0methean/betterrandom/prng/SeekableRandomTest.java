@@ -1,6 +1,10 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
 import io.github.pr0methean.betterrandom.SeekableRandom;
+import java.util.Arrays;
 import java.util.Random;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -43,6 +47,17 @@ public abstract class SeekableRandomTest<T extends BaseRandom & SeekableRandom>
         "Output mismatch after advancing by zero");
   }
 
+  @Test public void testAdvanceDiscardsBufferedBits() {
+    final T copy1 = createRng();
+    final T copy2 = createRng(copy1.getSeed());
+    copy1.nextBoolean();
+    copy2.nextLong();
+    copy1.advance(DELTA);
+    copy2.advance(DELTA);
+    assertEquals(copy1.nextBits(Long.SIZE), copy2.nextBits(Long.SIZE),
+        "Bits left over from before advancing were used");
+  }
+
   @Test(dataProvider = "deltas") public void testAdvanceBackward(int delta) {
     for (int i = 0; i < ITERATIONS; i++) {
       final Random copy1AsRandom = createRng();
@@ -56,4 +71,77 @@ public abstract class SeekableRandomTest<T extends BaseRandom & SeekableRandom>
           "Output mismatch after advancing backward by " + delta);
     }
   }
+
+  @Test public void testParallelSizedStreamsMatchSequential() {
+    final int size = 10 * SeekableRandomSpliterator.BLOCK_SIZE + 3;
+    final T parallel = createRng();
+    final T sequential = createRng(parallel.getSeed());
+    assertTrue(Arrays.equals(parallel.doubles(size).parallel().toArray(),
+        sequential.doubles(size).toArray()), "doubles");
+    assertTrue(Arrays.equals(parallel.doubles(size, -3.0, 7.5).parallel().toArray(),
+        sequential.doubles(size, -3.0, 7.5).toArray()), "bounded doubles");
+    assertTrue(Arrays.equals(parallel.ints(size).parallel().toArray(),
+        sequential.ints(size).toArray()), "ints");
+    assertEquals(parallel.nextLong(), sequential.nextLong());
+  }
+
+  @Test public void testSizedStreamsMatchSingleValues() {
+    final int size = 3 * SeekableRandomSpliterator.BLOCK_SIZE + 1;
+    final T streamed = createRng();
+    final T direct = createRng(streamed.getSeed());
+    final int[] ints = streamed.ints(size).parallel().toArray();
+    for (int i = 0; i < size; i++) {
+      assertEquals(ints[i], direct.nextInt(), "ints");
+    }
+    final double[] doubles = streamed.doubles(size).parallel().toArray();
+    for (int i = 0; i < size; i++) {
+      assertEquals(doubles[i], direct.nextDouble(), "doubles");
+    }
+    final double[] gaussians = streamed.gaussians(size).sequential().toArray();
+    for (int i = 0; i < size; i++) {
+      assertEquals(gaussians[i], direct.nextGaussian(), "gaussians");
+    }
+    final int[] boundedInts = streamed.ints(size, -5, 77).sequential().toArray();
+    for (int i = 0; i < size; i++) {
+      assertEquals(boundedInts[i], direct.nextInt(-5, 77), "bounded ints");
+    }
+    assertEquals(streamed.nextLong(), direct.nextLong(),
+        "Stream didn't advance the PRNG past its output");
+  }
+
+  @Test public void testSizedLongStreamContinuesSequence() {
+    final int size = 3 * SeekableRandomSpliterator.BLOCK_SIZE + 1;
+    final T streamed = createRng();
+    final T direct = createRng(streamed.getSeed());
+    final long[] expected = new long[size];
+    for (int i = 0; i < size; i++) {
+      expected[i] = direct.nextLong();
+    }
+    assertEquals(streamed.longs(size).parallel().toArray(), expected);
+    assertEquals(streamed.nextLong(), direct.nextLong(),
+        "Stream didn't advance the PRNG past its output");
+  }
+
+  /**
+   * A stream of {@link Long#MAX_VALUE} values can't be skipped past without overflowing, unless
+   * each {@code long} takes one step; so it must either skip exactly that far
+   * or draw from the PRNG's own state, rather than wrap around into values it has already used.
+   */
+  @Test public void testLongMaxValueStreams() {
+    final T prng = createRng();
+    final T expected = createRng(prng.getSeed());
+    for (final double gaussian : prng.gaussians(Long.MAX_VALUE).limit(10).toArray()) {
+      assertEquals(gaussian, expected.nextGaussian());
+    }
+    assertEquals(prng.nextLong(), expected.nextLong(), "gaussians(Long.MAX_VALUE) skipped ahead");
+    final long[] longs = prng.longs(Long.MAX_VALUE).limit(10).toArray();
+    for (final long value : longs) {
+      assertEquals(value, expected.nextLong());
+    }
+    if (prng.getAdvanceStepsPerLong() == 1) {
+      expected.advance(Long.MAX_VALUE - longs.length);
+    }
+    assertEquals(prng.nextLong(), expected.nextLong(),
+        "longs(Long.MAX_VALUE) left the PRNG in the wrong state");
+  }
 }
@@ -0,0 +1,28 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadAesCounterRandom") public class SingleThreadAesCounterRandomTest
+    extends AesCounterRandomTest {
+
+  @Override protected Class<? extends AesCounterRandom> getClassUnderTest() {
+    return SingleThreadAesCounterRandom.class;
+  }
+
+  @Override protected AesCounterRandom createRng() throws SeedException {
+    return new SingleThreadAesCounterRandom(getTestSeedGenerator().generateSeed(seedSizeBytes));
+  }
+
+  @Override protected AesCounterRandom createRng(final byte[] seed) throws SeedException {
+    return new SingleThreadAesCounterRandom(seed);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() throws SeedException {
+    final AesCounterRandom rng = createRng();
+    assertEquivalent(rng, new AesCounterRandom(rng.getSeed()), 20,
+        "Output differs from AesCounterRandom with same seed");
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+import io.github.pr0methean.betterrandom.seed.RandomSeeder;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadCmwc4096Random") public class SingleThreadCmwc4096RandomTest
+    extends Cmwc4096RandomTest {
+
+  @Override protected Class<? extends Cmwc4096Random> getClassUnderTest() {
+    return SingleThreadCmwc4096Random.class;
+  }
+
+  @Override protected Cmwc4096Random createRng() throws SeedException {
+    return new SingleThreadCmwc4096Random(getTestSeedGenerator());
+  }
+
+  @Override protected Cmwc4096Random createRng(final byte[] seed) throws SeedException {
+    return new SingleThreadCmwc4096Random(seed);
+  }
+
+  @Override @Test(timeOut = 60_000) public void testRandomSeederIntegration() {
+    // Only checks that a RandomSeeder is refused, so the seed size doesn't matter.
+    final Cmwc4096Random rng = createRng();
+    assertThrows(UnsupportedOperationException.class,
+        () -> rng.setRandomSeeder(new RandomSeeder(getTestSeedGenerator())));
+    assertNull(rng.getRandomSeeder());
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() throws SeedException {
+    final Cmwc4096Random rng = createRng();
+    assertEquivalent(rng, new Cmwc4096Random(rng.getSeed()), 20,
+        "Output differs from Cmwc4096Random with same seed");
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadMersenneTwisterRandom") public class SingleThreadMersenneTwisterRandomTest
+    extends MersenneTwisterRandomTest {
+
+  @Override protected Class<? extends MersenneTwisterRandom> getClassUnderTest() {
+    return SingleThreadMersenneTwisterRandom.class;
+  }
+
+  @Override protected MersenneTwisterRandom createRng() throws SeedException {
+    return new SingleThreadMersenneTwisterRandom(getTestSeedGenerator());
+  }
+
+  @Override protected MersenneTwisterRandom createRng(final byte[] seed) throws SeedException {
+    return new SingleThreadMersenneTwisterRandom(seed);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() throws SeedException {
+    final MersenneTwisterRandom rng = createRng();
+    assertEquivalent(rng, new MersenneTwisterRandom(rng.getSeed()), 20,
+        "Output differs from MersenneTwisterRandom with same seed");
+  }
+}
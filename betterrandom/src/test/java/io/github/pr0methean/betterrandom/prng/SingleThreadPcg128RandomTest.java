@@ -0,0 +1,31 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadPcg128Random") public class SingleThreadPcg128RandomTest
+    extends Pcg128RandomTest {
+
+  @Override protected Class<? extends Pcg128Random> getClassUnderTest() {
+    return SingleThreadPcg128Random.class;
+  }
+
+  @Override protected Pcg128Random createRng() {
+    return new SingleThreadPcg128Random(getTestSeedGenerator());
+  }
+
+  @Override protected Pcg128Random createRng(final byte[] seed) {
+    return new SingleThreadPcg128Random(seed);
+  }
+
+  @Override protected Pcg128Random createRng(final byte[] seed, final long streamId) {
+    return new SingleThreadPcg128Random(seed, streamId);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() {
+    final Pcg128Random rng = createRng();
+    assertEquivalent(rng, new Pcg128Random(rng.getSeed()), 20,
+        "Output differs from Pcg128Random with same seed");
+  }
+}
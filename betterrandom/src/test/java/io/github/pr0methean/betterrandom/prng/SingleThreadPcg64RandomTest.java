@@ -0,0 +1,31 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadPcg64Random") public class SingleThreadPcg64RandomTest
+    extends Pcg64RandomTest {
+
+  @Override protected Class<? extends Pcg64Random> getClassUnderTest() {
+    return SingleThreadPcg64Random.class;
+  }
+
+  @Override protected Pcg64Random createRng() {
+    return new SingleThreadPcg64Random(getTestSeedGenerator());
+  }
+
+  @Override protected Pcg64Random createRng(final byte[] seed) {
+    return new SingleThreadPcg64Random(seed);
+  }
+
+  @Override protected Pcg64Random createRng(final byte[] seed, final long streamId) {
+    return new SingleThreadPcg64Random(seed, streamId);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() {
+    final Pcg64Random rng = createRng();
+    assertEquivalent(rng, new Pcg64Random(rng.getSeed()), 20,
+        "Output differs from Pcg64Random with same seed");
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadXorShiftRandom") public class SingleThreadXorShiftRandomTest
+    extends XorShiftRandomTest {
+
+  @Override protected Class<? extends XorShiftRandom> getClassUnderTest() {
+    return SingleThreadXorShiftRandom.class;
+  }
+
+  @Override protected XorShiftRandom createRng() throws SeedException {
+    return new SingleThreadXorShiftRandom(getTestSeedGenerator());
+  }
+
+  @Override protected XorShiftRandom createRng(final byte[] seed) throws SeedException {
+    return new SingleThreadXorShiftRandom(seed);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() throws SeedException {
+    final XorShiftRandom rng = createRng();
+    assertEquivalent(rng, new XorShiftRandom(rng.getSeed()), 20,
+        "Output differs from XorShiftRandom with same seed");
+  }
+}
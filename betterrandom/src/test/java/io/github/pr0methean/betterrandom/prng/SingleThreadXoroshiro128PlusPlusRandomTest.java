@@ -0,0 +1,28 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadXoroshiro128PlusPlusRandom")
+public class SingleThreadXoroshiro128PlusPlusRandomTest
+    extends Xoroshiro128PlusPlusRandomTest {
+
+  @Override protected Class<? extends Xoroshiro128PlusPlusRandom> getClassUnderTest() {
+    return SingleThreadXoroshiro128PlusPlusRandom.class;
+  }
+
+  @Override protected Xoroshiro128PlusPlusRandom createRng() {
+    return new SingleThreadXoroshiro128PlusPlusRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoroshiro128PlusPlusRandom createRng(final byte[] seed) {
+    return new SingleThreadXoroshiro128PlusPlusRandom(seed);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() {
+    final Xoroshiro128PlusPlusRandom rng = createRng();
+    assertEquivalent(rng, new Xoroshiro128PlusPlusRandom(rng.getSeed()), 20,
+        "Output differs from Xoroshiro128PlusPlusRandom with same seed");
+  }
+}
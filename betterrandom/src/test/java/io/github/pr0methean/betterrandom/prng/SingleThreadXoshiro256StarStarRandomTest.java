@@ -0,0 +1,28 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.assertEquivalent;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "SingleThreadXoshiro256StarStarRandom")
+public class SingleThreadXoshiro256StarStarRandomTest
+    extends Xoshiro256StarStarRandomTest {
+
+  @Override protected Class<? extends Xoshiro256StarStarRandom> getClassUnderTest() {
+    return SingleThreadXoshiro256StarStarRandom.class;
+  }
+
+  @Override protected Xoshiro256StarStarRandom createRng() {
+    return new SingleThreadXoshiro256StarStarRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoshiro256StarStarRandom createRng(final byte[] seed) {
+    return new SingleThreadXoshiro256StarStarRandom(seed);
+  }
+
+  @Test public void testSameOutputAsThreadSafeVersion() {
+    final Xoshiro256StarStarRandom rng = createRng();
+    assertEquivalent(rng, new Xoshiro256StarStarRandom(rng.getSeed()), 20,
+        "Output differs from Xoshiro256StarStarRandom with same seed");
+  }
+}
@@ -23,6 +23,10 @@ public class TwoFishCounterRandom extends CipherCounterRandom {
     super(seed);
   }
 
+  @Override protected CipherCounterRandom newInstanceWithSeed(byte[] seed) {
+    return new TwoFishCounterRandom(seed);
+  }
+
   @Override public int getMaxKeyLengthBytes() {
     return MAX_KEY_LENGTH_BYTES;
   }
@@ -0,0 +1,76 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
+@Test(testName = "Xoroshiro128PlusPlusRandom") public class Xoroshiro128PlusPlusRandomTest
+    extends SeekableRandomTest<Xoroshiro128PlusPlusRandom> {
+
+  /**
+   * The state {1, 2}.
+   */
+  private static final byte[] REFERENCE_SEED = new byte[2 * Long.BYTES];
+
+  static {
+    for (int i = 0; i < 2; i++) {
+      BinaryUtils.convertLongToBytes(i + 1, REFERENCE_SEED, i * Long.BYTES);
+    }
+  }
+
+  @Override protected Class<? extends Xoroshiro128PlusPlusRandom> getClassUnderTest() {
+    return Xoroshiro128PlusPlusRandom.class;
+  }
+
+  @Override protected Xoroshiro128PlusPlusRandom createRng() {
+    return new Xoroshiro128PlusPlusRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoroshiro128PlusPlusRandom createRng(final byte[] seed) {
+    return new Xoroshiro128PlusPlusRandom(seed);
+  }
+
+  /**
+   * Checks the output against the C reference implementation.
+   */
+  @Test public void testReferenceOutput() {
+    final Xoroshiro128PlusPlusRandom prng = createRng(REFERENCE_SEED);
+    assertEquals(prng.nextLong(), 0x60001L);
+    assertEquals(prng.nextLong(), 0x260c000660007L);
+    assertEquals(prng.nextLong(), 0x180acc04718606d3L);
+    assertEquals(prng.nextLong(), 0x9e226d35036fc4c7L);
+  }
+
+  @Test public void testJump() {
+    final Xoroshiro128PlusPlusRandom prng = createRng(REFERENCE_SEED);
+    prng.jump();
+    assertEquals(prng.nextLong(), 0x6115ff4c07d8c03eL);
+  }
+
+  @Test public void testLongJump() {
+    final Xoroshiro128PlusPlusRandom prng = createRng(REFERENCE_SEED);
+    prng.longJump();
+    assertEquals(prng.nextLong(), 0xbb077da55888837cL);
+  }
+
+  @Test public void testAdvanceFar() {
+    final Xoroshiro128PlusPlusRandom prng = createRng();
+    final Xoroshiro128PlusPlusRandom copy = createRng(prng.getSeed());
+    prng.advance(Long.MAX_VALUE);
+    prng.advance(Long.MIN_VALUE);
+    prng.advance(1);
+    RandomTestUtils.assertEquivalent(prng, copy, 20,
+        "Advancing by 2^63 - 1, -2^63 and 1 should be a no-op");
+  }
+
+  @Test public void testJumpMatchesAdvance() {
+    final Xoroshiro128PlusPlusRandom prng = createRng();
+    final Xoroshiro128PlusPlusRandom copy = createRng(prng.getSeed());
+    prng.advance(Long.MIN_VALUE);
+    prng.advance(Long.MIN_VALUE);
+    prng.jump();
+    RandomTestUtils.assertEquivalent(prng, copy, 20,
+        "Advancing by -2^64 should be the inverse of jump()");
+  }
+}
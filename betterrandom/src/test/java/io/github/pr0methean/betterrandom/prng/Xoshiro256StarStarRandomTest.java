@@ -0,0 +1,66 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
+@Test(testName = "Xoshiro256StarStarRandom") public class Xoshiro256StarStarRandomTest
+    extends SeekableRandomTest<Xoshiro256StarStarRandom> {
+
+  /**
+   * The state {1, 2, 3, 4}.
+   */
+  private static final byte[] REFERENCE_SEED = new byte[4 * Long.BYTES];
+
+  static {
+    for (int i = 0; i < 4; i++) {
+      BinaryUtils.convertLongToBytes(i + 1, REFERENCE_SEED, i * Long.BYTES);
+    }
+  }
+
+  @Override protected Class<? extends Xoshiro256StarStarRandom> getClassUnderTest() {
+    return Xoshiro256StarStarRandom.class;
+  }
+
+  @Override protected Xoshiro256StarStarRandom createRng() {
+    return new Xoshiro256StarStarRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoshiro256StarStarRandom createRng(final byte[] seed) {
+    return new Xoshiro256StarStarRandom(seed);
+  }
+
+  /**
+   * Checks the output against the C reference implementation.
+   */
+  @Test public void testReferenceOutput() {
+    final Xoshiro256StarStarRandom prng = createRng(REFERENCE_SEED);
+    assertEquals(prng.nextLong(), 0x2d00L);
+    assertEquals(prng.nextLong(), 0L);
+    assertEquals(prng.nextLong(), 0x5a007080L);
+    assertEquals(prng.nextLong(), 0x10e0000000009d80L);
+  }
+
+  @Test public void testJump() {
+    final Xoshiro256StarStarRandom prng = createRng(REFERENCE_SEED);
+    prng.jump();
+    assertEquals(prng.nextLong(), 0xbbd2f312298443d8L);
+  }
+
+  @Test public void testLongJump() {
+    final Xoshiro256StarStarRandom prng = createRng(REFERENCE_SEED);
+    prng.longJump();
+    assertEquals(prng.nextLong(), 0x527752a1d792704dL);
+  }
+
+  @Test public void testAdvanceFar() {
+    final Xoshiro256StarStarRandom prng = createRng();
+    final Xoshiro256StarStarRandom copy = createRng(prng.getSeed());
+    prng.advance(Long.MAX_VALUE);
+    prng.advance(Long.MIN_VALUE);
+    prng.advance(1);
+    RandomTestUtils.assertEquivalent(prng, copy, 20,
+        "Advancing by 2^63 - 1, -2^63 and 1 should be a no-op");
+  }
+}
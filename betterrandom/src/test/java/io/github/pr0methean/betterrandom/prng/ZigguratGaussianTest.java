@@ -0,0 +1,90 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
+import static io.github.pr0methean.betterrandom.TestUtils.assertLessOrEqual;
+
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ZigguratGaussian}, driven by a seeded {@link SplittableRandom} so that they're
+ * repeatable.
+ */
+@Test(testName = "ZigguratGaussian") public class ZigguratGaussianTest {
+
+  private static final long SEED = 0x123456789ABCDEFL;
+  /**
+   * Where the tail begins; must match {@code ZigguratGaussian.R}.
+   */
+  private static final double TAIL_START = 3.442619855899;
+  private static final NormalDistribution STANDARD_NORMAL = new NormalDistribution();
+
+  @Test public void testKolmogorovSmirnov() {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final double[] output = new double[200_000];
+    for (int i = 0; i < output.length; i++) {
+      output[i] = ZigguratGaussian.nextGaussian(random::nextLong);
+    }
+    assertGreaterOrEqual(
+        new KolmogorovSmirnovTest().kolmogorovSmirnovTest(STANDARD_NORMAL, output), 0.001);
+  }
+
+  /**
+   * The Kolmogorov-Smirnov test is insensitive to the tails, so check their mass separately.
+   */
+  @Test public void testTailFrequency() {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final int iterations = 2_000_000;
+    int inTail = 0;
+    int beyondFive = 0;
+    for (int i = 0; i < iterations; i++) {
+      final double abs = Math.abs(ZigguratGaussian.nextGaussian(random::nextLong));
+      if (abs > TAIL_START) {
+        inTail++;
+        if (abs > 5.0) {
+          beyondFive++;
+        }
+      }
+    }
+    final double expectedInTail =
+        2 * iterations * STANDARD_NORMAL.cumulativeProbability(-TAIL_START);
+    // Expected count is about 1150, with standard deviation about 34
+    assertGreaterOrEqual(inTail, 0.85 * expectedInTail);
+    assertLessOrEqual(inTail, 1.15 * expectedInTail);
+    // Expected count is about 1.15
+    assertLessOrEqual(beyondFive, 10);
+  }
+
+  @Test public void testTailPath() {
+    checkTailPath(false);
+    checkTailPath(true);
+  }
+
+  private static void checkTailPath(final boolean negative) {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    for (int i = 0; i < 1000; i++) {
+      // Base layer, and the largest possible uniform value, so the tail must be sampled
+      final long first = negative ? 0xFFFF_FFFF_FFFF_FF80L : 0xFFFF_FFFF_FFFF_FF00L;
+      final LongSupplier source = new LongSupplier() {
+        private boolean firstCall = true;
+
+        @Override public long getAsLong() {
+          if (firstCall) {
+            firstCall = false;
+            return first;
+          }
+          return random.nextLong();
+        }
+      };
+      final double output = ZigguratGaussian.nextGaussian(source);
+      if (negative) {
+        assertLessOrEqual(output, -TAIL_START);
+      } else {
+        assertGreaterOrEqual(output, TAIL_START);
+      }
+    }
+  }
+}
@@ -199,4 +199,12 @@ public class EntropyBlockingRandomWrapperAesCounterRandomTest
   @Override @Test(enabled = false) public void testSetSeedAfterNextInt() {
     // No-op.
   }
+
+  /**
+   * Disabling the entropy count isn't supported by this class.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testEntropyCountDisabled() {
+    createRng().setEntropyCountDisabled(true);
+  }
 }
@@ -273,4 +273,12 @@ public class EntropyBlockingRandomWrapperTest extends RandomWrapperRandomTest {
       fail(fullMessage);
     }
   }
+
+  /**
+   * Disabling the entropy count isn't supported by this class.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testEntropyCountDisabled() {
+    createRng().setEntropyCountDisabled(true);
+  }
 }
@@ -61,4 +61,8 @@ public class SplittableRandomAdapterNullTest extends SplittableRandomAdapterTest
   @Override public void testSetSeedGeneratorNoOp() {
     createRng().setRandomSeeder(null);
   }
+
+  @Override @Test public void testEntropyCountDisabled() {
+    checkEntropyCountDisabled(createRng());
+  }
 }
@@ -180,4 +180,12 @@ public class SplittableRandomAdapterTest
   @Override @Test public void testThreadSafety() {
     checkThreadSafetyVsCrashesOnly(45, functionsForThreadSafetyTest);
   }
+
+  /**
+   * Disabling the entropy count isn't supported while there's a {@link RandomSeeder}.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testEntropyCountDisabled() {
+    createRng().setEntropyCountDisabled(true);
+  }
 }
@@ -129,4 +129,12 @@ public abstract class ThreadLocalRandomWrapperTest<T extends BaseRandom>
   @Test public void testGetWrapped() {
     assertSame(createRng().getWrapped().getClass(), Pcg64Random.class);
   }
+
+  /**
+   * Disabling the entropy count isn't supported by this class.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testEntropyCountDisabled() {
+    createRng().setEntropyCountDisabled(true);
+  }
 }
@@ -54,6 +54,24 @@ public class RandomSeederTest {
     checkAddRemoveAndIsEmpty(prng, randomSeeder, randomSeeder::add);
   }
 
+  @Test(timeOut = 25_000) public void testEntropyCountStriped() {
+    final Pcg64Random prng = new Pcg64Random(TEST_SEED);
+    prng.setEntropyCountStriped(true);
+    final SeedGenerator seedGenerator = new PseudorandomSeedGenerator(
+        ThreadLocalRandom.current(), "testEntropyCountStriped");
+    final RandomSeeder randomSeeder = createRandomSeeder(seedGenerator);
+    try {
+      randomSeeder.add(prng);
+      // Large enough that the entropy count is certain to be checked
+      prng.nextBytes(new byte[1024]);
+      while (prng.getEntropyBits() <= 0) {
+        Uninterruptibles.sleepUninterruptibly(100L, TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      RandomTestUtils.removeAndAssertEmpty(randomSeeder, prng);
+    }
+  }
+
   protected <T extends Random> void checkAddRemoveAndIsEmpty(T prng, RandomSeeder randomSeeder,
       Consumer<? super T> addPrng) {
     final byte[] firstBytesWithOldSeed = new byte[TEST_OUTPUT_SIZE];